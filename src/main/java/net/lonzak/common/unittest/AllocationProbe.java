@@ -0,0 +1,229 @@
+/*
+ * =========================================== unittest-utilities ===========================================
+ *
+ * Project Info: https://github.com/Lonzak/unittest-utilities
+ *
+ * (C) Copyright 2012-2025 nepatec GmbH
+ *
+ * This file is part of unittest-utilities
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version. This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details. You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package net.lonzak.common.unittest;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Measures the allocated bytes per call of the methods of one tested class (cp. {@link AllocationProfile}). The
+ * methods are called via method handles with bound arguments and dropped return values, thus neither the argument
+ * array of a reflective call nor the boxing of a primitive return value is counted.
+ *
+ * @author Lonzak
+ *
+ */
+final class AllocationProbe {
+
+  private static final MethodHandle EQUALS;
+  private static final MethodHandle HASH_CODE;
+  private static final com.sun.management.ThreadMXBean THREAD_BEAN;
+
+  static {
+    try {
+      MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+      EQUALS = lookup.unreflect(Object.class.getMethod("equals", Object.class));
+      HASH_CODE = lookup.unreflect(Object.class.getMethod("hashCode"));
+    }
+    catch (NoSuchMethodException | IllegalAccessException e) {
+      throw new InternalException(e);
+    }
+
+    java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+    if (bean instanceof com.sun.management.ThreadMXBean
+        && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+      THREAD_BEAN = (com.sun.management.ThreadMXBean) bean;
+    } else {
+      THREAD_BEAN = null;
+    }
+  }
+
+  private final Class<?> dtoClass;
+  private final AllocationProfile profile;
+  // the JVM wide setting before the probe enabled the measurement
+  private final boolean previouslyEnabled;
+  // the getters of the class by property (e.g. Name -> getName)
+  private final Map<String, Method> getters = new HashMap<>();
+  // maximum bytes per call of each method
+  private final Map<String, Long> bytesPerCall = new LinkedHashMap<>();
+
+  private AllocationProbe(Class<?> dtoClass, AllocationProfile profile) {
+    this.dtoClass = dtoClass;
+    this.profile = profile;
+    for (Method method : dtoClass.getMethods()) {
+      String name = method.getName();
+      if (method.getParameterCount() == 0 && name.startsWith("get") && name.length() > 3) {
+        this.getters.putIfAbsent(name.substring(3), method);
+      } else if (method.getParameterCount() == 0 && name.startsWith("is") && name.length() > 2) {
+        this.getters.putIfAbsent(name.substring(2), method);
+      }
+    }
+    this.previouslyEnabled = enableMeasurement();
+  }
+
+  /**
+   *
+   * @param dtoClass the tested class
+   * @param profile the profile
+   * @return a probe or null if the allocations are not measured
+   */
+  static AllocationProbe create(Class<?> dtoClass, AllocationProfile profile) {
+    if (!profile.isEnabled()) {
+      return null;
+    }
+    if (THREAD_BEAN == null) {
+      AutoTester.warn(dtoClass.getSimpleName()
+            + ": The JVM does not support the measurement of allocated bytes per thread thus the allocations are not measured.");
+      return null;
+    }
+    return new AllocationProbe(dtoClass, profile);
+  }
+
+  /**
+   * Enables the (JVM wide) measurement of the allocated bytes per thread. Has to be reverted with
+   * {@link #restoreMeasurement(boolean)}.
+   *
+   * @return true if the measurement was already enabled before
+   */
+  static boolean enableMeasurement() {
+    if (THREAD_BEAN == null) {
+      return false;
+    }
+    boolean enabled = THREAD_BEAN.isThreadAllocatedMemoryEnabled();
+    if (!enabled) {
+      THREAD_BEAN.setThreadAllocatedMemoryEnabled(true);
+    }
+    return enabled;
+  }
+
+  /**
+   *
+   * @param previouslyEnabled the result of {@link #enableMeasurement()}
+   */
+  static void restoreMeasurement(boolean previouslyEnabled) {
+    if (THREAD_BEAN != null && !previouslyEnabled) {
+      THREAD_BEAN.setThreadAllocatedMemoryEnabled(false);
+    }
+  }
+
+  /**
+   *
+   * @return the bytes allocated by the current thread so far or -1 if the JVM does not support the measurement (or
+   *         it is not enabled)
+   */
+  static long getCurrentThreadAllocatedBytes() {
+    return THREAD_BEAN == null ? -1 : THREAD_BEAN.getCurrentThreadAllocatedBytes();
+  }
+
+  /**
+   * Restores the JVM wide setting of the allocation measurement.
+   */
+  void close() {
+    restoreMeasurement(this.previouslyEnabled);
+  }
+
+  void measureSetter(Method setter, Object target, Object argument) throws InvocationTargetException {
+    measure(setter.getName(), MethodHandles.insertArguments(unreflect(setter), 0, target, argument));
+  }
+
+  void measureGetter(String setterName, Object target) throws InvocationTargetException {
+    Method getter = this.getters.get(setterName.substring(3));
+    if (getter != null) {
+      measure(getter.getName(), MethodHandles.insertArguments(unreflect(getter), 0, target));
+    }
+  }
+
+  void measureAccessor(Method accessor, Object target) throws InvocationTargetException {
+    measure(accessor.getName(), MethodHandles.insertArguments(unreflect(accessor), 0, target));
+  }
+
+  void measureEquals(Object left, Object right) throws InvocationTargetException {
+    measure("equals", MethodHandles.insertArguments(EQUALS, 0, left, right));
+  }
+
+  void measureHashCode(Object target) throws InvocationTargetException {
+    measure("hashCode", MethodHandles.insertArguments(HASH_CODE, 0, target));
+  }
+
+  /**
+   * Reports the allocated bytes per call and checks the zero allocation classes.
+   *
+   * @throws PotentialErrorDetected if a zero allocation class allocates
+   */
+  void report() {
+    StringBuilder allocations = new StringBuilder();
+    StringBuilder allocating = new StringBuilder();
+    for (Entry<String, Long> entry : this.bytesPerCall.entrySet()) {
+      allocations.append(allocations.length() == 0 ? " " : ", ").append(entry.getKey()).append(' ')
+          .append(entry.getValue()).append(" B/call");
+      if (entry.getValue().longValue() > 0) {
+        allocating.append(allocating.length() == 0 ? " " : ", ").append(entry.getKey()).append("() ")
+            .append(entry.getValue()).append(" B/call");
+      }
+    }
+    AutoTester.info(this.dtoClass.getSimpleName() + " allocations:" + allocations);
+
+    if (allocating.length() > 0 && this.profile.isZeroAllocation(this.dtoClass)) {
+      throw new PotentialErrorDetected(this.dtoClass.getSimpleName()
+          + " is a zero allocation class however the following methods allocate:" + allocating
+          + ". Typical reasons are defensive copies, boxing of primitives or varargs arrays (e.g. Objects.hash(...)).");
+    }
+  }
+
+  private static MethodHandle unreflect(Method method) {
+    try {
+      // non public classes
+      method.trySetAccessible();
+      return MethodHandles.lookup().unreflect(method);
+    }
+    catch (IllegalAccessException e) {
+      throw new InternalException(e);
+    }
+  }
+
+  private void measure(String name, MethodHandle boundCall) throws InvocationTargetException {
+    MethodHandle call = MethodHandles.dropReturn(boundCall);
+    int iterations = this.profile.getIterations();
+    long bytes;
+    try {
+      // warmup: the first calls of a method handle allocate its internal representation
+      for (int i = 0; i < iterations; i++) {
+        call.invokeExact();
+      }
+      long before = THREAD_BEAN.getCurrentThreadAllocatedBytes();
+      for (int i = 0; i < iterations; i++) {
+        call.invokeExact();
+      }
+      bytes = (THREAD_BEAN.getCurrentThreadAllocatedBytes() - before) / iterations;
+    }
+    catch (RuntimeException | Error e) {
+      throw e;
+    }
+    catch (Throwable t) {
+      throw new InvocationTargetException(t);
+    }
+    this.bytesPerCall.merge(name, Long.valueOf(bytes), (a, b) -> Long.valueOf(Math.max(a.longValue(), b.longValue())));
+  }
+}
@@ -0,0 +1,139 @@
+/*
+ * =========================================== unittest-utilities ===========================================
+ *
+ * Project Info: https://github.com/Lonzak/unittest-utilities
+ *
+ * (C) Copyright 2012-2025 nepatec GmbH
+ *
+ * This file is part of unittest-utilities
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version. This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details. You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package net.lonzak.common.unittest;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Defines how the heap allocations of the setters, getters, equals() and hashCode() of the tested classes are
+ * measured. Each call is repeated <code>iterations</code> times and the allocated bytes of the current thread are
+ * divided by the number of calls. Hidden allocations are for example defensive copies, boxing or the varargs array of
+ * <code>Objects.hash(...)</code>.
+ * <p>
+ * Hot path classes can be marked as zero allocation classes: the test fails if one of their methods allocates.
+ *
+ * Usage:
+ *
+ * <pre>
+ * {@code
+ * AutoTester.setAllocationProfile(new AllocationProfile(1000, MarketTick.class, OrderKey.class));
+ * }
+ * </pre>
+ *
+ * @author Lonzak
+ *
+ */
+public final class AllocationProfile {
+
+  /**
+   * The allocations are not measured (default).
+   */
+  public static final AllocationProfile NONE = new AllocationProfile();
+
+  private final boolean enabled;
+  private final int iterations;
+  private final Set<Class<?>> zeroAllocationClasses;
+
+  private AllocationProfile() {
+    this.enabled = false;
+    this.iterations = 0;
+    this.zeroAllocationClasses = Collections.emptySet();
+  }
+
+  /**
+   *
+   * @param iterations number of calls per measurement (the same number of calls is used for the warmup)
+   * @param zeroAllocationClasses hot path classes whose methods must not allocate
+   */
+  public AllocationProfile(int iterations, Class<?>... zeroAllocationClasses) {
+    if (iterations < 1) {
+      throw new IllegalArgumentException("At least one iteration is needed (iterations=" + iterations + ")!");
+    }
+    this.enabled = true;
+    this.iterations = iterations;
+    this.zeroAllocationClasses = Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(zeroAllocationClasses)));
+  }
+
+  /**
+   *
+   * @return true if the allocations should be measured otherwise false
+   */
+  public boolean isEnabled() {
+    return this.enabled;
+  }
+
+  /**
+   *
+   * @return the number of calls per measurement
+   */
+  public int getIterations() {
+    return this.iterations;
+  }
+
+  /**
+   *
+   * @return the hot path classes whose methods must not allocate
+   */
+  public Set<Class<?>> getZeroAllocationClasses() {
+    return this.zeroAllocationClasses;
+  }
+
+  /**
+   *
+   * @param clazz the tested class
+   * @return true if the methods of the class must not allocate
+   */
+  public boolean isZeroAllocation(Class<?> clazz) {
+    return this.zeroAllocationClasses.contains(clazz);
+  }
+
+  @Override
+  public int hashCode() {
+    final int prime = 31;
+    int result = 1;
+    result = prime * result + (this.enabled ? 1231 : 1237);
+    result = prime * result + this.iterations;
+    result = prime * result + this.zeroAllocationClasses.hashCode();
+    return result;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null) {
+      return false;
+    }
+    if (this.getClass() != obj.getClass()) {
+      return false;
+    }
+    AllocationProfile other = (AllocationProfile) obj;
+    return this.enabled == other.enabled && this.iterations == other.iterations
+        && this.zeroAllocationClasses.equals(other.zeroAllocationClasses);
+  }
+
+  @Override
+  public String toString() {
+    return "AllocationProfile [enabled=" + this.enabled + ", iterations=" + this.iterations
+        + ", zeroAllocationClasses=" + this.zeroAllocationClasses + "]";
+  }
+}
@@ -30,6 +30,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Serializable;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Array;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
@@ -37,15 +38,16 @@ import java.lang.reflect.InaccessibleObjectException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
-import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.security.KeyPair;
 import java.security.KeyPairGenerator;
 import java.security.KeyStore;
@@ -75,10 +77,12 @@ import java.time.format.DateTimeFormatter;
 //import java.time.ZoneOffset;
 //import java.time.ZonedDateTime;
 //import java.time.format.DateTimeFormatter;
+import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.EmptyStackException;
 import java.util.GregorianCalendar;
@@ -92,6 +96,7 @@ import java.util.SortedMap;
 import java.util.SortedSet;
 import java.util.Map.Entry;
 import java.util.Queue;
+import java.util.Random;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -102,6 +107,10 @@ import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+import net.lonzak.common.unittest.FlightRecorderEvents.ConstructorEvent;
+import net.lonzak.common.unittest.FlightRecorderEvents.GeneratorEvent;
+import net.lonzak.common.unittest.FlightRecorderEvents.InvocationEvent;
+
 import jakarta.activation.DataSource;
 import jakarta.activation.FileDataSource;
 import javax.sql.rowset.serial.SerialBlob;
@@ -132,8 +141,36 @@ import net.lonzak.common.unittest.SpecialValueLocator.ConstructorValue;
  */
 public final class AutoTester {
 
-  private static SecureRandom r = new SecureRandom();
+  // the seeds of the classes (unless a fixed seed is configured)
+  private static final SecureRandom SEEDS = new SecureRandom();
+  // used outside of a test (e.g. by the value generators of other classes)
+  private static final Random r = new SecureRandom();
+  private static final String ALPHANUMERIC = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+  // generated dates lie before this point in time (2020-02-29T00:00:00Z) thus they only depend on the seed
+  private static final long BASE_TIME_MILLIS = 1582934400000L;
   private static boolean enableWarnings = true;
+  private static GraphBudget graphBudget = GraphBudget.UNLIMITED;
+  private static StressProfile stressProfile = StressProfile.NONE;
+  private static ConstructorSelection constructorSelection = ConstructorSelection.ALL;
+  private static HashDistribution hashDistribution = HashDistribution.NONE;
+  private static CostProfile costProfile = CostProfile.NONE;
+  private static AllocationProfile allocationProfile = AllocationProfile.NONE;
+  private static ComplexityProfile complexityProfile = ComplexityProfile.NONE;
+  private static ToStringLimit toStringLimit = ToStringLimit.NONE;
+  private static ConcurrencyProfile concurrencyProfile = ConcurrencyProfile.NONE;
+  private static SerializationProfile serializationProfile = SerializationProfile.NONE;
+  private static ComparableProfile comparableProfile = ComparableProfile.NONE;
+  private static boolean fieldMutation = false;
+  private static Long seed;
+  private static AutoTesterListener[] listeners = new AutoTesterListener[0];
+  private static WarningSink warningSink = new DeduplicatingWarningSink();
+  // the counters of the MBean (only set while JMX is enabled)
+  private static volatile Statistics statistics;
+  private static TimeoutProfile timeoutProfile = TimeoutProfile.NONE;
+  // skips unchanged classes which passed before (or null)
+  private static IncrementalCache incrementalCache;
+  // the state of the class which the current thread tests
+  private static final ThreadLocal<Context> CONTEXT = ThreadLocal.withInitial(Context::new);
 
   // only static methods thus no instantiation
   private AutoTester() {}
@@ -205,6 +242,94 @@ public final class AutoTester {
       specialValues = SpecialValueLocator.NONE;
     }
 
+    // unchanged classes which passed before are skipped
+    IncrementalCache cache = AutoTester.incrementalCache;
+    String hash = null;
+    if (cache != null) {
+      hash = cache.hash(dtoClass,
+          configuration(implOfAbstractClasses, ignorePropertiesForGetSetTest, specialValues));
+      if (cache.isUnchanged(dtoClass, hash)) {
+        for (AutoTesterListener listener : AutoTester.listeners) {
+          listener.classSkipped(dtoClass);
+        }
+        return;
+      }
+    }
+
+    // a single class is tested fail fast - within a batch the run of the batch is used
+    Context context = CONTEXT.get();
+    TestRun previous = context.run;
+    Random previousRandom = context.random;
+    Watchdog previousWatchdog = context.watchdog;
+    TestRun run = previous != null ? previous : new TestRun(new TestReport(), FailureMode.FAIL_FAST);
+    context.run = run;
+    long classSeed = AutoTester.seed != null ? AutoTester.seed.longValue() : SEEDS.nextLong();
+    context.random = new Random(classSeed);
+    run.startClass(dtoClass, classSeed, AutoTester.listeners, AutoTester.statistics);
+    try {
+      if (AutoTester.timeoutProfile.isEnabled()) {
+        List<Class<?>> impl = implOfAbstractClasses;
+        List<String> ignore = ignorePropertiesForGetSetTest;
+        SpecialValueLocator special = specialValues;
+        Watchdog supervisor = new Watchdog(AutoTester.timeoutProfile, dtoClass);
+        context.watchdog = supervisor;
+        // the worker gets its own copy thus an abandoned worker can not change the state of the next class
+        Context workerContext = context.copy();
+        supervisor.run(() -> {
+          CONTEXT.set(workerContext);
+          testClassPhases(dtoClass, impl, ignore, special);
+        });
+      } else {
+        testClassPhases(dtoClass, implOfAbstractClasses, ignorePropertiesForGetSetTest, specialValues);
+      }
+    }
+    catch (RuntimeException | AssertionError e) {
+      // e.g. a failed construction: the remaining phases of the class are skipped
+      run.error(e);
+      if (run.isFailFast()) {
+        // the report with the seed of the class is discarded thus the seed is attached to the error
+        e.addSuppressed(new PotentialErrorDetected("Seed of " + dtoClass.getName() + ": " + classSeed
+            + " (reproduce the values with AutoTester.setSeed(" + classSeed + "L))"));
+        throw e;
+      }
+    }
+    finally {
+      context.watchdog = previousWatchdog;
+      context.random = previousRandom;
+      run.finishClass();
+      if (cache != null && run.isClassPassed()) {
+        cache.markPassed(dtoClass, hash);
+      }
+      if (enableWarnings) {
+        AutoTester.warningSink.classFinished(dtoClass.getName());
+      }
+      context.run = previous;
+    }
+  }
+
+  /**
+   *
+   * @return everything (besides the class itself) which affects the result of the test of a class
+   */
+  private static String configuration(List<Class<?>> implOfAbstractClasses, List<String> ignorePropertiesForGetSetTest,
+      SpecialValueLocator specialValues) {
+    StringBuilder configuration = new StringBuilder();
+    configuration.append(System.getProperty("java.version")).append('\n');
+    for (Class<?> impl : implOfAbstractClasses) {
+      configuration.append(impl.getName()).append(',');
+    }
+    configuration.append('\n').append(ignorePropertiesForGetSetTest).append('\n').append(specialValues);
+    configuration.append('\n').append(graphBudget).append('\n').append(stressProfile).append('\n')
+        .append(constructorSelection).append('\n').append(hashDistribution).append('\n').append(costProfile)
+        .append('\n').append(allocationProfile).append('\n').append(complexityProfile).append('\n')
+        .append(toStringLimit).append('\n').append(concurrencyProfile).append('\n').append(serializationProfile)
+        .append('\n').append(comparableProfile).append('\n').append(fieldMutation).append('\n').append(seed)
+        .append('\n').append(timeoutProfile);
+    return configuration.toString();
+  }
+
+  private static void testClassPhases(Class<?> dtoClass, List<Class<?>> implOfAbstractClasses,
+      List<String> ignorePropertiesForGetSetTest, SpecialValueLocator specialValues) {
     // abstract classes or interfaces can not be instantiated
     if (Modifier.isAbstract(dtoClass.getModifiers())) {
       throw new IllegalArgumentException(dtoClass.getSimpleName()
@@ -220,20 +345,75 @@ public final class AutoTester {
           + " implements only one method: equals(Object o) or hashCode(). This violates the invariant that equal objects must have equal hashcodes. (Interface contract for Object states: if two objects are equal according to equals(), then they must have the same hashCode() value.)");
     }
 
+    // null if the allocations are not measured
+    AllocationProbe allocationProbe = AllocationProbe.create(dtoClass, AutoTester.allocationProfile);
     try {
+
+      // records have no setters: use the canonical constructor and the accessors instead
+      if (dtoClass.isRecord()) {
+        currentRun().startPhase(Phase.RECORD);
+        Object[] records = RecordTester.testRecord(dtoClass, implOfAbstractClasses, specialValues, allocationProbe);
+        if (allocationProbe != null) {
+          phase(Phase.ALLOCATION, () -> allocationProbe.report());
+        }
+        phase(Phase.TO_STRING_LIMIT,
+            () -> checkToStringLimit(dtoClass, implOfAbstractClasses, ignorePropertiesForGetSetTest, specialValues));
+        phase(Phase.CONCURRENCY, () -> checkConcurrency(dtoClass,
+            Collections.singletonList(new SimpleImmutableEntry<>(records[0], records[1])), implOfAbstractClasses,
+            ignorePropertiesForGetSetTest));
+        phase(Phase.SERIALIZATION, () -> checkSerialization(dtoClass, implOfAbstractClasses, specialValues, true));
+        phase(Phase.COMPARABLE,
+            () -> checkComparable(dtoClass, implOfAbstractClasses, ignorePropertiesForGetSetTest, specialValues));
+        phase(Phase.HASH_DISTRIBUTION, () -> checkHashDistribution(dtoClass, implOfAbstractClasses,
+            ignorePropertiesForGetSetTest, specialValues));
+        phase(Phase.COSTS, () -> checkCosts(dtoClass, implOfAbstractClasses, specialValues));
+        phase(Phase.COMPLEXITY,
+            () -> checkComplexity(dtoClass, implOfAbstractClasses, ignorePropertiesForGetSetTest, specialValues));
+        return;
+      }
+
       // verify special values (match against available constructors)
+      currentRun().startPhase(Phase.CONSTRUCTION);
       specialValuesValid(dtoClass.getConstructors(), specialValues);
 
       // create all constructors and check equals
       HashMap<Object, Object> constructors =
-          createObjects(new ArrayList<Class<?>>(), dtoClass, implOfAbstractClasses, specialValues, true);
+          createObjects(new ObjectGraph(graphBudget), dtoClass, implOfAbstractClasses, specialValues, true);
       // create all set methods and call them for each constructor
       if (equalsExists && hashCodeExists) {
-        checkEqualsAndHashCode(new ArrayList<Class<?>>(), dtoClass, constructors, implOfAbstractClasses, ignorePropertiesForGetSetTest, specialValues);
+        FieldUsage fieldUsage = FieldUsage.of(dtoClass);
+        phase(Phase.FIELD_USAGE, () -> checkFieldUsage(dtoClass, fieldUsage, ignorePropertiesForGetSetTest));
+        phase(Phase.EQUALS_HASHCODE,
+            () -> checkEqualsAndHashCode(new ObjectGraph(graphBudget), dtoClass, constructors, implOfAbstractClasses,
+                ignorePropertiesForGetSetTest, specialValues, allocationProbe, fieldUsage));
+        phase(Phase.FIELD_MUTATION, () -> checkFieldMutation(dtoClass, implOfAbstractClasses,
+            ignorePropertiesForGetSetTest, specialValues, fieldUsage));
+      }
+      phase(Phase.GETTER_SETTER, () -> checkGettersAndSetters(new ObjectGraph(graphBudget), dtoClass, constructors,
+          implOfAbstractClasses, ignorePropertiesForGetSetTest, specialValues));
+      if (allocationProbe != null) {
+        phase(Phase.ALLOCATION, () -> {
+          measureSetterAllocations(dtoClass, implOfAbstractClasses, ignorePropertiesForGetSetTest, specialValues,
+              allocationProbe);
+          allocationProbe.report();
+        });
+      }
+      phase(Phase.TO_STRING, () -> checkToString(dtoClass, constructors));
+      phase(Phase.TO_STRING_LIMIT,
+          () -> checkToStringLimit(dtoClass, implOfAbstractClasses, ignorePropertiesForGetSetTest, specialValues));
+      phase(Phase.CONCURRENCY, () -> checkConcurrency(dtoClass, new ArrayList<>(constructors.entrySet()),
+          implOfAbstractClasses, ignorePropertiesForGetSetTest));
+      phase(Phase.SERIALIZATION,
+          () -> checkSerialization(dtoClass, implOfAbstractClasses, specialValues, equalsExists));
+      phase(Phase.COMPARABLE,
+          () -> checkComparable(dtoClass, implOfAbstractClasses, ignorePropertiesForGetSetTest, specialValues));
+      if (equalsExists && hashCodeExists) {
+        phase(Phase.HASH_DISTRIBUTION, () -> checkHashDistribution(dtoClass, implOfAbstractClasses,
+            ignorePropertiesForGetSetTest, specialValues));
       }
-      checkGettersAndSetters(new ArrayList<Class<?>>(), dtoClass, constructors, implOfAbstractClasses,
-          ignorePropertiesForGetSetTest, specialValues);
-      checkToString(dtoClass, constructors);
+      phase(Phase.COSTS, () -> checkCosts(dtoClass, implOfAbstractClasses, specialValues));
+      phase(Phase.COMPLEXITY,
+          () -> checkComplexity(dtoClass, implOfAbstractClasses, ignorePropertiesForGetSetTest, specialValues));
     }
     catch (IllegalArgumentException iae) {
       throw new PotentialErrorDetected(
@@ -270,6 +450,338 @@ public final class AutoTester {
               + ite.getMessage() + ")",
           ite);
     }
+    finally {
+      if (allocationProbe != null) {
+        allocationProbe.close();
+      }
+    }
+  }
+
+  /**
+   * Tests several classes as one batch. Properties which are inherited from a common super class are only verified
+   * once per batch: a subclass only verifies the properties it declares or overrides. Inherited properties are verified
+   * again for the equals/hashCode check if the subclass declares its own equals() or hashCode().
+   *
+   * @param dtoClasses the classes to test
+   * @throws AssertionError if the test of one class fails
+   */
+  public static TestReport testClasses(Class<?>... dtoClasses) {
+    return testClasses(FailureMode.FAIL_FAST, dtoClasses);
+  }
+
+  /**
+   * Tests several classes as one batch (cp. {@link #testClasses(Class...)}). With {@link FailureMode#COLLECT_ALL} no
+   * error is thrown: every error and warning of every class is added to the returned report.
+   *
+   * @param failureMode stop at the first error or collect all findings
+   * @param dtoClasses the classes to test
+   * @return the findings of all classes
+   * @throws AssertionError if the test of one class fails (only {@link FailureMode#FAIL_FAST})
+   */
+  public static TestReport testClasses(FailureMode failureMode, Class<?>... dtoClasses) {
+    return testClasses(new PropertyCache(), failureMode, dtoClasses);
+  }
+
+  static TestReport testClasses(PropertyCache cache, FailureMode failureMode, Class<?>... dtoClasses) {
+    Context context = CONTEXT.get();
+    PropertyCache previousCache = context.propertyCache;
+    TestRun previousRun = context.run;
+    TestRun batch = new TestRun(new TestReport(), failureMode == null ? FailureMode.FAIL_FAST : failureMode);
+    context.propertyCache = cache;
+    context.run = batch;
+    AutoTesterListener[] batchListeners = AutoTester.listeners;
+    for (AutoTesterListener listener : batchListeners) {
+      listener.batchStarted(dtoClasses.length);
+    }
+    try {
+      for (Class<?> dtoClass : dtoClasses) {
+        testClass(dtoClass);
+      }
+      return batch.getReport();
+    }
+    finally {
+      context.propertyCache = previousCache;
+      context.run = previousRun;
+      for (AutoTesterListener listener : batchListeners) {
+        listener.batchFinished(batch.getReport());
+      }
+    }
+  }
+
+  /**
+   *
+   * @return the run of the current thread or null if no class is tested
+   */
+  private static TestRun currentRun() {
+    return CONTEXT.get().run;
+  }
+
+  /**
+   *
+   * @return the seeded random of the class which the current thread tests
+   */
+  private static Random random() {
+    Random random = CONTEXT.get().random;
+    return random != null ? random : AutoTester.r;
+  }
+
+  /**
+   *
+   * @return the configured stress profile or the profile which the current check uses instead
+   */
+  private static StressProfile currentStressProfile() {
+    StressProfile profile = CONTEXT.get().stressProfile;
+    return profile != null ? profile : AutoTester.stressProfile;
+  }
+
+  /**
+   * The state of the class (and the batch) which one thread tests. It is kept per thread thus classes can be tested in
+   * parallel (e.g. by parallel JUnit tests).
+   */
+  private static final class Context {
+    // the report and the currently tested class, phase and property
+    private TestRun run;
+    // the seeded random of the current class
+    private Random random;
+    // supervises the worker which tests the current class (only set if a timeout is configured)
+    private Watchdog watchdog;
+    // replaces the configured stress profile while a check generates larger objects (or null)
+    private StressProfile stressProfile;
+    // only set while a batch is tested (see testClasses)
+    private PropertyCache propertyCache;
+
+    private Context copy() {
+      Context copy = new Context();
+      copy.run = this.run;
+      copy.random = this.random;
+      copy.watchdog = this.watchdog;
+      copy.stressProfile = this.stressProfile;
+      copy.propertyCache = this.propertyCache;
+      return copy;
+    }
+  }
+
+  /**
+   * A check of one phase.
+   */
+  @FunctionalInterface
+  private interface Check {
+    void run()
+        throws ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException;
+  }
+
+  /**
+   * Runs the check of a phase. In case of {@link FailureMode#COLLECT_ALL} a failed check is added to the report and
+   * the next phase continues.
+   */
+  private static void phase(Phase phase, Check check)
+      throws ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException {
+    TestRun run = currentRun();
+    run.startPhase(phase);
+    try {
+      check.run();
+    }
+    catch (PotentialErrorDetected | AssertionError e) {
+      if (run.isFailFast()) {
+        throw e;
+      }
+      run.error(e);
+    }
+  }
+
+  /**
+   * Reports a warning: it is added to the report of the current run and passed to the warning sink if warnings are
+   * enabled.
+   *
+   * @param message the warning
+   */
+  static void warn(String message) {
+    Watchdog.checkCurrentThread();
+    TestRun current = currentRun();
+    if (current != null) {
+      current.warn(message);
+    }
+    if (enableWarnings) {
+      AutoTester.warningSink.warn(current == null ? null : current.getClassName(),
+          current == null ? null : current.getProperty(), message);
+    }
+  }
+
+  /**
+   * Reports a measurement: it is only added to the report of the current run (cp. {@link TestReport#getInfos()}).
+   *
+   * @param message the measurement
+   */
+  static void info(String message) {
+    Watchdog.checkCurrentThread();
+    TestRun current = currentRun();
+    if (current != null) {
+      current.info(message);
+    }
+  }
+
+  /**
+   * Invokes a method of the tested class. Slow invocations are reported as flight recorder event.
+   *
+   * @param method the method
+   * @param target the object
+   * @param args the arguments
+   * @return the result of the method
+   */
+  static Object invoke(Method method, Object target, Object... args)
+      throws IllegalAccessException, InvocationTargetException {
+    Watchdog.checkCurrentThread();
+    Statistics counters = AutoTester.statistics;
+    if (counters != null) {
+      counters.countInvocation();
+    }
+    InvocationEvent event = new InvocationEvent();
+    event.begin();
+    Watchdog supervisor = CONTEXT.get().watchdog;
+    if (supervisor != null) {
+      supervisor.enter(method, args);
+    }
+    try {
+      return method.invoke(target, args);
+    }
+    finally {
+      if (supervisor != null) {
+        supervisor.exit();
+      }
+      event.finish(method);
+    }
+  }
+
+  /**
+   * Invokes a constructor of the tested class, record (or of a parameter). If a timeout is configured the watchdog is
+   * informed about the invocation.
+   *
+   * @param constructor the constructor
+   * @param args the arguments
+   * @return the new object
+   */
+  static Object construct(Constructor<?> constructor, Object... args)
+      throws InstantiationException, IllegalAccessException, InvocationTargetException {
+    Watchdog.checkCurrentThread();
+    Watchdog supervisor = CONTEXT.get().watchdog;
+    if (supervisor == null) {
+      return constructor.newInstance(args);
+    }
+    supervisor.enter(constructor, args);
+    try {
+      return constructor.newInstance(args);
+    }
+    finally {
+      supervisor.exit();
+    }
+  }
+
+  /**
+   * Calls equals() of a tested object. If a timeout is configured the watchdog is informed about the call.
+   *
+   * @param left the object
+   * @param right the compared object
+   * @return the result of equals()
+   */
+  static boolean callEquals(Object left, Object right) {
+    Watchdog.checkCurrentThread();
+    Watchdog supervisor = CONTEXT.get().watchdog;
+    if (supervisor == null) {
+      return left.equals(right);
+    }
+    supervisor.enter(left.getClass(), "equals", new Object[] {right});
+    try {
+      return left.equals(right);
+    }
+    finally {
+      supervisor.exit();
+    }
+  }
+
+  /**
+   * Calls hashCode() of a tested object. If a timeout is configured the watchdog is informed about the call.
+   *
+   * @param object the object
+   * @return the result of hashCode()
+   */
+  static int callHashCode(Object object) {
+    Watchdog.checkCurrentThread();
+    Watchdog supervisor = CONTEXT.get().watchdog;
+    if (supervisor == null) {
+      return object.hashCode();
+    }
+    supervisor.enter(object.getClass(), "hashCode", null);
+    try {
+      return object.hashCode();
+    }
+    finally {
+      supervisor.exit();
+    }
+  }
+
+  /**
+   * Calls toString() of a tested object. If a timeout is configured the watchdog is informed about the call.
+   *
+   * @param object the object
+   * @return the result of toString()
+   */
+  static String callToString(Object object) {
+    Watchdog.checkCurrentThread();
+    Watchdog supervisor = CONTEXT.get().watchdog;
+    if (supervisor == null) {
+      return object.toString();
+    }
+    supervisor.enter(object.getClass(), "toString", null);
+    try {
+      return object.toString();
+    }
+    finally {
+      supervisor.exit();
+    }
+  }
+
+  /**
+   *
+   * @param phase the phase of the {@link PropertyCache}
+   * @param dtoClass the tested class
+   * @param setter the setter of the property
+   * @return true if the property was already verified within the current batch
+   */
+  private static boolean isCached(String phase, Class<?> dtoClass, Method setter) {
+    PropertyCache cache = CONTEXT.get().propertyCache;
+    if (cache == null) {
+      return false;
+    }
+    boolean verified = cache.isVerified(phase, dtoClass, setter);
+    Statistics counters = AutoTester.statistics;
+    if (counters != null) {
+      counters.countCacheLookup(verified);
+    }
+    return verified;
+  }
+
+  /**
+   * Reports a property which is not tested (ignored or not following the java beans code convention).
+   *
+   * @param property the skipped property
+   */
+  static void skipProperty(String property) {
+    TestRun current = currentRun();
+    if (current != null) {
+      current.skipProperty(property);
+    }
+  }
+
+  /**
+   * Attributes the following findings to a property.
+   *
+   * @param property the property or null if the findings are not related to a property
+   */
+  static void setCurrentProperty(String property) {
+    TestRun current = currentRun();
+    if (current != null) {
+      current.setProperty(property);
+    }
   }
 
   /**
@@ -290,6 +802,370 @@ public final class AutoTester {
     AutoTester.enableWarnings = enableWarnings;
   }
 
+  /**
+   * Returns the sink which receives the warnings.
+   *
+   * @return the current warning sink
+   */
+  public static WarningSink getWarningSink() {
+    return AutoTester.warningSink;
+  }
+
+  /**
+   * Sets the sink which receives the warnings (if enabled). By default each distinct warning is printed once per class
+   * and a summary of the repetitions is printed after the class.
+   *
+   * @param warningSink the sink or null to use the default {@link DeduplicatingWarningSink}
+   */
+  public static void setWarningSink(WarningSink warningSink) {
+    AutoTester.warningSink = warningSink == null ? new DeduplicatingWarningSink() : warningSink;
+  }
+
+  /**
+   *
+   * @return true if the {@link AutoTesterMXBean} is registered otherwise false
+   */
+  public static boolean isJmxEnabled() {
+    return AutoTester.statistics != null;
+  }
+
+  /**
+   * Registers (or unregisters) the {@link AutoTesterMXBean} with live counters at the platform MBean server. The
+   * counters are only updated while the bean is registered.
+   *
+   * @param jmxEnabled true to register the bean and false to unregister it
+   */
+  public static synchronized void setJmxEnabled(boolean jmxEnabled) {
+    if (jmxEnabled && AutoTester.statistics == null) {
+      Statistics counters = new Statistics();
+      counters.register();
+      AutoTester.statistics = counters;
+    } else if (!jmxEnabled && AutoTester.statistics != null) {
+      AutoTester.statistics.unregister();
+      AutoTester.statistics = null;
+    }
+  }
+
+  /**
+   *
+   * @return the live counters or null if JMX is not enabled
+   */
+  public static AutoTesterMXBean getStatistics() {
+    return AutoTester.statistics;
+  }
+
+  /**
+   * Returns the timeouts for the test of a class and for single invocations.
+   *
+   * @return the current timeout profile
+   */
+  public static TimeoutProfile getTimeoutProfile() {
+    return AutoTester.timeoutProfile;
+  }
+
+  /**
+   * Tests each class in a supervised worker thread which is aborted if the class or a single constructor or method
+   * invocation exceeds its timeout. The hanging invocation is reported with its arguments.
+   *
+   * @param timeoutProfile the timeouts or null for {@link TimeoutProfile#NONE}
+   */
+  public static void setTimeoutProfile(TimeoutProfile timeoutProfile) {
+    AutoTester.timeoutProfile = timeoutProfile == null ? TimeoutProfile.NONE : timeoutProfile;
+  }
+
+  /**
+   *
+   * @return the file of the incremental cache or null if all classes are tested
+   */
+  public static Path getIncrementalCache() {
+    return AutoTester.incrementalCache == null ? null : AutoTester.incrementalCache.getFile();
+  }
+
+  /**
+   * Enables the incremental mode: classes which passed are remembered in the given file together with a hash of their
+   * bytecode, the bytecode of their superclasses and the configuration. Unchanged classes are skipped by later runs.
+   *
+   * @param file the cache file e.g. target/autotester-incremental.cache or null to test all classes
+   * @throws UncheckedIOException if the file can not be read
+   */
+  public static synchronized void setIncrementalCache(Path file) {
+    if (AutoTester.incrementalCache != null) {
+      AutoTester.incrementalCache.close();
+    }
+    AutoTester.incrementalCache = file == null ? null : new IncrementalCache(file);
+  }
+
+  /**
+   * Returns the budget which limits the generated object graphs.
+   *
+   * @return the current graph budget
+   */
+  public static GraphBudget getGraphBudget() {
+    return AutoTester.graphBudget;
+  }
+
+  /**
+   * Limits the depth and size of the object graphs which are generated for constructor and setter parameters. Values
+   * beyond the budget are replaced by an already generated sample of the same class or by null.
+   *
+   * @param graphBudget the budget to use or null for {@link GraphBudget#UNLIMITED}
+   */
+  public static void setGraphBudget(GraphBudget graphBudget) {
+    AutoTester.graphBudget = graphBudget == null ? GraphBudget.UNLIMITED : graphBudget;
+  }
+
+  /**
+   * Returns the stress profile which defines the size of the generated collections, maps, arrays and strings.
+   *
+   * @return the current stress profile
+   */
+  public static StressProfile getStressProfile() {
+    return AutoTester.stressProfile;
+  }
+
+  /**
+   * Fills the generated collections, maps, arrays and strings with production-sized data. This helps to detect
+   * equals(), hashCode() or toString() implementations which do not scale. The {@link GraphBudget} still applies.
+   *
+   * @param stressProfile the profile to use or null for {@link StressProfile#NONE}
+   */
+  public static void setStressProfile(StressProfile stressProfile) {
+    AutoTester.stressProfile = stressProfile == null ? StressProfile.NONE : stressProfile;
+  }
+
+  /**
+   * Returns which constructors of the tested class are used.
+   *
+   * @return the current constructor selection
+   */
+  public static ConstructorSelection getConstructorSelection() {
+    return AutoTester.constructorSelection;
+  }
+
+  /**
+   * Defines which constructors of the tested class are used. Since every constructed object is checked with every
+   * setter {@link ConstructorSelection#COVERING} reduces the runtime for classes with many (e.g. telescoping)
+   * constructors. {@link ConstructorSelection#ALL} tests all public constructors.
+   *
+   * @param constructorSelection the selection to use or null for {@link ConstructorSelection#ALL}
+   */
+  public static void setConstructorSelection(ConstructorSelection constructorSelection) {
+    AutoTester.constructorSelection = constructorSelection == null ? ConstructorSelection.ALL : constructorSelection;
+  }
+
+  /**
+   * Returns the expected quality of the hashCode distribution.
+   *
+   * @return the current hashCode distribution thresholds
+   */
+  public static HashDistribution getHashDistribution() {
+    return AutoTester.hashDistribution;
+  }
+
+  /**
+   * Analyzes the hashCode() of random instances (collision rate, HashMap bucket utilization and bit bias) after the
+   * other checks. This helps to detect classes which end up in a few buckets when used as HashMap keys.
+   *
+   * @param hashDistribution the thresholds to use or null for {@link HashDistribution#NONE}
+   */
+  public static void setHashDistribution(HashDistribution hashDistribution) {
+    AutoTester.hashDistribution = hashDistribution == null ? HashDistribution.NONE : hashDistribution;
+  }
+
+  /**
+   * Returns how the costs of equals(), hashCode() and toString() are measured.
+   *
+   * @return the current cost profile
+   */
+  public static CostProfile getCostProfile() {
+    return AutoTester.costProfile;
+  }
+
+  /**
+   * Measures the nanoseconds per call of equals(), hashCode() and toString() after the other checks and fails if a
+   * budget of the profile is exceeded.
+   *
+   * @param costProfile the profile to use or null for {@link CostProfile#NONE}
+   */
+  public static void setCostProfile(CostProfile costProfile) {
+    AutoTester.costProfile = costProfile == null ? CostProfile.NONE : costProfile;
+  }
+
+  /**
+   * Returns how the allocations of the setters, getters, equals() and hashCode() are measured.
+   *
+   * @return the current allocation profile
+   */
+  public static AllocationProfile getAllocationProfile() {
+    return AutoTester.allocationProfile;
+  }
+
+  /**
+   * Measures the allocated bytes per call of the setters, getters, equals() and hashCode() of the tested classes and
+   * fails if a zero allocation class of the profile allocates. Requires a JVM which supports the measurement of
+   * allocated bytes per thread (e.g. HotSpot).
+   *
+   * @param allocationProfile the profile to use or null for {@link AllocationProfile#NONE}
+   */
+  public static void setAllocationProfile(AllocationProfile allocationProfile) {
+    AutoTester.allocationProfile = allocationProfile == null ? AllocationProfile.NONE : allocationProfile;
+  }
+
+  /**
+   * Returns how the scaling of equals(), hashCode() and toString() is estimated.
+   *
+   * @return the current complexity profile
+   */
+  public static ComplexityProfile getComplexityProfile() {
+    return AutoTester.complexityProfile;
+  }
+
+  /**
+   * Rebuilds the tested classes with growing collections, maps, arrays and strings, times equals(), hashCode() and
+   * toString() and fails if the fitted complexity exponent exceeds the maximum of the profile.
+   *
+   * @param complexityProfile the profile to use or null for {@link ComplexityProfile#NONE}
+   */
+  public static void setComplexityProfile(ComplexityProfile complexityProfile) {
+    AutoTester.complexityProfile = complexityProfile == null ? ComplexityProfile.NONE : complexityProfile;
+  }
+
+  /**
+   * Returns the limits of the toString() output.
+   *
+   * @return the current toString() limit
+   */
+  public static ToStringLimit getToStringLimit() {
+    return AutoTester.toStringLimit;
+  }
+
+  /**
+   * Limits the length and the allocated bytes of toString() on instances with stress sized collections, maps, arrays
+   * and strings. This prevents toString() implementations which dump huge collections into the logs.
+   *
+   * @param toStringLimit the limit to use or null for {@link ToStringLimit#NONE}
+   */
+  public static void setToStringLimit(ToStringLimit toStringLimit) {
+    AutoTester.toStringLimit = toStringLimit == null ? ToStringLimit.NONE : toStringLimit;
+  }
+
+  /**
+   * Returns the concurrency stress mode.
+   *
+   * @return the current concurrency profile
+   */
+  public static ConcurrencyProfile getConcurrencyProfile() {
+    return AutoTester.concurrencyProfile;
+  }
+
+  /**
+   * Calls the getters, hashCode(), equals() and toString() of the constructed objects from many threads (optionally
+   * with concurrent setter calls) and fails on exceptions, inconsistent hashCodes or torn reads.
+   *
+   * @param concurrencyProfile the profile to use or null for {@link ConcurrencyProfile#NONE}
+   */
+  public static void setConcurrencyProfile(ConcurrencyProfile concurrencyProfile) {
+    AutoTester.concurrencyProfile = concurrencyProfile == null ? ConcurrencyProfile.NONE : concurrencyProfile;
+  }
+
+  /**
+   * Returns the serialization round trip settings.
+   *
+   * @return the current serialization profile
+   */
+  public static SerializationProfile getSerializationProfile() {
+    return AutoTester.serializationProfile;
+  }
+
+  /**
+   * Serializes and deserializes the constructed objects of {@link java.io.Serializable} classes, verifies the
+   * equality after the round trip and fails if the serialized size or the throughput violates the thresholds.
+   *
+   * @param serializationProfile the profile to use or null for {@link SerializationProfile#NONE}
+   */
+  public static void setSerializationProfile(SerializationProfile serializationProfile) {
+    AutoTester.serializationProfile = serializationProfile == null ? SerializationProfile.NONE : serializationProfile;
+  }
+
+  /**
+   * Returns the settings of the compareTo() check.
+   *
+   * @return the current comparable profile
+   */
+  public static ComparableProfile getComparableProfile() {
+    return AutoTester.comparableProfile;
+  }
+
+  /**
+   * Sorts a batch of random instances of {@link Comparable} classes, checks compareTo() for consistency with equals(),
+   * antisymmetry and transitivity and fails if the comparisons per second are below the threshold.
+   *
+   * @param comparableProfile the profile to use or null for {@link ComparableProfile#NONE}
+   */
+  public static void setComparableProfile(ComparableProfile comparableProfile) {
+    AutoTester.comparableProfile = comparableProfile == null ? ComparableProfile.NONE : comparableProfile;
+  }
+
+  /**
+   * 
+   * @return true if the fields are changed directly
+   */
+  public static boolean isFieldMutation() {
+    return AutoTester.fieldMutation;
+  }
+
+  /**
+   * Changes each field directly (bypassing the setters) and checks that equals() and hashCode() react consistently.
+   * This also covers final fields and classes without setters. Records are skipped.
+   *
+   * @param fieldMutation true to enable the direct field changes
+   */
+  public static void setFieldMutation(boolean fieldMutation) {
+    AutoTester.fieldMutation = fieldMutation;
+  }
+
+  /**
+   * Registers a listener which is notified about the begin and end of each class, phase, constructor and property.
+   *
+   * @param listener the listener to add
+   */
+  public static synchronized void addListener(AutoTesterListener listener) {
+    if (listener == null) {
+      throw new IllegalArgumentException("The listener can not be null!");
+    }
+    AutoTesterListener[] extended = Arrays.copyOf(AutoTester.listeners, AutoTester.listeners.length + 1);
+    extended[extended.length - 1] = listener;
+    AutoTester.listeners = extended;
+  }
+
+  /**
+   * 
+   * @param listener the listener to remove
+   */
+  public static synchronized void removeListener(AutoTesterListener listener) {
+    List<AutoTesterListener> remaining = new ArrayList<>(Arrays.asList(AutoTester.listeners));
+    remaining.remove(listener);
+    AutoTester.listeners = remaining.toArray(new AutoTesterListener[remaining.size()]);
+  }
+
+  /**
+   * 
+   * @return the fixed seed of the random values or null if each class uses a new random seed
+   */
+  public static Long getSeed() {
+    return AutoTester.seed;
+  }
+
+  /**
+   * Fixes the seed of the random values to reproduce a run. The seed of each finding is listed in the
+   * {@link TestReport}.
+   *
+   * @param seed the seed or null to use a new random seed for each class (default)
+   */
+  public static void setSeed(Long seed) {
+    AutoTester.seed = seed;
+  }
+
   /**
    * Calls a private constructor by reflection for full code coverage if the code coverage tool skips private
    * constructors.
@@ -310,7 +1186,7 @@ public final class AutoTester {
 
     if (privateExists) {
       try {
-        return createObjects(new ArrayList<Class<?>>(), classToTest, null, SpecialValueLocator.NONE, true);
+        return createObjects(new ObjectGraph(graphBudget), classToTest, null, SpecialValueLocator.NONE, true);
       }
       catch (ClassNotFoundException | InstantiationException | IllegalAccessException | InvocationTargetException e) {
         throw new PotentialErrorDetected("Error testing private constructor: " + e.getMessage(), e);
@@ -391,7 +1267,7 @@ public final class AutoTester {
   /**
    * Checks if the equals method works as expected.
    * 
-   * @param constructedClasses list of all classes which are about to be created
+   * @param graph the object graph which is currently generated (classes which are about to be created, depth...)
    * @param dtoClass to test
    * @param implOfAbstractClasses
    * @param specialValues
@@ -404,7 +1280,7 @@ public final class AutoTester {
    * @throws IllegalArgumentException
    * @throws AssertionError if test fails
    */
-  private static HashMap<Object, Object> createObjects(ArrayList<Class<?>> constructedClasses, Class<?> dtoClass,
+  private static HashMap<Object, Object> createObjects(ObjectGraph graph, Class<?> dtoClass,
       List<Class<?>> implOfAbstractClasses, SpecialValueLocator specialValues, boolean allConstructors)
       throws ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException {
 
@@ -422,7 +1298,7 @@ public final class AutoTester {
       Class<?>[] paramListRight = new Class<?>[1];
       Object[] argListRight = new Object[1];
 
-      fillJavaLangType(parameters, paramListLeft, argListLeft, paramListRight, argListRight, 0, specialValues);
+      fillJavaLangType(parameters, paramListLeft, argListLeft, paramListRight, argListRight, 0, specialValues, false);
       returnObjects.put(argListLeft[0], argListRight[0]);
       return returnObjects;
     } else if (dtoClass.getName().startsWith("java.") || dtoClass.getName().startsWith("javax.")) {
@@ -484,14 +1360,33 @@ public final class AutoTester {
       constructors = Arrays.asList(dtoClass.getDeclaredConstructors());
     }
 
-    // it is necessary to store all classes to avoid circular object creations which otherwise results in an SOE
-    if (!constructedClasses.contains(dtoClass)) {
-      constructedClasses.add(dtoClass);
+    // only test a subset of the constructors which still covers all parameter types and fields
+    if (allConstructors && AutoTester.constructorSelection == ConstructorSelection.COVERING) {
+      constructors = ConstructorSampler.select(constructors, specialValues);
     }
 
+    // it is necessary to store all classes to avoid circular object creations which otherwise results in an SOE
+    graph.add(dtoClass);
+
     try {
-      constructObjects(constructedClasses, constructors, returnObjects, implOfAbstractClasses, specialValues,
+      graph.enter();
+
+      // beyond the budget: share an already generated sample (or use null) to keep the graph bounded
+      if (graph.isExhausted()) {
+        Entry<Object, Object> sample = graph.getSample(dtoClass);
+        if (sample != null) {
+          returnObjects.put(sample.getKey(), sample.getValue());
+        }
+        return returnObjects;
+      }
+
+      constructObjects(graph, constructors, returnObjects, implOfAbstractClasses, specialValues,
           allConstructors);
+
+      if (!returnObjects.isEmpty()) {
+        Entry<Object, Object> first = returnObjects.entrySet().iterator().next();
+        graph.addSample(dtoClass, first.getKey(), first.getValue());
+      }
     }
     catch (InvocationTargetException ite) {
       if (ite.getCause() instanceof NumberFormatException
@@ -511,12 +1406,47 @@ public final class AutoTester {
           + ". Check all get/set methods (and hashCode() and equals()) - there is a potential Nullpointer in that class.",
           npe);
     }
-    return returnObjects;
+    finally {
+      graph.exit();
+    }
+    return returnObjects;
+  }
+
+  /**
+   * Compares the fields which the bytecode of equals() and hashCode() reads. Every field compared by equals() has to
+   * change the hashCode - the equals/hashCode check fails for a field which only equals() compares. A field which only
+   * hashCode() reads is only correct if it is derived from compared fields (e.g. a hash cached in the constructor).
+   * Since the bytecode does not show that, both mismatches are reported as warnings and the dynamic checks decide.
+   * 
+   * @param dtoClass the tested class
+   * @param fieldUsage the field usage of equals() and hashCode()
+   * @param ignorePropertiesForGetSetTest properties which are not reported
+   */
+  private static void checkFieldUsage(Class<?> dtoClass, FieldUsage fieldUsage,
+      List<String> ignorePropertiesForGetSetTest) {
+    if (!fieldUsage.isKnown()) {
+      return;
+    }
+
+    Set<String> hashCodeOnly = fieldUsage.getHashCodeOnlyFields();
+    hashCodeOnly.removeAll(ignorePropertiesForGetSetTest);
+    Set<String> equalsOnly = fieldUsage.getEqualsOnlyFields();
+    equalsOnly.removeAll(ignorePropertiesForGetSetTest);
+
+    if (!hashCodeOnly.isEmpty()) {
+      warn(dtoClass.getSimpleName() + ": hashCode() uses the field(s) " + hashCodeOnly
+          + " which equals() does not compare. This is only correct if they are derived from compared fields (e.g. a hash cached from "
+          + (equalsOnly.isEmpty() ? "the compared fields" : equalsOnly.toString())
+          + ") otherwise equal objects can have different hashcodes.");
+    } else if (!equalsOnly.isEmpty()) {
+      warn(dtoClass.getSimpleName() + ": equals() compares the field(s) " + equalsOnly
+          + " which hashCode() does not use. Every compared field has to change the hashCode thus the equals/hashCode check fails for them.");
+    }
   }
 
-  private static void checkEqualsAndHashCode(ArrayList<Class<?>> constructedClasses, Class<?> dtoClass,
+  private static void checkEqualsAndHashCode(ObjectGraph graph, Class<?> dtoClass,
       HashMap<Object, Object> constructedObjects, List<Class<?>> implOfAbstractClasses, List<String> ignorePropertiesForGetSetTest,
-      SpecialValueLocator specialValues)
+      SpecialValueLocator specialValues, AllocationProbe allocationProbe, FieldUsage fieldUsage)
       throws ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException {
 
     // first check equality on all constructed objects
@@ -526,6 +1456,11 @@ public final class AutoTester {
       Object constLeft = entry.getKey();
       Object constRight = entry.getValue();
       executeEquals(constLeft, constRight, false);
+
+      if (allocationProbe != null) {
+        allocationProbe.measureEquals(constLeft, constRight);
+        allocationProbe.measureHashCode(constLeft);
+      }
     }
 
     // second check if equals and hashCode are correctly implemented:
@@ -534,8 +1469,8 @@ public final class AutoTester {
     Method[] methods = dtoClass.getMethods();
 
     try {
-      constructSetMethodsAndCheckEquals(constructedClasses, dtoClass, constructedObjects, methods,
-          implOfAbstractClasses, ignorePropertiesForGetSetTest, specialValues);
+      constructSetMethodsAndCheckEquals(graph, dtoClass, constructedObjects, methods,
+          implOfAbstractClasses, ignorePropertiesForGetSetTest, specialValues, fieldUsage);
     }
     catch (InvocationTargetException ite) {
       if (ite.getCause() instanceof NumberFormatException) {
@@ -552,7 +1487,7 @@ public final class AutoTester {
     }
   }
 
-  private static void checkGettersAndSetters(ArrayList<Class<?>> constructedClasses, Class<?> dtoClass,
+  private static void checkGettersAndSetters(ObjectGraph graph, Class<?> dtoClass,
       HashMap<Object, Object> constructedObjects, List<Class<?>> implOfAbstractClasses, List<String> propertiesToIgnore,
       SpecialValueLocator specialValues)
       throws ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException {
@@ -579,6 +1514,7 @@ public final class AutoTester {
           name = name.subSequence(0, 1).toString().toLowerCase() + name.substring(1);
           if (propertiesToIgnore.contains(name)) {
             toRemove.add(current);
+            skipProperty(name);
           }
         }
       }
@@ -590,6 +1526,7 @@ public final class AutoTester {
             name = name.subSequence(0, 1).toString().toLowerCase() + name.substring(1);
             if (propertiesToIgnore.contains(name)) {
               toRemove.add(current);
+              skipProperty(name);
             }
           }
         }
@@ -600,7 +1537,7 @@ public final class AutoTester {
     }
     
     try {
-      constructSetMethods(constructedClasses, dtoClass, constructedObjects, allMethods, implOfAbstractClasses,
+      constructSetMethods(graph, dtoClass, constructedObjects, allMethods, implOfAbstractClasses,
           specialValues);
     }
     catch (InvocationTargetException ite) {
@@ -651,8 +1588,8 @@ public final class AutoTester {
               Object returnRight;
               try {
                 // invoke toString
-                returnLeft = method.invoke(constLeft, (Object[]) null);
-                returnRight = method.invoke(constRight, (Object[]) null);
+                returnLeft = invoke(method, constLeft, (Object[]) null);
+                returnRight = invoke(method, constRight, (Object[]) null);
               }
               catch (IllegalArgumentException iae) {
                 throw new IllegalArgumentException("Type does not match : " + dtoClass.getName() + " != "
@@ -670,7 +1607,7 @@ public final class AutoTester {
               }
             }
           } else {
-            System.err.println(dtoClass.getSimpleName()
+            warn(dtoClass.getSimpleName()
                 + " does not overwrite the object <String toString()> method although it has a <'"
                 + returnType.getSimpleName() + " " + method.getName() + "> method!");
           }
@@ -686,6 +1623,258 @@ public final class AutoTester {
     }
   }
 
+  private static void checkHashDistribution(Class<?> dtoClass, List<Class<?>> implOfAbstractClasses,
+      List<String> ignorePropertiesForGetSetTest, SpecialValueLocator specialValues)
+      throws ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException {
+    if (!AutoTester.hashDistribution.isEnabled()) {
+      return;
+    }
+
+    List<Object> samples = createSamples(dtoClass, AutoTester.hashDistribution.getSamples(), implOfAbstractClasses,
+        ignorePropertiesForGetSetTest, specialValues);
+    HashCodeAnalyzer.analyze(dtoClass, samples, AutoTester.hashDistribution);
+  }
+
+  private static void checkCosts(Class<?> dtoClass, List<Class<?>> implOfAbstractClasses,
+      SpecialValueLocator specialValues)
+      throws ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException {
+    if (!AutoTester.costProfile.isEnabled()) {
+      return;
+    }
+
+    // fresh objects since checkToString() nullifies unordered collections
+    HashMap<Object, Object> constructedObjects =
+        createObjects(new ObjectGraph(graphBudget), dtoClass, implOfAbstractClasses, specialValues, true);
+    CostProfiler.profile(dtoClass, constructedObjects, AutoTester.costProfile);
+  }
+
+  private static void checkToStringLimit(Class<?> dtoClass, List<Class<?>> implOfAbstractClasses,
+      List<String> ignorePropertiesForGetSetTest, SpecialValueLocator specialValues)
+      throws ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException {
+    if (!AutoTester.toStringLimit.isEnabled()) {
+      return;
+    }
+
+    Context context = CONTEXT.get();
+    List<Entry<Object, Object>> stressObjects;
+    try {
+      context.stressProfile = new StressProfile(AutoTester.toStringLimit.getStressSize());
+      stressObjects =
+          createPopulatedObjects(dtoClass, implOfAbstractClasses, ignorePropertiesForGetSetTest, specialValues);
+    }
+    finally {
+      context.stressProfile = null;
+    }
+
+    for (Entry<Object, Object> pair : stressObjects) {
+      ToStringGuard.check(dtoClass, pair.getKey(), AutoTester.toStringLimit);
+    }
+  }
+
+  private static void checkConcurrency(Class<?> dtoClass, List<Entry<Object, Object>> constructedObjects,
+      List<Class<?>> implOfAbstractClasses, List<String> ignorePropertiesForGetSetTest)
+      throws ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException {
+    if (!AutoTester.concurrencyProfile.isEnabled()) {
+      return;
+    }
+
+    try {
+      ConcurrentHammer.hammer(dtoClass, constructedObjects, AutoTester.concurrencyProfile, implOfAbstractClasses,
+          ignorePropertiesForGetSetTest);
+    }
+    catch (InterruptedException ie) {
+      Thread.currentThread().interrupt();
+      throw new InternalException("The concurrency stress of " + dtoClass.getName() + " was interrupted.", ie);
+    }
+  }
+
+  private static void checkSerialization(Class<?> dtoClass, List<Class<?>> implOfAbstractClasses,
+      SpecialValueLocator specialValues, boolean equalsExists)
+      throws ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException {
+    if (!AutoTester.serializationProfile.isEnabled() || !Serializable.class.isAssignableFrom(dtoClass)) {
+      return;
+    }
+
+    HashMap<Object, Object> constructedObjects =
+        createObjects(new ObjectGraph(graphBudget), dtoClass, implOfAbstractClasses, specialValues, true);
+    SerializationRoundTrip.check(dtoClass, constructedObjects, equalsExists, AutoTester.serializationProfile);
+  }
+
+  private static void checkFieldMutation(Class<?> dtoClass, List<Class<?>> implOfAbstractClasses,
+      List<String> ignorePropertiesForGetSetTest, SpecialValueLocator specialValues, FieldUsage fieldUsage)
+      throws ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException {
+    if (!AutoTester.fieldMutation) {
+      return;
+    }
+
+    // fresh objects since the setter checks changed the constructed ones
+    HashMap<Object, Object> constructedObjects =
+        createObjects(new ObjectGraph(graphBudget), dtoClass, implOfAbstractClasses, specialValues, true);
+    FieldMutator.check(dtoClass, constructedObjects, implOfAbstractClasses, ignorePropertiesForGetSetTest, fieldUsage);
+  }
+
+  private static void checkComparable(Class<?> dtoClass, List<Class<?>> implOfAbstractClasses,
+      List<String> ignorePropertiesForGetSetTest, SpecialValueLocator specialValues)
+      throws ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException {
+    if (!AutoTester.comparableProfile.isEnabled() || !Comparable.class.isAssignableFrom(dtoClass)) {
+      return;
+    }
+
+    List<Object> batch = createSamples(dtoClass, AutoTester.comparableProfile.getBatchSize(), implOfAbstractClasses,
+        ignorePropertiesForGetSetTest, specialValues);
+    ComparableChecker.check(dtoClass, batch, AutoTester.comparableProfile);
+  }
+
+  private static void checkComplexity(Class<?> dtoClass, List<Class<?>> implOfAbstractClasses,
+      List<String> ignorePropertiesForGetSetTest, SpecialValueLocator specialValues)
+      throws ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException {
+    if (!AutoTester.complexityProfile.isEnabled()) {
+      return;
+    }
+
+    int[] sizes = AutoTester.complexityProfile.getSizes();
+    ComplexityProbe probe = new ComplexityProbe(sizes);
+    Context context = CONTEXT.get();
+    try {
+      for (int i = 0; i < sizes.length; i++) {
+        // the stress profile determines the size of the generated collections, maps, arrays and strings
+        context.stressProfile = new StressProfile(sizes[i]);
+        double slowest = 0;
+        for (Entry<Object, Object> pair : createPopulatedObjects(dtoClass, implOfAbstractClasses,
+            ignorePropertiesForGetSetTest, specialValues)) {
+          slowest = Math.max(slowest, probe.measure(i, pair.getKey(), pair.getValue()));
+        }
+        // larger sizes would take too long
+        if (slowest > ComplexityProfile.MAX_CALL_NANOS) {
+          break;
+        }
+      }
+    }
+    finally {
+      context.stressProfile = null;
+    }
+    probe.check(dtoClass, AutoTester.complexityProfile.getMaxExponent());
+  }
+
+  /**
+   * Creates random instances of a class: each constructor is called with random values and afterwards all (simple)
+   * setters are called with random values.
+   *
+   * @param dtoClass the class
+   * @param count the number of instances
+   * @param implOfAbstractClasses implementations of abstract parameters
+   * @param ignoreProperties properties which are not set
+   * @param specialValues for the constructors
+   * @return the created instances
+   */
+  static List<Object> createSamples(Class<?> dtoClass, int count, List<Class<?>> implOfAbstractClasses,
+      List<String> ignoreProperties, SpecialValueLocator specialValues)
+      throws ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException {
+
+    List<Object> samples = new ArrayList<>(count);
+    while (samples.size() < count) {
+      List<Entry<Object, Object>> populated =
+          createPopulatedObjects(dtoClass, implOfAbstractClasses, ignoreProperties, specialValues);
+      if (populated.isEmpty()) {
+        break;
+      }
+
+      for (Entry<Object, Object> pair : populated) {
+        samples.add(pair.getKey());
+        if (samples.size() == count) {
+          break;
+        }
+      }
+    }
+    return samples;
+  }
+
+  /**
+   * Creates a pair of equal objects for each constructor and calls all (simple) setters of both objects with equal
+   * random values. Thus all properties are filled (e.g. also with stress sized collections).
+   *
+   * @param dtoClass the class
+   * @param implOfAbstractClasses implementations of abstract parameters
+   * @param ignoreProperties properties which are not set
+   * @param specialValues for the constructors
+   * @return the pairs of equal objects
+   */
+  static List<Entry<Object, Object>> createPopulatedObjects(Class<?> dtoClass, List<Class<?>> implOfAbstractClasses,
+      List<String> ignoreProperties, SpecialValueLocator specialValues)
+      throws ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException {
+
+    List<Method> setters = new ArrayList<>();
+    for (Method method : dtoClass.getMethods()) {
+      if (method.getName().startsWith("set") && method.getParameterTypes().length == 1
+          && !Modifier.isStatic(method.getModifiers())
+          && !ignoreProperties.contains(StringUtils.uncapitalize(method.getName().substring(3)))) {
+        setters.add(method);
+      }
+    }
+
+    HashMap<Object, Object> constructed =
+        createObjects(new ObjectGraph(graphBudget), dtoClass, implOfAbstractClasses, specialValues, true);
+
+    // the setters change the hashCode thus the pairs are not kept in a map
+    List<Entry<Object, Object>> populated = new ArrayList<>(constructed.entrySet());
+    for (Entry<Object, Object> pair : populated) {
+      ObjectGraph graph = new ObjectGraph(graphBudget);
+      graph.add(dtoClass);
+      for (Method setter : setters) {
+        Object[] argListLeft = new Object[1];
+        Object[] argListRight = new Object[1];
+
+        graph.startGraph();
+        fillEverything(graph, setter.getParameterTypes(), setter.getGenericParameterTypes(), argListLeft,
+            argListRight, implOfAbstractClasses, specialValues, false);
+        invoke(setter, pair.getKey(), argListLeft);
+        invoke(setter, pair.getValue(), argListRight);
+      }
+    }
+    return populated;
+  }
+
+  /**
+   * Measures the allocations of the (simple) setters and their getters. The setters are called many times thus a
+   * separate object is used - the tested objects stay untouched (e.g. by an appending or counting setter).
+   *
+   * @param dtoClass the class
+   * @param implOfAbstractClasses implementations of abstract parameters
+   * @param ignoreProperties properties which are not measured
+   * @param specialValues for the constructors
+   * @param allocationProbe the probe
+   */
+  private static void measureSetterAllocations(Class<?> dtoClass, List<Class<?>> implOfAbstractClasses,
+      List<String> ignoreProperties, SpecialValueLocator specialValues, AllocationProbe allocationProbe)
+      throws ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException {
+    HashMap<Object, Object> constructed =
+        createObjects(new ObjectGraph(graphBudget), dtoClass, implOfAbstractClasses, specialValues, false);
+    if (constructed.isEmpty()) {
+      return;
+    }
+    Object target = constructed.keySet().iterator().next();
+
+    ObjectGraph graph = new ObjectGraph(graphBudget);
+    graph.add(dtoClass);
+    for (Method setter : dtoClass.getMethods()) {
+      if (!setter.getName().startsWith("set") || setter.getParameterTypes().length != 1
+          || Modifier.isStatic(setter.getModifiers())
+          || ignoreProperties.contains(StringUtils.uncapitalize(setter.getName().substring(3)))) {
+        continue;
+      }
+      Object[] argListLeft = new Object[1];
+      Object[] argListRight = new Object[1];
+      graph.startGraph();
+      fillEverything(graph, setter.getParameterTypes(), setter.getGenericParameterTypes(), argListLeft,
+          argListRight, implOfAbstractClasses, specialValues, false);
+      // the first call is supervised (a hanging setter is reported with its arguments)
+      invoke(setter, target, argListLeft);
+      allocationProbe.measureSetter(setter, target, argListLeft[0]);
+      allocationProbe.measureGetter(setter.getName(), target);
+    }
+  }
+
+
   /**
    * If a method call (e.g. toString()) should be comparable some Collection types must be nullified (e.g. HashSet,
    * HashMap) because the ordering is always different.
@@ -761,10 +1950,7 @@ public final class AutoTester {
       }
       // this is a special case for setting a random scale for a bigDecimal e.g.(1906457549,-619243059):
       // a negative scale of such a big int would take too long to calculate
-      // TODO 225010 there should be another way (special value mechanism?) However how to point the user the the exact
-      // problem?
-      // In theory start a new thread which calculates the numbers and if it takes too long abort it...?
-      // If this is happening another time then
+      // (other hanging inputs can be reported with a TimeoutProfile)
       else if (parameters.length > 1 && parameterIndex > 0 && argListLeft[parameterIndex - 1] instanceof BigDecimal) {
         // use a smaller number
         in = getRandomShort().intValue();
@@ -855,7 +2041,8 @@ public final class AutoTester {
    * @return true if the data type could be filled otherwise false
    */
   private static boolean fillJavaLangType(Class<?>[] parameters, Class<?>[] paramListLeft, Object[] argListLeft,
-      Class<?>[] paramListRight, Object[] argListRight, int parameterIndex, SpecialValueLocator specialValues) {
+      Class<?>[] paramListRight, Object[] argListRight, int parameterIndex, SpecialValueLocator specialValues,
+      boolean stressSized) {
     Class<?> constructorParameterType = parameters[parameterIndex];
     Object clazz = specialValues.getSpecialValue(parameterIndex + 1, constructorParameterType);
 
@@ -872,6 +2059,8 @@ public final class AutoTester {
       String s;
       if (clazz != null && specialValueDataType.isAssignableFrom(constructorParameterType)) {
         s = (String) clazz;
+      } else if (stressSized && currentStressProfile().isEnabled()) {
+        s = getRandomString(currentStressProfile().getStringLength());
       } else {
         s = getRandomString();
       }
@@ -1009,7 +2198,7 @@ public final class AutoTester {
     return true;
   }
 
-  private static void fillArray(ArrayList<Class<?>> constructedObjects, Class<?>[] parameters, Type[] types,
+  private static void fillArray(ObjectGraph graph, Class<?>[] parameters, Type[] types,
       Class<?>[] paramListLeft, Object[] argListLeft, Class<?>[] paramListRight, Object[] argListRight,
       int parameterIndex, List<Class<?>> implOfAbstractClasses, SpecialValueLocator specialValues)
       throws ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException {
@@ -1248,13 +2437,9 @@ public final class AutoTester {
       paramListLeft[parameterIndex] = constructorParameterType;
       paramListRight[parameterIndex] = constructorParameterType;
 
-      // detect object type
-      Class<?> arrayType = ((Class<?>) types[parameterIndex]).getComponentType();
-
-      // create objects for the array
-      HashMap<Object, Object> map =
-          createObjects(constructedObjects, arrayType, implOfAbstractClasses, specialValues, false);
-      Iterator<Entry<Object, Object>> entries = map.entrySet().iterator();
+      // detect object type (also generic arrays e.g. List<String>[])
+      Type componentType = GenericTypeResolver.getComponentType(types[parameterIndex]);
+      Class<?> arrayType = GenericTypeResolver.getRawClass(componentType);
 
       Object[] leftList;
       Object[] rightList;
@@ -1263,11 +2448,28 @@ public final class AutoTester {
         leftList = (Object[]) clazz;
         rightList = (Object[]) clazz;
       } else {
-        leftList = (Object[]) Array.newInstance(arrayType, map.size());
-        rightList = (Object[]) Array.newInstance(arrayType, map.size());
-
-        for (int i = 0; entries.hasNext(); i++) {
-          Entry entry = entries.next();
+        // create objects for the array
+        HashMap<Object, Object> map = createElements(graph, componentType, implOfAbstractClasses, specialValues);
+        Iterator<Entry<Object, Object>> entries = map.entrySet().iterator();
+
+        // with a stress profile the array is filled with production-sized data
+        int length = currentStressProfile().isEnabled() ? graph.limitArrayLength(currentStressProfile().getArrayLength())
+            : graph.limitArrayLength(map.size());
+        leftList = (Object[]) Array.newInstance(arrayType, length);
+        rightList = (Object[]) Array.newInstance(arrayType, length);
+
+        for (int i = 0; i < length; i++) {
+          if (!entries.hasNext()) {
+            if (!currentStressProfile().isEnabled()) {
+              break;
+            }
+            entries = createElements(graph, componentType, implOfAbstractClasses, specialValues).entrySet().iterator();
+            if (!entries.hasNext()) {
+              // budget exhausted
+              break;
+            }
+          }
+          Entry<Object, Object> entry = entries.next();
           leftList[i] = entry.getKey();
           rightList[i] = entry.getValue();
         }
@@ -1311,7 +2513,7 @@ public final class AutoTester {
     }
   }
 
-  private static void fillCollections(ArrayList<Class<?>> constructedObjects, Class<?>[] parameters, Type[] types,
+  private static void fillCollections(ObjectGraph graph, Class<?>[] parameters, Type[] types,
       Class<?>[] paramListLeft, Object[] argListLeft, Class<?>[] paramListRight, Object[] argListRight,
       int parameterIndex, List<Class<?>> implOfAbstractClasses, SpecialValueLocator specialValues)
       throws ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException {
@@ -1354,34 +2556,45 @@ public final class AutoTester {
         throw new IllegalArgumentException("Unsupported Collection type:" + constructorParameterType.getName());
       }
 
-      ParameterizedType type = (ParameterizedType) types[parameterIndex];
-      // retrieve type of class, in a java.util.List there is only one type thus use [0]
-      Class<?> type2 = (Class<?>) type.getActualTypeArguments()[0];
+      // retrieve type of the elements (also nested generics e.g. List<List<String>>, wildcards or type variables)
+      Type elementType = GenericTypeResolver.getTypeArguments(types[parameterIndex], Collection.class)[0];
 
-      // create objects for the List
-      HashMap<Object, Object> map =
-          createObjects(constructedObjects, type2, implOfAbstractClasses, specialValues, false);
-      Set<Entry<Object, Object>> entries = map.entrySet();
+      // with a stress profile the collection is filled with production-sized data
+      int stressSize = getStressCollectionSize(graph);
+      int rounds = 0;
 
-      for (Entry<Object, Object> entry : entries) {
+      do {
+        // create objects for the List
+        HashMap<Object, Object> map = createElements(graph, elementType, implOfAbstractClasses, specialValues);
+        Set<Entry<Object, Object>> entries = map.entrySet();
+        int maxSize = stressSize >= 0 ? stressSize : graph.limitCollectionSize(entries.size());
+
+        for (Entry<Object, Object> entry : entries) {
+          if (leftList.size() >= maxSize) {
+            break;
+          }
+
+          // classes of SortedSet must implement comparable interface
+          if (ClassUtils.getAllInterfaces(constructorParameterType).contains(SortedSet.class)
+              && !ClassUtils.getAllInterfaces(entry.getKey().getClass()).contains(Comparable.class)) {
+            throw new PotentialErrorDetected(
+                "The class (" + entry.getKey().getClass().getName() + ") which is used in a SortedSet ("
+                    + constructorParameterType.getName() + ") must implement the Comparable interface!");
+          }
 
-        // classes of SortedSet must implement comparable interface
-        if (ClassUtils.getAllInterfaces(constructorParameterType).contains(SortedSet.class)
-            && !ClassUtils.getAllInterfaces(entry.getKey().getClass()).contains(Comparable.class)) {
-          throw new PotentialErrorDetected(
-              "The class (" + entry.getKey().getClass().getName() + ") which is used in a SortedSet ("
-                  + constructorParameterType.getName() + ") must implement the Comparable interface!");
+          leftList.add(entry.getKey());
+          rightList.add(entry.getValue());
         }
+        rounds++;
+        // duplicates (e.g. in a Set) are possible thus the number of rounds is limited
+      } while (leftList.size() < stressSize && rounds < 2 * stressSize);
 
-        leftList.add(entry.getKey());
-        rightList.add(entry.getValue());
-      }
       argListLeft[parameterIndex] = leftList;
       argListRight[parameterIndex] = rightList;
     }
   }
 
-  private static void fillMaps(ArrayList<Class<?>> constructedObjects, Class<?>[] parameters, Type[] types,
+  private static void fillMaps(ObjectGraph graph, Class<?>[] parameters, Type[] types,
       Class<?>[] paramListLeft, Object[] argListLeft, Class<?>[] paramListRight, Object[] argListRight,
       int parameterIndex, List<Class<?>> implOfAbstractClasses, SpecialValueLocator specialValues)
       throws ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException {
@@ -1415,46 +2628,91 @@ public final class AutoTester {
         rightList = new HashMap<>();
       }
 
-      // retrieve types of the classes <key,value>
+      // retrieve types of the classes <key,value> (also nested generics e.g. Map<String, Set<Long>>)
+      Type[] typeArguments = GenericTypeResolver.getTypeArguments(types[parameterIndex], Map.class);
       // key
-      ParameterizedType type = (ParameterizedType) types[parameterIndex];
-      Class<?> keyType = (Class<?>) type.getActualTypeArguments()[0];
+      Type keyType = typeArguments[0];
       // value
-      Class<?> valueType = (Class<?>) type.getActualTypeArguments()[1];
+      Type valueType = typeArguments[1];
 
-      // create objects for the Map
-      HashMap<Object, Object> values =
-          createObjects(constructedObjects, valueType, implOfAbstractClasses, specialValues, false);
-      Set<Entry<Object, Object>> entriesV = values.entrySet();
+      // with a stress profile the map is filled with production-sized data
+      int stressSize = getStressCollectionSize(graph);
+      int rounds = 0;
 
-      for (Entry<Object, Object> entryV : entriesV) {
+      do {
+        // create objects for the Map
+        HashMap<Object, Object> values = createElements(graph, valueType, implOfAbstractClasses, specialValues);
+        Set<Entry<Object, Object>> entriesV = values.entrySet();
+        int maxSize = stressSize >= 0 ? stressSize : graph.limitCollectionSize(entriesV.size());
 
-        HashMap<Object, Object> keys =
-            createObjects(constructedObjects, keyType, implOfAbstractClasses, specialValues, false);
-        Set<Entry<Object, Object>> entriesK = keys.entrySet();
+        for (Entry<Object, Object> entryV : entriesV) {
+          if (leftList.size() >= maxSize) {
+            break;
+          }
 
-        for (Entry<Object, Object> entryK : entriesK) {
+          HashMap<Object, Object> keys = createElements(graph, keyType, implOfAbstractClasses, specialValues);
+          Set<Entry<Object, Object>> entriesK = keys.entrySet();
 
-          // classes of SortedMap keys must implement comparable interface
-          if (ClassUtils.getAllInterfaces(constructorParameterType).contains(SortedMap.class)
-              && !ClassUtils.getAllInterfaces(entryK.getKey().getClass()).contains(Comparable.class)) {
-            throw new PotentialErrorDetected(
-                "The key class (" + entryK.getKey().getClass().getName() + ") which is used in a SortedMap ("
-                    + constructorParameterType.getName() + ") must implement the Comparable interface!");
-          }
+          for (Entry<Object, Object> entryK : entriesK) {
 
-          leftList.put(entryK.getKey(), entryV.getKey());
-          rightList.put(entryK.getValue(), entryV.getValue());
-          break;
+            // classes of SortedMap keys must implement comparable interface
+            if (ClassUtils.getAllInterfaces(constructorParameterType).contains(SortedMap.class)
+                && !ClassUtils.getAllInterfaces(entryK.getKey().getClass()).contains(Comparable.class)) {
+              throw new PotentialErrorDetected(
+                  "The key class (" + entryK.getKey().getClass().getName() + ") which is used in a SortedMap ("
+                      + constructorParameterType.getName() + ") must implement the Comparable interface!");
+            }
+
+            leftList.put(entryK.getKey(), entryV.getKey());
+            rightList.put(entryK.getValue(), entryV.getValue());
+            break;
+          }
         }
-      }
+        rounds++;
+        // duplicate keys are possible thus the number of rounds is limited
+      } while (leftList.size() < stressSize && rounds < 2 * stressSize);
 
       argListLeft[parameterIndex] = leftList;
       argListRight[parameterIndex] = rightList;
     }
   }
 
-  private static void fillObject(ArrayList<Class<?>> constructedObjects, Class<?>[] parameters,
+  /**
+   * Creates the elements of an array, a collection or a map.
+   * 
+   * @param graph the current object graph
+   * @param elementType the resolved type of the elements (cp. {@link GenericTypeResolver})
+   * @param implOfAbstractClasses implementations for abstract classes
+   * @param specialValues special values
+   * @return pairs of elements
+   */
+  private static HashMap<Object, Object> createElements(ObjectGraph graph, Type elementType,
+      List<Class<?>> implOfAbstractClasses, SpecialValueLocator specialValues)
+      throws ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException {
+
+    Class<?> elementClass = GenericTypeResolver.getRawClass(elementType);
+
+    // e.g. List<?> or List<T> without bound: use strings
+    if (elementClass.equals(Object.class)) {
+      elementClass = String.class;
+    }
+
+    // nested collections, maps and arrays need the generic type thus they are filled like a parameter
+    if (elementClass.isArray() || Collection.class.isAssignableFrom(elementClass)
+        || Map.class.isAssignableFrom(elementClass)) {
+      Object[] argListLeft = new Object[1];
+      Object[] argListRight = new Object[1];
+      fillEverything(graph, new Class<?>[] {elementClass}, new Type[] {elementType}, argListLeft, argListRight,
+          implOfAbstractClasses, specialValues, false);
+
+      HashMap<Object, Object> elements = new HashMap<>();
+      elements.put(argListLeft[0], argListRight[0]);
+      return elements;
+    }
+    return createObjects(graph, elementClass, implOfAbstractClasses, specialValues, false);
+  }
+
+  private static void fillObject(ObjectGraph graph, Class<?>[] parameters,
       Class<?>[] paramListLeft, Object[] argListLeft, Class<?>[] paramListRight, Object[] argListRight,
       int parameterIndex, List<Class<?>> implOfAbstractClasses, SpecialValueLocator specialValues)
       throws ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException {
@@ -1475,7 +2733,7 @@ public final class AutoTester {
     } else {
       // recursively check equals
       HashMap<Object, Object> map =
-          createObjects(constructedObjects, constructorParameterType, implOfAbstractClasses, specialValues, false);
+          createObjects(graph, constructorParameterType, implOfAbstractClasses, specialValues, false);
       Set<Entry<Object, Object>> entries = map.entrySet();
 
       for (Entry<Object, Object> entry : entries) {
@@ -1545,7 +2803,7 @@ public final class AutoTester {
           paramListRight[parameterIndex] = Date.class;
 
           //subtract a random number since otherwise when called twice the same date might be returned
-          Date date = new Date(System.currentTimeMillis()-getRandomInt());
+          Date date = new Date(BASE_TIME_MILLIS - getRandomInt());
 
           argListLeft[parameterIndex] = date;
           argListRight[parameterIndex] = date.clone();
@@ -1554,7 +2812,7 @@ public final class AutoTester {
           paramListRight[parameterIndex] = java.sql.Date.class;
 
           //subtract a random number since otherwise when called twice the same date might be returned
-          Date date = new java.sql.Date(System.currentTimeMillis()-getRandomInt());
+          Date date = new java.sql.Date(BASE_TIME_MILLIS - getRandomInt());
 
           argListLeft[parameterIndex] = date;
           argListRight[parameterIndex] = date.clone();
@@ -1564,7 +2822,7 @@ public final class AutoTester {
 
           Calendar cal = Calendar.getInstance();
           //subtract a random number since otherwise when called twice the same cal might be returned
-          cal.setTime(new Date(System.currentTimeMillis()-getRandomInt()));
+          cal.setTime(new Date(BASE_TIME_MILLIS - getRandomInt()));
 
           argListLeft[parameterIndex] = cal;
           argListRight[parameterIndex] = cal.clone();
@@ -1588,9 +2846,9 @@ public final class AutoTester {
           paramListLeft[parameterIndex] = Color.class;
           paramListRight[parameterIndex] = Color.class;
 
-          float red = r.nextFloat();
-          float green = r.nextFloat();
-          float blue = r.nextFloat();
+          float red = random().nextFloat();
+          float green = random().nextFloat();
+          float blue = random().nextFloat();
 
           argListLeft[parameterIndex] = new Color(red, green, blue);
           argListRight[parameterIndex] = new Color(red, green, blue);
@@ -1689,10 +2947,8 @@ public final class AutoTester {
           argListLeft[parameterIndex] = new ByteArrayInputStream(rnd);
           argListRight[parameterIndex] = new ByteArrayInputStream(rnd);
 
-          if (enableWarnings) {
-            System.err.println(
+          warn(
                 "Warning: There is an InputStream parameter. A random inputstream is created however if a specific file is expected this will probably fail. Maybe in future the Tester will be extended to support this.");
-          }
         } else if (constructorParameterType.isAssignableFrom(OutputStream.class)) {
             paramListLeft[parameterIndex] = OutputStream.class;
             paramListRight[parameterIndex] = OutputStream.class;
@@ -1700,10 +2956,8 @@ public final class AutoTester {
             argListLeft[parameterIndex] = new ByteArrayOutputStream();
             argListRight[parameterIndex] = new ByteArrayOutputStream();
 
-            if (enableWarnings) {
-              System.err.println(
+            warn(
                   "Warning: There is an OutputStream parameter. A ByteArrayOutputStream is created however if a specific one is expected this will probably fail. Maybe in future the Tester will be extended to support this.");
-            }
         } else if (constructorParameterType.isAssignableFrom(Blob.class)) {
           paramListLeft[parameterIndex] = Blob.class;
           paramListRight[parameterIndex] = Blob.class;
@@ -1736,6 +2990,7 @@ public final class AutoTester {
           paramListRight[parameterIndex] = XMLGregorianCalendar.class;
 
           GregorianCalendar cal = new GregorianCalendar();
+          cal.setTimeInMillis(BASE_TIME_MILLIS - getRandomInt());
           try {
             argListLeft[parameterIndex] = DatatypeFactory.newInstance().newXMLGregorianCalendar(cal);
             argListRight[parameterIndex] = DatatypeFactory.newInstance().newXMLGregorianCalendar(cal);
@@ -1883,7 +3138,36 @@ public final class AutoTester {
     }
   }
 
-  private static void fillEverything(ArrayList<Class<?>> constructedClasses, Class<?>[] parameters, Type[] types,
+  /**
+   * 
+   * @param graph the current object graph
+   * @return the number of elements of a collection/map in case of a stress profile otherwise -1
+   */
+  private static int getStressCollectionSize(ObjectGraph graph) {
+    if (currentStressProfile().isEnabled()) {
+      return graph.limitCollectionSize(currentStressProfile().getCollectionSize());
+    }
+    return -1;
+  }
+
+  static void fillEverything(ObjectGraph graph, Class<?>[] parameters, Type[] types,
+      Object[] argListLeft, Object[] argListRight, List<Class<?>> implOfAbstractClasses,
+      SpecialValueLocator specialValues, boolean allConstructors)
+      throws ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException {
+    Statistics counters = AutoTester.statistics;
+    if (counters != null) {
+      for (Class<?> parameter : parameters) {
+        counters.countGenerated(parameter);
+      }
+    }
+    GeneratorEvent event = new GeneratorEvent();
+    event.begin();
+    fillParameters(graph, parameters, types, argListLeft, argListRight, implOfAbstractClasses, specialValues,
+        allConstructors);
+    event.finish(parameters);
+  }
+
+  private static void fillParameters(ObjectGraph graph, Class<?>[] parameters, Type[] types,
       Object[] argListLeft, Object[] argListRight, List<Class<?>> implOfAbstractClasses,
       SpecialValueLocator specialValues, boolean allConstructors)
       throws ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException {
@@ -1893,38 +3177,52 @@ public final class AutoTester {
     for (int j = 0; j < parameters.length; j++) {
     	
       // clear constructedClasses for sub-objects of previous parameters since each parameter has to be looked at individually
-      if (allConstructors && constructedClasses.size() > 1) {
-        constructedClasses.subList(1,constructedClasses.size()).clear();
+      if (allConstructors) {
+        graph.clearBelowRoot();
       }
 
       // detect the different types
       if (parameters[j].isPrimitive()) {
         fillPrimitiveType(parameters, paramListLeft, argListLeft, paramListRight, argListRight, j, specialValues);
       } else if (parameters[j].isArray()) {
-        fillArray(constructedClasses, parameters, types, paramListLeft, argListLeft, paramListRight, argListRight, j,
+        fillArray(graph, parameters, types, paramListLeft, argListLeft, paramListRight, argListRight, j,
             implOfAbstractClasses, specialValues);
       } else if (parameters[j].isEnum()) {
         fillEnum(parameters, paramListLeft, argListLeft, paramListRight, argListRight, j, specialValues);
       }
       // check for primitive Object types like Integer, Long, Float etc. and String
       else if (fillJavaLangType(parameters, paramListLeft, argListLeft, paramListRight, argListRight, j,
-          specialValues)) {
+          specialValues, true)) {
         continue;
       } else if (parameters[j].equals(Collection.class)
           || ClassUtils.getAllInterfaces(parameters[j]).contains(Collection.class)) {
-        fillCollections(constructedClasses, parameters, types, paramListLeft, argListLeft, paramListRight, argListRight,
+        fillCollections(graph, parameters, types, paramListLeft, argListLeft, paramListRight, argListRight,
             j, implOfAbstractClasses, specialValues);
       } else if (parameters[j].equals(Map.class) || ClassUtils.getAllInterfaces(parameters[j]).contains(Map.class)) {
-        fillMaps(constructedClasses, parameters, types, paramListLeft, argListLeft, paramListRight, argListRight, j,
+        fillMaps(graph, parameters, types, paramListLeft, argListLeft, paramListRight, argListRight, j,
             implOfAbstractClasses, specialValues);
       } else {
-        fillObject(constructedClasses, parameters, paramListLeft, argListLeft, paramListRight, argListRight, j,
+        fillObject(graph, parameters, paramListLeft, argListLeft, paramListRight, argListRight, j,
             implOfAbstractClasses, specialValues);
       }
     }
   }
 
-  private static void constructObjects(ArrayList<Class<?>> constructedClasses, List<Constructor<?>> constructors,
+  /**
+   * Numbers a constructor by its position in the public constructors of its class (or in the declared ones if it is not
+   * public). Thus the number does not depend on the constructors which were skipped or not selected.
+   *
+   * @param constructor the constructor
+   * @return the number of the constructor (starting at 1)
+   */
+  static int constructorNumber(Constructor<?> constructor) {
+    Class<?> declaringClass = constructor.getDeclaringClass();
+    Constructor<?>[] candidates = Modifier.isPublic(constructor.getModifiers()) ? declaringClass.getConstructors()
+        : declaringClass.getDeclaredConstructors();
+    return Arrays.asList(candidates).indexOf(constructor) + 1;
+  }
+
+  private static void constructObjects(ObjectGraph graph, List<Constructor<?>> constructors,
       HashMap<Object, Object> returnObjects, List<Class<?>> implOfAbstractClasses, SpecialValueLocator specialValues,
       boolean allConstructors)
       throws InvocationTargetException, ClassNotFoundException, InstantiationException, IllegalAccessException {
@@ -1945,9 +3243,14 @@ public final class AutoTester {
       }
 
       // clear constructedClasses for new constructors (recursively called but with 'allConstructors' one is able to
-      // identify the initial loop)
-      if (allConstructors && constructedClasses.size() > 1) {
-        constructedClasses.subList(1, constructedClasses.size()).clear();
+      // identify the initial loop). Each constructor starts a new object graph.
+      if (allConstructors) {
+        graph.clearBelowRoot();
+        graph.startGraph();
+        TestRun current = currentRun();
+        if (current != null) {
+          current.setConstructor(constructorNumber(constructor));
+        }
       }
 
       Object newObjLeft;
@@ -1979,33 +3282,40 @@ public final class AutoTester {
             // iterate parameters to avoid circular class creation which results in an StackOverflow Error
             boolean foundCycle = false;
             for (Class<?> parameterClass : parameters) {
-
-              for (Class<?> constructedClass : constructedClasses) {
-            	  
-            	 //change needs to be verified: A cycle might not occurr if it is a subclass. E,g, MyException extends Excepion (subclass of throwable) and a throwable parameter
-                //if (parameterClass.isAssignableFrom(constructedClass)) {
-            	  if (parameterClass.getName().equals(constructedClass.getName())) {
-                  // Skip constructor: A class creation cycle has been detected. The class
-                  // '"+constructedClass.getSimpleName()+"' should be created however is needed as parameter for
-                  // "+constructor.getDeclaringClass().getSimpleName()+" at the same time
-                  foundCycle = true;
-                  break;
-                }
+              // change needs to be verified: A cycle might not occurr if it is a subclass. E,g, MyException extends
+              // Excepion (subclass of throwable) and a throwable parameter. Thus only the exact class is checked.
+              if (graph.contains(parameterClass)) {
+                // Skip constructor: A class creation cycle has been detected. The class
+                // '"+constructedClass.getSimpleName()+"' should be created however is needed as parameter for
+                // "+constructor.getDeclaringClass().getSimpleName()+" at the same time
+                foundCycle = true;
+                break;
               }
             }
             if (foundCycle) {
               continue;
             }
 
-            fillEverything(constructedClasses, parameters, types, argListLeft, argListRight, implOfAbstractClasses,
+            fillEverything(graph, parameters, types, argListLeft, argListRight, implOfAbstractClasses,
                 specialValues,allConstructors);
             // call constructor
-            newObjLeft = constructor.newInstance(argListLeft);
-            newObjRight = constructor.newInstance(argListRight);
+            ConstructorEvent event = new ConstructorEvent();
+            event.begin();
+            newObjLeft = construct(constructor, argListLeft);
+            newObjRight = construct(constructor, argListRight);
+            event.finish(constructor);
           } else {
             // call constructor
-            newObjLeft = constructor.newInstance();
-            newObjRight = constructor.newInstance();
+            ConstructorEvent event = new ConstructorEvent();
+            event.begin();
+            newObjLeft = construct(constructor);
+            newObjRight = construct(constructor);
+            event.finish(constructor);
+          }
+          graph.countObjects(2);
+          TestRun current = currentRun();
+          if (current != null) {
+            current.countObjects(2);
           }
         }
         // allConstructors==false then only one constructor call should succeed (e.g. if parameters should be
@@ -2023,6 +3333,9 @@ public final class AutoTester {
       // return newly created objects
       returnObjects.put(newObjLeft, newObjRight);
     }
+    if (allConstructors && currentRun() != null) {
+      currentRun().setConstructor(0);
+    }
     if (returnObjects.isEmpty() && stored != null) {
       throw new InternalException(stored);
     } else if (returnObjects.isEmpty() && enableWarnings) {
@@ -2032,9 +3345,9 @@ public final class AutoTester {
     }
   }
 
-  private static void constructSetMethodsAndCheckEquals(ArrayList<Class<?>> constructedClasses, Class<?> dtoClass,
+  private static void constructSetMethodsAndCheckEquals(ObjectGraph graph, Class<?> dtoClass,
       HashMap<Object, Object> constructedObjects, Method[] methods, List<Class<?>> implOfAbstractClasses, List<String> ignorePropertiesForGetSetTest, 
-      SpecialValueLocator specialValues)
+      SpecialValueLocator specialValues, FieldUsage fieldUsage)
       throws ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException {
     for (int i = 0; i < methods.length; i++) {
 
@@ -2042,13 +3355,25 @@ public final class AutoTester {
 
         Method method = methods[i];
 
+        // the bytecode shows that the setter touches no field used by equals/hashCode
+        if (fieldUsage.isIrrelevant(method)) {
+          continue;
+        }
+        setCurrentProperty(StringUtils.uncapitalize(method.getName().substring(3)));
+
+        // inherited property which was already verified by another class of the batch
+        if (isCached(PropertyCache.EQUALS_HASHCODE, dtoClass, method)) {
+          continue;
+        }
+
         Class<?>[] parameters = method.getParameterTypes();
         Type[] types = method.getGenericParameterTypes();
 
         Object[] argListLeft = new Object[parameters.length];
         Object[] argListRight = new Object[parameters.length];
 
-        fillEverything(constructedClasses, parameters, types, argListLeft, argListRight, implOfAbstractClasses,
+        graph.startGraph();
+        fillEverything(graph, parameters, types, argListLeft, argListRight, implOfAbstractClasses,
             specialValues,false);
 
         // call method for every constructed constructor
@@ -2063,15 +3388,13 @@ public final class AutoTester {
 
           // only continue when the hashCode could be extracted
           if (!oldHashCode.isCouldExtractValue()) {
-            if (enableWarnings) {
-              System.err.println(dtoClass.getSimpleName() + ": The " + dtoClass.getSimpleName()
+            warn(dtoClass.getSimpleName() + ": The " + dtoClass.getSimpleName()
                   + " has no 'int hashCode()' method thus it is skipped!");
-            }
             continue;
           }
 
           // invoke one setter
-          method.invoke(constLeft, argListLeft);
+          invoke(method, constLeft, argListLeft);
 
           ExtractionValue newHashCode = extractValueFromHashCode(dtoClass, constLeft);
 
@@ -2091,13 +3414,19 @@ public final class AutoTester {
           }
 
           // also invoke one other object to keep objects the same
-          method.invoke(constRight, argListRight);
+          invoke(method, constRight, argListRight);
+        }
+
+        PropertyCache cache = CONTEXT.get().propertyCache;
+        if (cache != null) {
+          cache.markVerified(PropertyCache.EQUALS_HASHCODE, dtoClass, method);
         }
       }
     }
+    setCurrentProperty(null);
   }
 
-  private static void constructSetMethods(ArrayList<Class<?>> constructedClasses, Class<?> dtoClass,
+  private static void constructSetMethods(ObjectGraph graph, Class<?> dtoClass,
       HashMap<Object, Object> constructedObjects, ArrayList<Method> allMethods, List<Class<?>> implOfAbstractClasses,
       SpecialValueLocator specialValues)
       throws ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException {
@@ -2105,21 +3434,20 @@ public final class AutoTester {
 
       if (method.getName().startsWith("set")) {
 
+        setCurrentProperty(StringUtils.uncapitalize(method.getName().substring(3)));
         Class<?>[] parameters = method.getParameterTypes();
 
         // check that it is a 'simple' setters with one parameter
         if (parameters.length > 1) {
-          if (enableWarnings) {
-            System.err.println(dtoClass.getSimpleName() + ": The " + method.getName()
+          warn(dtoClass.getSimpleName() + ": The " + method.getName()
                 + " has more than one parameter thus it is skipped. Only <field>, <setField(...)>, <getField()> type methods, following the java beans code convention, are supported!");
-          }
+          skipProperty(StringUtils.uncapitalize(method.getName().substring(3)));
           continue;
         }
         if (parameters.length < 1) {
-          if (enableWarnings) {
-            System.err.println(dtoClass.getSimpleName() + ": The " + method.getName()
+          warn(dtoClass.getSimpleName() + ": The " + method.getName()
                 + " has no parameter thus it is skipped. Only <field>, <setField(Field field)>, Field:<getField()> type methods, following the java beans code convention, are supported!");
-          }
+          skipProperty(StringUtils.uncapitalize(method.getName().substring(3)));
           continue;
         }
         
@@ -2131,9 +3459,7 @@ public final class AutoTester {
         		Class<?> parameter = parameters[0];
         		
         		if (!returnType.equals(parameter)) {
-        	      if (enableWarnings) {
-        	        System.err.println(dtoClass.getSimpleName() + ": The " + method.getName() + "("+parameter.getName()+") and <"+returnType.getName()+"> "+getter.getName()+"() methods differ in parameter and return type. It might work but in case of errors you have to add it to the ignore list. Only simple getter/setters following the java beans code convention, are supported!");
-        	      }
+        	      warn(dtoClass.getSimpleName() + ": The " + method.getName() + "("+parameter.getName()+") and <"+returnType.getName()+"> "+getter.getName()+"() methods differ in parameter and return type. It might work but in case of errors you have to add it to the ignore list. Only simple getter/setters following the java beans code convention, are supported!");
         	      continue;
         		}
         		else {
@@ -2142,12 +3468,18 @@ public final class AutoTester {
         	}
         }
 
+        // inherited property which was already verified by another class of the batch
+        if (isCached(PropertyCache.GETTER_SETTER, dtoClass, method)) {
+          continue;
+        }
+
         Object[] argListLeft = new Object[parameters.length];
         Object[] argListRight = new Object[parameters.length];
 
         Type[] types = method.getGenericParameterTypes();
 
-        fillEverything(constructedClasses, parameters, types, argListLeft, argListRight, implOfAbstractClasses,
+        graph.startGraph();
+        fillEverything(graph, parameters, types, argListLeft, argListRight, implOfAbstractClasses,
             specialValues,false);
 
         // call set method for every constructed constructor
@@ -2160,8 +3492,14 @@ public final class AutoTester {
           compareOldAndNew(dtoClass, method, argListLeft, constLeft);
           compareOldAndNew(dtoClass, method, argListRight, constRight);
         }
+
+        PropertyCache cache = CONTEXT.get().propertyCache;
+        if (cache != null) {
+          cache.markVerified(PropertyCache.GETTER_SETTER, dtoClass, method);
+        }
       }
     }
+    setCurrentProperty(null);
   }
 
   /**
@@ -2201,7 +3539,7 @@ public final class AutoTester {
     		}
     		catch(InaccessibleObjectException ioe) {
     	    	//ignore accessibility problems due to java module system
-    	    	System.err.println("Can not fully test class "+dtoClass.getName()+" due to accessability problems of "+field);
+    	    	warn("Can not fully test class "+dtoClass.getName()+" due to accessability problems of "+field);
     	    	return new ExtractionValue(false, field.get(constructedObject));
     	    }
     	}
@@ -2228,14 +3566,12 @@ public final class AutoTester {
       if (getter[j].getName().equals("get" + method.getName().substring(3))
           || getter[j].getName().equals("is" + method.getName().substring(3))) {
         try {
-          return new ExtractionValue(true, getter[j].invoke(constructedObject, (Object[]) null));
+          return new ExtractionValue(true, invoke(getter[j], constructedObject, (Object[]) null));
         }
         catch (InvocationTargetException ite) {
           if (ite.getCause() instanceof EmptyStackException) {
-            if (enableWarnings) {
-              System.err.println("Warning @ " + dtoClass.getSimpleName() + ": The " + method.getName()
+            warn("Warning @ " + dtoClass.getSimpleName() + ": The " + method.getName()
                   + " could not be invoked. The most probable reason is, that it relies on a different internal object which hasn't been instantiated yet. Thus it is skipped!");
-            }
             return new ExtractionValue(false, null);
           } else if (ite.getCause() instanceof RuntimeException) {
             // TODO 225010: Special adaption for DocumentData.class -> when there is no DocumentCache a runtime
@@ -2270,7 +3606,7 @@ public final class AutoTester {
           if (parameters.length == 0) {
             Class<?> returnType = methods[j].getReturnType();
             if (returnType.isAssignableFrom(int.class)) {
-              return new ExtractionValue(true, methods[j].invoke(constructedObject, (Object[]) null));
+              return new ExtractionValue(true, invoke(methods[j], constructedObject, (Object[]) null));
             }
           }
         }
@@ -2279,39 +3615,39 @@ public final class AutoTester {
     return new ExtractionValue(false, null);
   }
 
-  private static void executeEquals(Object left, Object right, boolean warningOnly) {
+  static void executeEquals(Object left, Object right, boolean warningOnly) {
 
     Object nill = null;
     // equals to null
-    if (left.equals(nill) || right.equals(nill)) {
+    if (callEquals(left, nill) || callEquals(right, nill)) {
       if (warningOnly && enableWarnings) {
-        System.err.println("Error testEquals() - objects match null!");
+        warn("Error testEquals() - objects match null!");
       } else {
         throw new PotentialErrorDetected("Error testEquals() - objects match null!");
       }
     }
     // equals on itself
-    if (!left.equals(left) || !right.equals(right)) {
+    if (!callEquals(left, left) || !callEquals(right, right)) {
       if (warningOnly && enableWarnings) {
-        System.err.println("Error testEquals() - object (" + left.getClass().getName() + ") isn't equals to itself!");
+        warn("Error testEquals() - object (" + left.getClass().getName() + ") isn't equals to itself!");
       } else {
         throw new PotentialErrorDetected(
             "Error testEquals() - object (" + left.getClass().getName() + ") isn't equals to itself!");
       }
     }
     // equals on a different object
-    if (left.equals(new Object()) || right.equals(new Object())) {
+    if (callEquals(left, new Object()) || callEquals(right, new Object())) {
       if (warningOnly && enableWarnings) {
-        System.err.println("Error testEquals() - object (" + left.getClass().getName() + ") always returns true!");
+        warn("Error testEquals() - object (" + left.getClass().getName() + ") always returns true!");
       } else {
         throw new PotentialErrorDetected(
             "Error testEquals() - object (" + left.getClass().getName() + ") always returns true!");
       }
     }
     // equals to a different object with same values
-    if (!left.equals(right)) {
+    if (!callEquals(left, right)) {
       if (warningOnly && enableWarnings) {
-        System.err.println("(Parameter) objects should be equals but in fact they are not (" + left.getClass().getName()
+        warn("(Parameter) objects should be equals but in fact they are not (" + left.getClass().getName()
             + ") Values: " + left + " vs. " + right
             + "! An exception may be time related classes which may contain a different timestamp.");
       } else {
@@ -2329,7 +3665,7 @@ public final class AutoTester {
     } else if (left == null || right == null) {
       return true;
     } else {
-      return !left.equals(right);
+      return !callEquals(left, right);
     }
   }
 
@@ -2344,7 +3680,7 @@ public final class AutoTester {
     //if(!oldValueOfTheField.getExtractedValue().equals(argList)) { //skip }
     
     // invoke one setter on the left object
-    method.invoke(constructor, argList);
+    invoke(method, constructor, argList);
 
     // only continue when objects could be extracted
     if (oldValueOfTheField.isCouldExtractValue()) {
@@ -2369,11 +3705,10 @@ public final class AutoTester {
         }
       }
     } else {
-      if (enableWarnings) {
-        System.err.println("Warning @ " + dtoClass.getSimpleName() + ": The " + method.getName()
+      warn("Warning @ " + dtoClass.getSimpleName() + ": The " + method.getName()
             + " has no corresponding field (" + StringUtils.uncapitalize(method.getName().substring(3))
             + ") thus it is skipped. Please follow the java beans code convention!");
-      }
+      skipProperty(StringUtils.uncapitalize(method.getName().substring(3)));
     }
 
     // only continue when getter could be extracted
@@ -2397,11 +3732,10 @@ public final class AutoTester {
         }
       }
     } else {
-      if (enableWarnings) {
-        System.err.println("Warning @ " + dtoClass.getSimpleName() + ": The " + method.getName() + " has no getter ("
+      warn("Warning @ " + dtoClass.getSimpleName() + ": The " + method.getName() + " has no getter ("
             + "is/get" + method.getName().substring(3)
             + ") thus it is skipped. Please follow the java beans code convention!");
-      }
+      skipProperty(StringUtils.uncapitalize(method.getName().substring(3)));
     }
   }
 
@@ -2468,7 +3802,7 @@ public final class AutoTester {
     		}
     		catch(InaccessibleObjectException ioe) {
     			//ignore accessibility problems due to java module system
-    			System.err.println("Can not fully test class "+clazz.getName()+" due to accessability problems: "+method);
+    			warn("Can not fully test class "+clazz.getName()+" due to accessability problems: "+method);
     		}
     	}
     }
@@ -2537,7 +3871,7 @@ public final class AutoTester {
         }
       }
       if (!foundMatch && value.getNumberOfArguments() != 0) {
-        System.err.println("The special value can not be matched to a constructor argument. Check the index and the data type. Special values: " + specialValues);
+        warn("The special value can not be matched to a constructor argument. Check the index and the data type. Special values: " + specialValues);
       }
     }
   }
@@ -2596,7 +3930,7 @@ public final class AutoTester {
     byte[] b = new byte[] {0};
 
     while (b[0] == 0) {
-      AutoTester.r.nextBytes(b);
+      random().nextBytes(b);
     }
 
     return Byte.valueOf(b[0]);
@@ -2604,8 +3938,8 @@ public final class AutoTester {
 
   static byte[] getRandomByteArrayPrimitive() {
 
-    byte[] b = new byte[AutoTester.getRandomInt(42)];
-    AutoTester.r.nextBytes(b);
+    byte[] b = new byte[AutoTester.getRandomArrayLength()];
+    random().nextBytes(b);
 
     if (b.length > 0) {
       // add EOF to the end (used e.g. for byteArrayInputStream)
@@ -2616,16 +3950,29 @@ public final class AutoTester {
   }
 
   static Byte[] getRandomByteArray() {
-    byte[] b = new byte[AutoTester.getRandomInt(42)];
-    AutoTester.r.nextBytes(b);
+    byte[] b = new byte[AutoTester.getRandomArrayLength()];
+    random().nextBytes(b);
 
     Byte[] objectByteArray = new Byte[b.length];
-    for (int i = 0; i < b.length; i++) {
-      objectByteArray[i] = Byte.valueOf(b[i]);
-    }
+    Arrays.setAll(objectByteArray, i -> Byte.valueOf(b[i]));
     return objectByteArray;
   }
 
+  /**
+   * 
+   * @return a random array length (below 42 or the stress size) which stays within the {@link GraphBudget}
+   */
+  static int getRandomArrayLength() {
+    int maxArrayLength = AutoTester.graphBudget.getMaxArrayLength();
+    if (currentStressProfile().isEnabled()) {
+      return Math.min(currentStressProfile().getArrayLength(), maxArrayLength);
+    }
+    if (maxArrayLength == 0) {
+      return 0;
+    }
+    return AutoTester.getRandomInt(Math.min(41, maxArrayLength) + 1);
+  }
+
   static Integer getRandomInteger() {
     return Integer.valueOf(getRandomInt());
   }
@@ -2637,7 +3984,7 @@ public final class AutoTester {
   static int getRandomInt(int n) {
     int i = 0;
     while (i == 0) {
-      i = AutoTester.r.nextInt(n);
+      i = random().nextInt(n);
     }
 
     return i;
@@ -2649,7 +3996,7 @@ public final class AutoTester {
    * @return a positive random int including zero 
    */
   static int getRandomIntIncludingZero(int range) {
-    return AutoTester.r.nextInt(range);
+    return random().nextInt(range);
   }
 
   static String getRandomUnsignedIntAsString(int range) {
@@ -2657,7 +4004,13 @@ public final class AutoTester {
   }
 
   static int[] getRandomIntArrayPrimitive() {
-    int[] b = new int[AutoTester.getRandomInt(42)];
+    int[] b = new int[AutoTester.getRandomArrayLength()];
+
+    if (currentStressProfile().isEnabled()) {
+      // bulk fill to keep the generation of stress sized arrays fast
+      fillRandom(b);
+      return b;
+    }
 
     for (int i = 0; i < b.length; i++) {
       b[i] = AutoTester.getRandomInt();
@@ -2666,7 +4019,15 @@ public final class AutoTester {
   }
 
   static Integer[] getRandomIntegerArray() {
-    Integer[] b = new Integer[AutoTester.getRandomInt(42)];
+    Integer[] b = new Integer[AutoTester.getRandomArrayLength()];
+
+    if (currentStressProfile().isEnabled()) {
+      // bulk fill to keep the generation of stress sized arrays fast
+      int[] values = new int[b.length];
+      fillRandom(values);
+      Arrays.setAll(b, i -> Integer.valueOf(values[i]));
+      return b;
+    }
 
     for (int i = 0; i < b.length; i++) {
       b[i] = AutoTester.getRandomInteger();
@@ -2681,7 +4042,7 @@ public final class AutoTester {
   static float getRandomFloat() {
     float f = 0f;
     while (f == 0f) {
-      f = AutoTester.r.nextFloat();
+      f = random().nextFloat();
     }
 
     return f;
@@ -2692,7 +4053,13 @@ public final class AutoTester {
   }
 
   static float[] getRandomFloatArrayPrimitive() {
-    float[] f = new float[AutoTester.getRandomInt(42)];
+    float[] f = new float[AutoTester.getRandomArrayLength()];
+
+    if (currentStressProfile().isEnabled()) {
+      // bulk fill to keep the generation of stress sized arrays fast
+      fillRandom(f);
+      return f;
+    }
 
     for (int i = 0; i < f.length; i++) {
       f[i] = AutoTester.getRandomFloat();
@@ -2701,7 +4068,15 @@ public final class AutoTester {
   }
 
   static Float[] getRandomFloatArray() {
-    Float[] f = new Float[AutoTester.getRandomInt(42)];
+    Float[] f = new Float[AutoTester.getRandomArrayLength()];
+
+    if (currentStressProfile().isEnabled()) {
+      // bulk fill to keep the generation of stress sized arrays fast
+      float[] values = new float[f.length];
+      fillRandom(values);
+      Arrays.setAll(f, i -> Float.valueOf(values[i]));
+      return f;
+    }
 
     for (int i = 0; i < f.length; i++) {
       f[i] = AutoTester.getRandomFloatAsObject();
@@ -2712,7 +4087,7 @@ public final class AutoTester {
   static double getRandomDouble() {
     double d = 0d;
     while (d == 0d) {
-      d = AutoTester.r.nextDouble();
+      d = random().nextDouble();
     }
 
     return d;
@@ -2723,7 +4098,13 @@ public final class AutoTester {
   }
 
   static double[] getRandomDoubleArrayPrimitive() {
-    double[] d = new double[AutoTester.getRandomInt(42)];
+    double[] d = new double[AutoTester.getRandomArrayLength()];
+
+    if (currentStressProfile().isEnabled()) {
+      // bulk fill to keep the generation of stress sized arrays fast
+      fillRandom(d);
+      return d;
+    }
 
     for (int i = 0; i < d.length; i++) {
       d[i] = AutoTester.getRandomDouble();
@@ -2732,7 +4113,15 @@ public final class AutoTester {
   }
 
   static Double[] getRandomDoubleArray() {
-    Double[] d = new Double[AutoTester.getRandomInt(42)];
+    Double[] d = new Double[AutoTester.getRandomArrayLength()];
+
+    if (currentStressProfile().isEnabled()) {
+      // bulk fill to keep the generation of stress sized arrays fast
+      double[] values = new double[d.length];
+      fillRandom(values);
+      Arrays.setAll(d, i -> Double.valueOf(values[i]));
+      return d;
+    }
 
     for (int i = 0; i < d.length; i++) {
       d[i] = AutoTester.getRandomDoubleAsObject();
@@ -2743,7 +4132,7 @@ public final class AutoTester {
   static long getRandomLong() {
     long l = 0;
     while (l == 0) {
-      l = AutoTester.r.nextLong();
+      l = random().nextLong();
     }
     return l;
   }
@@ -2753,7 +4142,13 @@ public final class AutoTester {
   }
 
   static long[] getRandomLongArrayPrimitive() {
-    long[] l = new long[AutoTester.getRandomInt(42)];
+    long[] l = new long[AutoTester.getRandomArrayLength()];
+
+    if (currentStressProfile().isEnabled()) {
+      // bulk fill to keep the generation of stress sized arrays fast
+      fillRandom(l);
+      return l;
+    }
 
     for (int i = 0; i < l.length; i++) {
       l[i] = AutoTester.getRandomLong();
@@ -2762,7 +4157,15 @@ public final class AutoTester {
   }
 
   static Long[] getRandomLongArray() {
-    Long[] l = new Long[AutoTester.getRandomInt(42)];
+    Long[] l = new Long[AutoTester.getRandomArrayLength()];
+
+    if (currentStressProfile().isEnabled()) {
+      // bulk fill to keep the generation of stress sized arrays fast
+      long[] values = new long[l.length];
+      fillRandom(values);
+      Arrays.setAll(l, i -> Long.valueOf(values[i]));
+      return l;
+    }
 
     for (int i = 0; i < l.length; i++) {
       l[i] = AutoTester.getRandomLongAsObject();
@@ -2771,11 +4174,17 @@ public final class AutoTester {
   }
 
   static Boolean getRandomBoolean() {
-    return Boolean.valueOf(AutoTester.r.nextBoolean());
+    return Boolean.valueOf(random().nextBoolean());
   }
 
   static boolean[] getRandomBooleanArrayPrimitive() {
-    boolean[] l = new boolean[AutoTester.getRandomInt(42)];
+    boolean[] l = new boolean[AutoTester.getRandomArrayLength()];
+
+    if (currentStressProfile().isEnabled()) {
+      // bulk fill to keep the generation of stress sized arrays fast
+      fillRandom(l);
+      return l;
+    }
 
     for (int i = 0; i < l.length; i++) {
       l[i] = getRandomBoolean().booleanValue();
@@ -2784,7 +4193,15 @@ public final class AutoTester {
   }
 
   static Boolean[] getRandomBooleanArray() {
-    Boolean[] b = new Boolean[AutoTester.getRandomInt(42)];
+    Boolean[] b = new Boolean[AutoTester.getRandomArrayLength()];
+
+    if (currentStressProfile().isEnabled()) {
+      // bulk fill to keep the generation of stress sized arrays fast
+      boolean[] values = new boolean[b.length];
+      fillRandom(values);
+      Arrays.setAll(b, i -> Boolean.valueOf(values[i]));
+      return b;
+    }
 
     for (int i = 0; i < b.length; i++) {
       b[i] = getRandomBoolean();
@@ -2797,7 +4214,13 @@ public final class AutoTester {
   }
 
   static short[] getRandomShortArrayPrimitive() {
-    short[] s = new short[AutoTester.getRandomInt(42)];
+    short[] s = new short[AutoTester.getRandomArrayLength()];
+
+    if (currentStressProfile().isEnabled()) {
+      // bulk fill to keep the generation of stress sized arrays fast
+      fillRandom(s);
+      return s;
+    }
 
     for (int i = 0; i < s.length; i++) {
       s[i] = getRandomShort().shortValue();
@@ -2806,7 +4229,15 @@ public final class AutoTester {
   }
 
   static Short[] getRandomShortArray() {
-    Short[] s = new Short[AutoTester.getRandomInt(42)];
+    Short[] s = new Short[AutoTester.getRandomArrayLength()];
+
+    if (currentStressProfile().isEnabled()) {
+      // bulk fill to keep the generation of stress sized arrays fast
+      short[] values = new short[s.length];
+      fillRandom(values);
+      Arrays.setAll(s, i -> Short.valueOf(values[i]));
+      return s;
+    }
 
     for (int i = 0; i < s.length; i++) {
       s[i] = getRandomShort();
@@ -2819,7 +4250,13 @@ public final class AutoTester {
   }
 
   static char[] getRandomCharArrayPrimitive() {
-    char[] c = new char[AutoTester.getRandomInt(42)];
+    char[] c = new char[AutoTester.getRandomArrayLength()];
+
+    if (currentStressProfile().isEnabled()) {
+      // bulk fill to keep the generation of stress sized arrays fast
+      fillRandom(c);
+      return c;
+    }
 
     for (int i = 0; i < c.length; i++) {
       c[i] = getRandomCharacter().charValue();
@@ -2828,7 +4265,15 @@ public final class AutoTester {
   }
 
   static Character[] getRandomCharacterArray() {
-    Character[] c = new Character[AutoTester.getRandomInt(42)];
+    Character[] c = new Character[AutoTester.getRandomArrayLength()];
+
+    if (currentStressProfile().isEnabled()) {
+      // bulk fill to keep the generation of stress sized arrays fast
+      char[] values = new char[c.length];
+      fillRandom(values);
+      Arrays.setAll(c, i -> Character.valueOf(values[i]));
+      return c;
+    }
 
     for (int i = 0; i < c.length; i++) {
       c[i] = getRandomCharacter();
@@ -2836,8 +4281,79 @@ public final class AutoTester {
     return c;
   }
 
+  /**
+   *
+   * @return a random (version 4) UUID string which is derived from the seeded random generator
+   */
   static String getRandomString() {
-    return UUID.randomUUID().toString();
+    long mostSignificantBits = (random().nextLong() & ~0xF000L) | 0x4000L;
+    long leastSignificantBits = (random().nextLong() & ~(0xCL << 60)) | (0x8L << 60);
+    return new UUID(mostSignificantBits, leastSignificantBits).toString();
+  }
+
+  /**
+   * 
+   * @param length of the string
+   * @return a random alphanumeric string of the given length
+   */
+  static String getRandomString(int length) {
+    byte[] b = new byte[length];
+    random().nextBytes(b);
+
+    for (int i = 0; i < b.length; i++) {
+      b[i] = (byte) ALPHANUMERIC.charAt((b[i] & 0xff) % ALPHANUMERIC.length());
+    }
+    return new String(b, StandardCharsets.ISO_8859_1);
+  }
+
+  /**
+   * Creates random bytes in one bulk operation and returns them as a buffer to read them as other primitive types.
+   */
+  private static ByteBuffer getRandomBytes(int numberOfBytes) {
+    byte[] b = new byte[numberOfBytes];
+    random().nextBytes(b);
+    return ByteBuffer.wrap(b);
+  }
+
+  private static void fillRandom(int[] values) {
+    getRandomBytes(values.length * Integer.BYTES).asIntBuffer().get(values);
+  }
+
+  private static void fillRandom(long[] values) {
+    getRandomBytes(values.length * Long.BYTES).asLongBuffer().get(values);
+  }
+
+  private static void fillRandom(short[] values) {
+    getRandomBytes(values.length * Short.BYTES).asShortBuffer().get(values);
+  }
+
+  private static void fillRandom(char[] values) {
+    getRandomBytes(values.length * Character.BYTES).asCharBuffer().get(values);
+  }
+
+  private static void fillRandom(boolean[] values) {
+    ByteBuffer bytes = getRandomBytes(values.length);
+    for (int i = 0; i < values.length; i++) {
+      values[i] = (bytes.get(i) & 1) == 1;
+    }
+  }
+
+  private static void fillRandom(float[] values) {
+    int[] bits = new int[values.length];
+    fillRandom(bits);
+    // same distribution [0,1) as Random.nextFloat()
+    for (int i = 0; i < values.length; i++) {
+      values[i] = (bits[i] >>> 8) * 0x1.0p-24f;
+    }
+  }
+
+  private static void fillRandom(double[] values) {
+    long[] bits = new long[values.length];
+    fillRandom(bits);
+    // same distribution [0,1) as Random.nextDouble()
+    for (int i = 0; i < values.length; i++) {
+      values[i] = (bits[i] >>> 11) * 0x1.0p-53;
+    }
   }
 
   static BigDecimal getRandomBigDecimal() {
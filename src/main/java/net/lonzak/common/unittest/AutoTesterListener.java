@@ -0,0 +1,138 @@
+/*
+ * =========================================== unittest-utilities ===========================================
+ *
+ * Project Info: https://github.com/Lonzak/unittest-utilities
+ *
+ * (C) Copyright 2012-2025 nepatec GmbH
+ *
+ * This file is part of unittest-utilities
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version. This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details. You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package net.lonzak.common.unittest;
+
+/**
+ * Receives the begin and end of each class, phase, constructor and property which the {@link AutoTester} tests. The
+ * end callbacks carry the elapsed nanoseconds and the number of objects which were constructed meanwhile. All methods
+ * have an empty default implementation thus only the relevant ones need to be implemented.
+ * <p>
+ * If no listener is registered no timings are taken.
+ *
+ * Usage:
+ *
+ * <pre>
+ * {@code
+ * AutoTester.addListener(new AutoTesterListener() {
+ *   public void phaseFinished(Class<?> dtoClass, Phase phase, long nanos, long objects) {
+ *     System.out.println(dtoClass.getSimpleName() + " " + phase + ": " + nanos / 1000 + " us");
+ *   }
+ * });
+ * }
+ * </pre>
+ *
+ * @author Lonzak
+ *
+ */
+public interface AutoTesterListener {
+
+  /**
+   * Called before a batch of classes is tested (see {@link AutoTester#testClasses(FailureMode, Class...)}).
+   *
+   * @param classes the number of classes of the batch
+   */
+  default void batchStarted(int classes) {}
+
+  /**
+   * Called after a batch of classes was tested (also if the batch was aborted by a failure).
+   *
+   * @param report the findings of the batch
+   */
+  default void batchFinished(TestReport report) {}
+
+  /**
+   * Called instead of the other class callbacks if an unchanged class is skipped (see
+   * {@link AutoTester#setIncrementalCache(java.nio.file.Path)}).
+   *
+   * @param dtoClass the skipped class
+   */
+  default void classSkipped(Class<?> dtoClass) {}
+
+  /**
+   *
+   * @param dtoClass the class which is tested next
+   */
+  default void classStarted(Class<?> dtoClass) {}
+
+  /**
+   *
+   * @param dtoClass the tested class
+   * @param nanos the duration of the test of the class
+   * @param objects the number of constructed objects
+   */
+  default void classFinished(Class<?> dtoClass, long nanos, long objects) {}
+
+  /**
+   * Called after {@link #classFinished(Class, long, long)} with the complete result of the class.
+   *
+   * @param result the findings, seed, duration and skipped properties of the class
+   */
+  default void classReported(ClassResult result) {}
+
+  /**
+   *
+   * @param dtoClass the tested class
+   * @param phase the phase which starts
+   */
+  default void phaseStarted(Class<?> dtoClass, Phase phase) {}
+
+  /**
+   *
+   * @param dtoClass the tested class
+   * @param phase the finished phase
+   * @param nanos the duration of the phase
+   * @param objects the number of objects constructed during the phase
+   */
+  default void phaseFinished(Class<?> dtoClass, Phase phase, long nanos, long objects) {}
+
+  /**
+   *
+   * @param dtoClass the tested class
+   * @param phase the current phase
+   * @param constructor the number of the constructor (cp. {@link Finding#getConstructor()})
+   */
+  default void constructorStarted(Class<?> dtoClass, Phase phase, int constructor) {}
+
+  /**
+   *
+   * @param dtoClass the tested class
+   * @param phase the current phase
+   * @param constructor the number of the constructor (cp. {@link Finding#getConstructor()})
+   * @param nanos the duration of the construction (including the parameter objects)
+   * @param objects the number of constructed objects
+   */
+  default void constructorFinished(Class<?> dtoClass, Phase phase, int constructor, long nanos, long objects) {}
+
+  /**
+   *
+   * @param dtoClass the tested class
+   * @param phase the current phase
+   * @param property the property which is tested next
+   */
+  default void propertyStarted(Class<?> dtoClass, Phase phase, String property) {}
+
+  /**
+   *
+   * @param dtoClass the tested class
+   * @param phase the current phase
+   * @param property the tested property
+   * @param nanos the duration of the test of the property
+   * @param objects the number of objects constructed for the property
+   */
+  default void propertyFinished(Class<?> dtoClass, Phase phase, String property, long nanos, long objects) {}
+}
@@ -0,0 +1,98 @@
+/*
+ * =========================================== unittest-utilities ===========================================
+ *
+ * Project Info: https://github.com/Lonzak/unittest-utilities
+ *
+ * (C) Copyright 2012-2025 nepatec GmbH
+ *
+ * This file is part of unittest-utilities
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version. This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details. You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package net.lonzak.common.unittest;
+
+import java.util.Map;
+
+/**
+ * Live counters of the {@link AutoTester} e.g. to watch long runs in JConsole or VisualVM. The bean is registered as
+ * <code>net.lonzak.common.unittest:type=AutoTester</code> at the platform MBean server.
+ *
+ * Usage:
+ *
+ * <pre>
+ * {@code
+ * AutoTester.setJmxEnabled(true);
+ * AutoTesterMXBean statistics = AutoTester.getStatistics();
+ * }
+ * </pre>
+ *
+ * @author Lonzak
+ *
+ */
+public interface AutoTesterMXBean {
+
+  /**
+   *
+   * @return the number of tested classes
+   */
+  long getClassesTested();
+
+  /**
+   *
+   * @return the number of tested classes with at least one error
+   */
+  long getClassesFailed();
+
+  /**
+   *
+   * @return the number of objects which were constructed via the constructors
+   */
+  long getObjectsConstructed();
+
+  /**
+   *
+   * @return the number of reflective invocations of setters, getters and other methods of the tested classes
+   */
+  long getInvocations();
+
+  /**
+   *
+   * @return the number of generated values per type (the fully qualified name)
+   */
+  Map<String, Long> getGeneratorCalls();
+
+  /**
+   *
+   * @return the number of property cache lookups (only batch runs use the cache)
+   */
+  long getPropertyCacheLookups();
+
+  /**
+   *
+   * @return the number of property checks which were skipped since they were verified before
+   */
+  long getPropertyCacheHits();
+
+  /**
+   *
+   * @return the ratio of cache hits to lookups (between 0 and 1)
+   */
+  double getPropertyCacheHitRate();
+
+  /**
+   *
+   * @return the cumulative time per {@link Phase} in milliseconds
+   */
+  Map<String, Long> getPhaseMillis();
+
+  /**
+   * Resets all counters.
+   */
+  void reset();
+}
@@ -0,0 +1,119 @@
+/*
+ * =========================================== unittest-utilities ===========================================
+ *
+ * Project Info: https://github.com/Lonzak/unittest-utilities
+ *
+ * (C) Copyright 2012-2025 nepatec GmbH
+ *
+ * This file is part of unittest-utilities
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version. This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details. You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package net.lonzak.common.unittest;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import net.lonzak.common.unittest.Finding.Severity;
+
+/**
+ * The result of the test of one class: the findings, the seed, the duration, the number of constructed objects and the
+ * properties which were not tested. Passed to {@link AutoTesterListener#classReported(ClassResult)}.
+ *
+ * @author Lonzak
+ *
+ */
+public final class ClassResult {
+
+  private final String className;
+  private final long seed;
+  private final long nanos;
+  private final long objects;
+  private final List<Finding> findings;
+  private final Set<String> skippedProperties;
+
+  ClassResult(String className, long seed, long nanos, long objects, List<Finding> findings,
+      Set<String> skippedProperties) {
+    this.className = className;
+    this.seed = seed;
+    this.nanos = nanos;
+    this.objects = objects;
+    this.findings = Collections.unmodifiableList(findings);
+    this.skippedProperties = Collections.unmodifiableSet(skippedProperties);
+  }
+
+  /**
+   *
+   * @return the name of the tested class
+   */
+  public String getClassName() {
+    return this.className;
+  }
+
+  /**
+   *
+   * @return true if no error was found
+   */
+  public boolean isPassed() {
+    for (Finding finding : this.findings) {
+      if (finding.getSeverity() == Severity.ERROR) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   *
+   * @return the seed of the random values
+   */
+  public long getSeed() {
+    return this.seed;
+  }
+
+  /**
+   *
+   * @return the duration of the test
+   */
+  public long getNanos() {
+    return this.nanos;
+  }
+
+  /**
+   *
+   * @return the number of constructed objects
+   */
+  public long getObjects() {
+    return this.objects;
+  }
+
+  /**
+   *
+   * @return the errors and warnings of the class
+   */
+  public List<Finding> getFindings() {
+    return this.findings;
+  }
+
+  /**
+   *
+   * @return the properties which were not tested (ignored or not following the java beans code convention)
+   */
+  public Set<String> getSkippedProperties() {
+    return this.skippedProperties;
+  }
+
+  @Override
+  public String toString() {
+    return "ClassResult [className=" + this.className + ", passed=" + isPassed() + ", seed=" + this.seed
+        + ", nanos=" + this.nanos + ", objects=" + this.objects + ", findings=" + this.findings.size()
+        + ", skippedProperties=" + this.skippedProperties + "]";
+  }
+}
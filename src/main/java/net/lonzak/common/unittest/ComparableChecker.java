@@ -0,0 +1,125 @@
+/*
+ * =========================================== unittest-utilities ===========================================
+ *
+ * Project Info: https://github.com/Lonzak/unittest-utilities
+ *
+ * (C) Copyright 2012-2025 nepatec GmbH
+ *
+ * This file is part of unittest-utilities
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version. This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details. You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package net.lonzak.common.unittest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Checks the contract of compareTo() on a batch of random instances (cp. {@link ComparableProfile}).
+ *
+ * @author Lonzak
+ *
+ */
+final class ComparableChecker {
+
+  // number of random pairs and triples which are checked
+  private static final int SAMPLES = 1000;
+  // timed sorts after the first (untimed) sort - the fastest one counts
+  private static final int TIMED_ROUNDS = 5;
+
+  private long comparisons;
+
+  /**
+   *
+   * @param dtoClass the tested class
+   * @param batch random instances
+   * @param profile the thresholds
+   * @throws PotentialErrorDetected if the contract is violated or the comparator is too slow
+   */
+  static void check(Class<?> dtoClass, List<Object> batch, ComparableProfile profile) {
+    if (batch.size() < 2) {
+      return;
+    }
+    ComparableChecker checker = new ComparableChecker();
+
+    // sort (also warms up compareTo() - a single cold sort mostly measures the interpreter and the JIT)
+    List<Object> sorted = new ArrayList<>(batch);
+    try {
+      sorted.sort(checker::compare);
+    }
+    catch (IllegalArgumentException iae) {
+      throw new PotentialErrorDetected(dtoClass.getSimpleName()
+          + ": The batch could not be sorted since compareTo() violates its general contract.", iae);
+    }
+    double comparisonsPerSecond = 0;
+    for (int round = 0; round < TIMED_ROUNDS; round++) {
+      List<Object> copy = new ArrayList<>(batch);
+      checker.comparisons = 0;
+      long start = System.nanoTime();
+      copy.sort(checker::compare);
+      long duration = Math.max(1, System.nanoTime() - start);
+      comparisonsPerSecond = Math.max(comparisonsPerSecond, checker.comparisons * 1_000_000_000d / duration);
+    }
+
+    for (int i = 1; i < sorted.size(); i++) {
+      if (checker.compare(sorted.get(i - 1), sorted.get(i)) > 0) {
+        throw new PotentialErrorDetected(dtoClass.getSimpleName()
+            + ": The sorted batch is not ordered - compareTo() is not transitive: " + sorted.get(i - 1) + " > "
+            + sorted.get(i));
+      }
+    }
+
+    for (int i = 0; i < SAMPLES; i++) {
+      Object a = batch.get(AutoTester.getRandomIntIncludingZero(batch.size()));
+      Object b = batch.get(AutoTester.getRandomIntIncludingZero(batch.size()));
+      Object c = batch.get(AutoTester.getRandomIntIncludingZero(batch.size()));
+
+      if (checker.compare(a, a) != 0) {
+        throw new PotentialErrorDetected(
+            dtoClass.getSimpleName() + ": compareTo() of an object with itself is not 0: " + a);
+      }
+
+      int ab = Integer.signum(checker.compare(a, b));
+      if (ab != -Integer.signum(checker.compare(b, a))) {
+        throw new PotentialErrorDetected(dtoClass.getSimpleName()
+            + ": compareTo() is not antisymmetric: sgn(a.compareTo(b)) != -sgn(b.compareTo(a)) for " + a + " and "
+            + b);
+      }
+      if ((ab == 0) != AutoTester.callEquals(a, b)) {
+        throw new PotentialErrorDetected(dtoClass.getSimpleName()
+            + ": compareTo() is not consistent with equals(): compareTo()=" + ab + " but equals()=" + a.equals(b)
+            + " for " + a + " and " + b + ". Sorted collections (e.g. TreeSet, TreeMap) will lose or mix up entries.");
+      }
+
+      int bc = Integer.signum(checker.compare(b, c));
+      if (ab == bc && ab != 0 && Integer.signum(checker.compare(a, c)) != ab) {
+        throw new PotentialErrorDetected(dtoClass.getSimpleName() + ": compareTo() is not transitive for " + a
+            + ", " + b + " and " + c);
+      }
+    }
+
+    String report = dtoClass.getSimpleName() + " compareTo: "
+        + String.format(Locale.ROOT, "%.0f", Double.valueOf(comparisonsPerSecond)) + " comparisons/s";
+    AutoTester.info(report);
+
+    if (comparisonsPerSecond < profile.getMinComparisonsPerSecond()) {
+      throw new PotentialErrorDetected(dtoClass.getSimpleName() + ": Only "
+          + String.format(Locale.ROOT, "%.0f", Double.valueOf(comparisonsPerSecond))
+          + " comparisons per second instead of at least " + profile.getMinComparisonsPerSecond()
+          + ". Slow comparators degrade sorted collections (e.g. TreeMap indexes).");
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private int compare(Object left, Object right) {
+    this.comparisons++;
+    return ((Comparable<Object>) left).compareTo(right);
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * =========================================== unittest-utilities ===========================================
+ *
+ * Project Info: https://github.com/Lonzak/unittest-utilities
+ *
+ * (C) Copyright 2012-2025 nepatec GmbH
+ *
+ * This file is part of unittest-utilities
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version. This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details. You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package net.lonzak.common.unittest;
+
+/**
+ * Defines the check of {@link Comparable} classes: a batch of random instances is sorted and compareTo() is checked
+ * for consistency with equals(), antisymmetry and transitivity on random samples of the batch. Additionally the
+ * comparisons per second of the sort are measured since slow comparators degrade sorted collections (e.g. TreeMap).
+ * The batch is sorted once to warm up and the fastest of several further sorts counts.
+ *
+ * Usage:
+ *
+ * <pre>
+ * {@code
+ * AutoTester.setComparableProfile(new ComparableProfile(10000, 1000000));
+ * }
+ * </pre>
+ *
+ * @author Lonzak
+ *
+ */
+public final class ComparableProfile {
+
+  /**
+   * compareTo() is not checked (default).
+   */
+  public static final ComparableProfile NONE = new ComparableProfile();
+
+  private final boolean enabled;
+  private final int batchSize;
+  private final double minComparisonsPerSecond;
+
+  private ComparableProfile() {
+    this.enabled = false;
+    this.batchSize = 0;
+    this.minComparisonsPerSecond = 0;
+  }
+
+  /**
+   * Checks the contract of compareTo() and reports the comparisons per second.
+   *
+   * @param batchSize the number of random instances
+   */
+  public ComparableProfile(int batchSize) {
+    this(batchSize, 0);
+  }
+
+  /**
+   *
+   * @param batchSize the number of random instances
+   * @param minComparisonsPerSecond the minimum number of compareTo() calls per second while sorting the batch
+   */
+  public ComparableProfile(int batchSize, double minComparisonsPerSecond) {
+    if (batchSize < 2 || minComparisonsPerSecond < 0) {
+      throw new IllegalArgumentException("Invalid comparable profile (batchSize=" + batchSize
+          + ", minComparisonsPerSecond=" + minComparisonsPerSecond + ")!");
+    }
+    this.enabled = true;
+    this.batchSize = batchSize;
+    this.minComparisonsPerSecond = minComparisonsPerSecond;
+  }
+
+  /**
+   *
+   * @return true if compareTo() should be checked otherwise false
+   */
+  public boolean isEnabled() {
+    return this.enabled;
+  }
+
+  /**
+   *
+   * @return the number of random instances
+   */
+  public int getBatchSize() {
+    return this.batchSize;
+  }
+
+  /**
+   *
+   * @return the minimum number of compareTo() calls per second
+   */
+  public double getMinComparisonsPerSecond() {
+    return this.minComparisonsPerSecond;
+  }
+
+  @Override
+  public int hashCode() {
+    final int prime = 31;
+    int result = 1;
+    result = prime * result + this.batchSize;
+    result = prime * result + (this.enabled ? 1231 : 1237);
+    result = prime * result + Double.hashCode(this.minComparisonsPerSecond);
+    return result;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null) {
+      return false;
+    }
+    if (this.getClass() != obj.getClass()) {
+      return false;
+    }
+    ComparableProfile other = (ComparableProfile) obj;
+    return this.batchSize == other.batchSize && this.enabled == other.enabled
+        && Double.compare(this.minComparisonsPerSecond, other.minComparisonsPerSecond) == 0;
+  }
+
+  @Override
+  public String toString() {
+    return "ComparableProfile [enabled=" + this.enabled + ", batchSize=" + this.batchSize
+        + ", minComparisonsPerSecond=" + this.minComparisonsPerSecond + "]";
+  }
+}
@@ -0,0 +1,186 @@
+/*
+ * =========================================== unittest-utilities ===========================================
+ *
+ * Project Info: https://github.com/Lonzak/unittest-utilities
+ *
+ * (C) Copyright 2012-2025 nepatec GmbH
+ *
+ * This file is part of unittest-utilities
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version. This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details. You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package net.lonzak.common.unittest;
+
+import java.util.Locale;
+
+/**
+ * Times equals(), hashCode() and toString() of objects with growing input sizes and fits the complexity exponent
+ * (cp. {@link ComplexityProfile}).
+ *
+ * @author Lonzak
+ *
+ */
+final class ComplexityProbe {
+
+  static final String[] METHODS = {"equals", "hashCode", "toString"};
+
+  // each measurement runs at least that long to reduce the timer noise
+  private static final long MIN_MEASUREMENT_NANOS = 10_000_000L;
+
+  // number of measurements per size and method
+  private static final int ROUNDS = 5;
+  private static final int WARMUP_ROUNDS = 2;
+
+  // number of (largest) sizes used for the fit
+  private static final int FITTED_SIZES = 3;
+
+  // consumes the results so that the JIT can not eliminate the measured calls
+  private static volatile int sink;
+
+  private final int[] sizes;
+  // nanoseconds per call for [method][size], 0 if not measured
+  private final double[][] nanos;
+
+  ComplexityProbe(int[] sizes) {
+    this.sizes = sizes;
+    this.nanos = new double[METHODS.length][sizes.length];
+  }
+
+  /**
+   * Times all methods for one size.
+   *
+   * @param sizeIndex the index of the size
+   * @param left an object
+   * @param right an equal object
+   * @return the slowest nanoseconds per call
+   */
+  double measure(int sizeIndex, Object left, Object right) {
+    double slowest = 0;
+    for (int method = 0; method < METHODS.length; method++) {
+      // warmup: the JIT compiles the code paths of the current size
+      for (int round = 0; round < WARMUP_ROUNDS; round++) {
+        time(method, left, right);
+      }
+
+      // the fastest round is the least disturbed one (GC, JIT compilation ...)
+      double fastest = Double.MAX_VALUE;
+      for (int round = 0; round < ROUNDS; round++) {
+        fastest = Math.min(fastest, time(method, left, right));
+      }
+      this.nanos[method][sizeIndex] = Math.max(this.nanos[method][sizeIndex], fastest);
+      slowest = Math.max(slowest, this.nanos[method][sizeIndex]);
+    }
+    return slowest;
+  }
+
+  /**
+   * Least squares fit of log(nanoseconds) over log(size) of the largest measured sizes. The small sizes are dominated
+   * by the constant costs of a call and would flatten the slope.
+   *
+   * @param method the method index
+   * @return the complexity exponent or NaN if less than three sizes were measured
+   */
+  double exponent(int method) {
+    int n = 0;
+    double sumX = 0;
+    double sumY = 0;
+    double sumXX = 0;
+    double sumXY = 0;
+    for (int i = this.sizes.length - 1; i >= 0 && n < FITTED_SIZES; i--) {
+      if (this.nanos[method][i] > 0) {
+        double x = Math.log(this.sizes[i]);
+        double y = Math.log(this.nanos[method][i]);
+        n++;
+        sumX += x;
+        sumY += y;
+        sumXX += x * x;
+        sumXY += x * y;
+      }
+    }
+    if (n < 3) {
+      return Double.NaN;
+    }
+    return (n * sumXY - sumX * sumY) / (n * sumXX - sumX * sumX);
+  }
+
+  /**
+   * Checks the exponents of all methods.
+   *
+   * @param dtoClass the tested class
+   * @param maxExponent the maximum exponent
+   * @throws PotentialErrorDetected if an exponent exceeds the maximum
+   */
+  void check(Class<?> dtoClass, double maxExponent) {
+    StringBuilder exponents = new StringBuilder();
+    StringBuilder exceeded = new StringBuilder();
+    for (int method = 0; method < METHODS.length; method++) {
+      double exponent = exponent(method);
+      if (Double.isNaN(exponent)) {
+        continue;
+      }
+      String measured = METHODS[method] + "() O(n^" + String.format(Locale.ROOT, "%.2f", Double.valueOf(exponent))
+          + ")";
+      exponents.append(exponents.length() == 0 ? " " : ", ").append(measured);
+      if (exponent > maxExponent) {
+        exceeded.append(' ').append(measured).append(';');
+      }
+    }
+    if (exponents.length() == 0) {
+      AutoTester.warn(dtoClass.getSimpleName()
+            + ": Less than three sizes could be measured thus the complexity is not estimated.");
+      return;
+    }
+    AutoTester.info(dtoClass.getSimpleName() + " complexity:" + exponents);
+
+    if (exceeded.length() > 0) {
+      throw new PotentialErrorDetected(dtoClass.getSimpleName() + " does not scale: the complexity exceeds O(n^"
+          + maxExponent + "):" + exceeded + " (" + toString()
+          + "). Check the implementation for nested iterations (e.g. List.contains() inside a loop).");
+    }
+  }
+
+  private static double time(int method, Object left, Object right) {
+    int result = 0;
+    long calls = 0;
+    long start = System.nanoTime();
+    long duration;
+    do {
+      switch (method) {
+        case 0:
+          result += left.equals(right) ? 1 : 0;
+          break;
+        case 1:
+          result += left.hashCode();
+          break;
+        default:
+          result += left.toString().length();
+          break;
+      }
+      calls++;
+      duration = System.nanoTime() - start;
+    } while (duration < MIN_MEASUREMENT_NANOS);
+    sink += result;
+    return (double) duration / calls;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder("ns/op per size");
+    for (int method = 0; method < METHODS.length; method++) {
+      builder.append(' ').append(METHODS[method]).append(':');
+      for (int i = 0; i < this.sizes.length; i++) {
+        if (this.nanos[method][i] > 0) {
+          builder.append(' ').append(this.sizes[i]).append('=')
+              .append(String.format(Locale.ROOT, "%.0f", Double.valueOf(this.nanos[method][i])));
+        }
+      }
+    }
+    return builder.toString();
+  }
+}
@@ -0,0 +1,150 @@
+/*
+ * =========================================== unittest-utilities ===========================================
+ *
+ * Project Info: https://github.com/Lonzak/unittest-utilities
+ *
+ * (C) Copyright 2012-2025 nepatec GmbH
+ *
+ * This file is part of unittest-utilities
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version. This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details. You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package net.lonzak.common.unittest;
+
+import java.util.Arrays;
+
+/**
+ * Defines how the scaling of equals(), hashCode() and toString() is estimated. The tested class is rebuilt with
+ * collections, maps, arrays and strings of growing sizes (cp. {@link StressProfile}) and the methods are timed for
+ * each size. The slope of log(time) over log(size) of the three largest sizes is the empirical complexity exponent:
+ * ~1 for linear implementations, ~2 for quadratic ones (e.g. <code>contains()</code> of a list inside a loop).
+ * <p>
+ * Sizes whose calls already take longer than {@link #MAX_CALL_NANOS} end the measurement (the larger sizes are
+ * skipped).
+ *
+ * Usage:
+ *
+ * <pre>
+ * {@code
+ * AutoTester.setComplexityProfile(new ComplexityProfile(1.5));
+ * }
+ * </pre>
+ *
+ * @author Lonzak
+ *
+ */
+public final class ComplexityProfile {
+
+  /**
+   * A call beyond this duration ends the measurement of larger sizes.
+   */
+  public static final long MAX_CALL_NANOS = 200_000_000L;
+
+  /**
+   * The complexity is not estimated (default).
+   */
+  public static final ComplexityProfile NONE = new ComplexityProfile();
+
+  private final boolean enabled;
+  private final double maxExponent;
+  private final int[] sizes;
+
+  private ComplexityProfile() {
+    this.enabled = false;
+    this.maxExponent = Double.MAX_VALUE;
+    this.sizes = new int[0];
+  }
+
+  /**
+   * Uses the sizes 10, 100, 1k, 10k and 100k.
+   *
+   * @param maxExponent the maximum complexity exponent (e.g. 1.5 to detect quadratic implementations)
+   */
+  public ComplexityProfile(double maxExponent) {
+    this(maxExponent, 10, 100, 1_000, 10_000, 100_000);
+  }
+
+  /**
+   *
+   * @param maxExponent the maximum complexity exponent (e.g. 1.5 to detect quadratic implementations)
+   * @param sizes at least three ascending sizes of the generated collections, maps, arrays and strings
+   */
+  public ComplexityProfile(double maxExponent, int... sizes) {
+    if (maxExponent <= 0) {
+      throw new IllegalArgumentException("The maximum exponent must be positive (maxExponent=" + maxExponent + ")!");
+    }
+    if (sizes == null || sizes.length < 3) {
+      throw new IllegalArgumentException("At least three sizes are needed to estimate the complexity!");
+    }
+    for (int i = 0; i < sizes.length; i++) {
+      if (sizes[i] < 1 || (i > 0 && sizes[i] <= sizes[i - 1])) {
+        throw new IllegalArgumentException("The sizes must be positive and ascending: " + Arrays.toString(sizes));
+      }
+    }
+    this.enabled = true;
+    this.maxExponent = maxExponent;
+    this.sizes = sizes.clone();
+  }
+
+  /**
+   *
+   * @return true if the complexity should be estimated otherwise false
+   */
+  public boolean isEnabled() {
+    return this.enabled;
+  }
+
+  /**
+   *
+   * @return the maximum complexity exponent
+   */
+  public double getMaxExponent() {
+    return this.maxExponent;
+  }
+
+  /**
+   *
+   * @return the sizes of the generated collections, maps, arrays and strings
+   */
+  public int[] getSizes() {
+    return this.sizes.clone();
+  }
+
+  @Override
+  public int hashCode() {
+    final int prime = 31;
+    int result = 1;
+    result = prime * result + (this.enabled ? 1231 : 1237);
+    result = prime * result + Double.hashCode(this.maxExponent);
+    result = prime * result + Arrays.hashCode(this.sizes);
+    return result;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null) {
+      return false;
+    }
+    if (this.getClass() != obj.getClass()) {
+      return false;
+    }
+    ComplexityProfile other = (ComplexityProfile) obj;
+    return this.enabled == other.enabled && Double.compare(this.maxExponent, other.maxExponent) == 0
+        && Arrays.equals(this.sizes, other.sizes);
+  }
+
+  @Override
+  public String toString() {
+    return "ComplexityProfile [enabled=" + this.enabled + ", maxExponent=" + this.maxExponent + ", sizes="
+        + Arrays.toString(this.sizes) + "]";
+  }
+}
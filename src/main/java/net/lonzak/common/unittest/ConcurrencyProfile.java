@@ -0,0 +1,151 @@
+/*
+ * =========================================== unittest-utilities ===========================================
+ *
+ * Project Info: https://github.com/Lonzak/unittest-utilities
+ *
+ * (C) Copyright 2012-2025 nepatec GmbH
+ *
+ * This file is part of unittest-utilities
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version. This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details. You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package net.lonzak.common.unittest;
+
+/**
+ * Defines the concurrency stress mode: the getters, hashCode(), equals() and toString() of the constructed objects are
+ * called from many threads at the same time. Optionally one additional thread concurrently calls the setters. The mode
+ * detects
+ * <ul>
+ * <li>exceptions (e.g. ConcurrentModificationException of lazily initialized collections)</li>
+ * <li>inconsistent hashCodes (e.g. racy lazily cached hashCodes) - only without concurrent writes</li>
+ * <li>torn reads: a getter returns a value which was never set</li>
+ * </ul>
+ *
+ * Usage:
+ *
+ * <pre>
+ * {@code
+ * AutoTester.setConcurrencyProfile(new ConcurrencyProfile(8, 500, true));
+ * }
+ * </pre>
+ *
+ * @author Lonzak
+ *
+ */
+public final class ConcurrencyProfile {
+
+  /**
+   * No concurrency stress (default).
+   */
+  public static final ConcurrencyProfile NONE = new ConcurrencyProfile();
+
+  private final boolean enabled;
+  private final int threads;
+  private final long durationMillis;
+  private final boolean concurrentWrites;
+
+  private ConcurrencyProfile() {
+    this.enabled = false;
+    this.threads = 0;
+    this.durationMillis = 0;
+    this.concurrentWrites = false;
+  }
+
+  /**
+   * Only reading threads.
+   *
+   * @param threads the number of reading threads
+   * @param durationMillis the duration of the stress per class in milliseconds
+   */
+  public ConcurrencyProfile(int threads, long durationMillis) {
+    this(threads, durationMillis, false);
+  }
+
+  /**
+   *
+   * @param threads the number of reading threads
+   * @param durationMillis the duration of the stress per class in milliseconds
+   * @param concurrentWrites true if an additional thread should call the setters at the same time
+   */
+  public ConcurrencyProfile(int threads, long durationMillis, boolean concurrentWrites) {
+    if (threads < 1 || durationMillis < 1) {
+      throw new IllegalArgumentException("At least one thread and one millisecond are needed (threads=" + threads
+          + ", durationMillis=" + durationMillis + ")!");
+    }
+    this.enabled = true;
+    this.threads = threads;
+    this.durationMillis = durationMillis;
+    this.concurrentWrites = concurrentWrites;
+  }
+
+  /**
+   *
+   * @return true if the concurrency stress should be executed otherwise false
+   */
+  public boolean isEnabled() {
+    return this.enabled;
+  }
+
+  /**
+   *
+   * @return the number of reading threads
+   */
+  public int getThreads() {
+    return this.threads;
+  }
+
+  /**
+   *
+   * @return the duration of the stress per class in milliseconds
+   */
+  public long getDurationMillis() {
+    return this.durationMillis;
+  }
+
+  /**
+   *
+   * @return true if an additional thread calls the setters at the same time
+   */
+  public boolean isConcurrentWrites() {
+    return this.concurrentWrites;
+  }
+
+  @Override
+  public int hashCode() {
+    final int prime = 31;
+    int result = 1;
+    result = prime * result + (this.concurrentWrites ? 1231 : 1237);
+    result = prime * result + Long.hashCode(this.durationMillis);
+    result = prime * result + (this.enabled ? 1231 : 1237);
+    result = prime * result + this.threads;
+    return result;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null) {
+      return false;
+    }
+    if (this.getClass() != obj.getClass()) {
+      return false;
+    }
+    ConcurrencyProfile other = (ConcurrencyProfile) obj;
+    return this.concurrentWrites == other.concurrentWrites && this.durationMillis == other.durationMillis
+        && this.enabled == other.enabled && this.threads == other.threads;
+  }
+
+  @Override
+  public String toString() {
+    return "ConcurrencyProfile [enabled=" + this.enabled + ", threads=" + this.threads + ", durationMillis="
+        + this.durationMillis + ", concurrentWrites=" + this.concurrentWrites + "]";
+  }
+}
@@ -0,0 +1,327 @@
+/*
+ * =========================================== unittest-utilities ===========================================
+ *
+ * Project Info: https://github.com/Lonzak/unittest-utilities
+ *
+ * (C) Copyright 2012-2025 nepatec GmbH
+ *
+ * This file is part of unittest-utilities
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version. This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details. You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package net.lonzak.common.unittest;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Calls the getters, hashCode(), equals() and toString() of shared objects from many threads (cp.
+ * {@link ConcurrencyProfile}).
+ *
+ * @author Lonzak
+ *
+ */
+final class ConcurrentHammer {
+
+  // the number of collected problems is limited
+  private static final int MAX_PROBLEMS = 10;
+  // time for the threads to finish their current call after the stress ended
+  private static final long JOIN_MILLIS = 1000;
+
+  private final Class<?> dtoClass;
+  private final ConcurrencyProfile profile;
+  private final List<Entry<Object, Object>> pairs;
+  private final List<Property> properties;
+  private final int[] hashCodes;
+  private final Queue<String> problems = new ConcurrentLinkedQueue<>();
+  private volatile boolean running = true;
+  // the first error (e.g. an AssertionError or StackOverflowError) thrown in one of the threads
+  private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+  private ConcurrentHammer(Class<?> dtoClass, ConcurrencyProfile profile, List<Entry<Object, Object>> pairs,
+      List<Property> properties) {
+    this.dtoClass = dtoClass;
+    this.profile = profile;
+    this.pairs = pairs;
+    this.properties = properties;
+    this.hashCodes = new int[pairs.size()];
+    for (int i = 0; i < pairs.size(); i++) {
+      this.hashCodes[i] = pairs.get(i).getKey().hashCode();
+    }
+  }
+
+  /**
+   *
+   * @param dtoClass the tested class
+   * @param pairs the constructed pairs of equal objects (the left objects are shared between the threads)
+   * @param profile threads and duration
+   * @param implOfAbstractClasses implementations of abstract setter parameters
+   * @param ignoreProperties properties which are skipped
+   * @throws PotentialErrorDetected if a problem was detected
+   */
+  static void hammer(Class<?> dtoClass, List<Entry<Object, Object>> pairs, ConcurrencyProfile profile,
+      List<Class<?>> implOfAbstractClasses, List<String> ignoreProperties)
+      throws ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException,
+      InterruptedException {
+    if (pairs.isEmpty()) {
+      return;
+    }
+
+    List<Property> properties = new ArrayList<>();
+    for (Method getter : dtoClass.getMethods()) {
+      String name = propertyName(getter);
+      if (name == null || ignoreProperties.contains(name)) {
+        continue;
+      }
+      Property property = new Property(getter);
+      if (profile.isConcurrentWrites()) {
+        property.prepareWrites(dtoClass, pairs, implOfAbstractClasses);
+      } else {
+        property.prepareReads(pairs);
+      }
+      properties.add(property);
+    }
+
+    new ConcurrentHammer(dtoClass, profile, pairs, properties).run();
+  }
+
+  private void run() throws InterruptedException {
+    List<Thread> threads = new ArrayList<>();
+    CountDownLatch start = new CountDownLatch(1);
+    for (int i = 0; i < this.profile.getThreads(); i++) {
+      threads.add(new Thread(() -> await(start, this::read), "AutoTester-reader-" + i));
+    }
+    if (this.profile.isConcurrentWrites()) {
+      threads.add(new Thread(() -> await(start, this::write), "AutoTester-writer"));
+    }
+    for (Thread thread : threads) {
+      thread.setDaemon(true);
+      thread.start();
+    }
+
+    start.countDown();
+    List<String> hanging = new ArrayList<>();
+    try {
+      Thread.sleep(this.profile.getDurationMillis());
+    }
+    finally {
+      // also if the caller is interrupted (e.g. by the watchdog) otherwise the threads would run forever
+      this.running = false;
+    }
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(JOIN_MILLIS);
+    for (Thread thread : threads) {
+      thread.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+      if (thread.isAlive()) {
+        thread.interrupt();
+        hanging.add(thread.getName());
+      }
+    }
+
+    Throwable error = this.failure.get();
+    if (error instanceof AssertionError) {
+      throw (AssertionError) error;
+    }
+    if (error != null) {
+      throw new PotentialErrorDetected(this.dtoClass.getSimpleName() + " threw " + error + " when used by "
+          + this.profile.getThreads() + " threads" + (this.profile.isConcurrentWrites() ? " and a writer" : ""), error);
+    }
+    if (!hanging.isEmpty()) {
+      throw new PotentialErrorDetected(this.dtoClass.getSimpleName() + ": the thread(s) " + hanging
+          + " did not finish within " + JOIN_MILLIS + " ms after the stress ended (e.g. a deadlock or a livelock)");
+    }
+    if (!this.problems.isEmpty()) {
+      throw new PotentialErrorDetected(this.dtoClass.getSimpleName() + " is not safe for concurrent use by "
+          + this.profile.getThreads() + " threads" + (this.profile.isConcurrentWrites() ? " and a writer" : "")
+          + ": " + String.join(" | ", this.problems));
+    }
+  }
+
+  private void await(CountDownLatch start, Runnable task) {
+    try {
+      start.await();
+      task.run();
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    catch (Throwable t) {
+      // otherwise the thread would end silently: the error is rethrown by the calling thread
+      this.failure.compareAndSet(null, t);
+      this.running = false;
+    }
+  }
+
+  private void read() {
+    while (this.running) {
+      for (int i = 0; i < this.pairs.size() && this.running; i++) {
+        Object shared = this.pairs.get(i).getKey();
+        Object other = this.pairs.get(i).getValue();
+        try {
+          int hashCode = shared.hashCode();
+          if (!this.profile.isConcurrentWrites()) {
+            if (hashCode != this.hashCodes[i]) {
+              problem("inconsistent hashCode " + hashCode + " instead of " + this.hashCodes[i]);
+            }
+            if (!shared.equals(other)) {
+              problem("equals() returned false for equal objects");
+            }
+          } else {
+            shared.equals(other);
+          }
+          shared.toString();
+
+          for (Property property : this.properties) {
+            Object value = property.getter.invoke(shared);
+            if (!property.isValid(i, value)) {
+              problem("torn read: " + property.getter.getName() + "() returned " + value + " which was never set");
+            }
+          }
+        }
+        catch (InvocationTargetException e) {
+          problem(e.getTargetException().toString());
+        }
+        catch (RuntimeException | IllegalAccessException e) {
+          problem(e.toString());
+        }
+      }
+    }
+  }
+
+  private void write() {
+    boolean first = false;
+    while (this.running) {
+      first = !first;
+      for (int i = 0; i < this.pairs.size() && this.running; i++) {
+        for (Property property : this.properties) {
+          try {
+            property.write(i, this.pairs.get(i).getKey(), first);
+          }
+          catch (InvocationTargetException e) {
+            problem(e.getTargetException().toString());
+          }
+          catch (RuntimeException | IllegalAccessException e) {
+            problem(e.toString());
+          }
+        }
+      }
+    }
+  }
+
+  private void problem(String problem) {
+    if (this.problems.size() < MAX_PROBLEMS && !this.problems.contains(problem)) {
+      this.problems.add(problem);
+    }
+  }
+
+  private static String propertyName(Method getter) {
+    if (getter.getParameterTypes().length != 0 || Modifier.isStatic(getter.getModifiers())
+        || getter.getReturnType() == void.class || getter.getDeclaringClass() == Object.class) {
+      return null;
+    }
+    String name = getter.getName();
+    if (name.startsWith("get") && name.length() > 3) {
+      return Character.toLowerCase(name.charAt(3)) + name.substring(4);
+    } else if (name.startsWith("is") && name.length() > 2) {
+      return Character.toLowerCase(name.charAt(2)) + name.substring(3);
+    }
+    return null;
+  }
+
+  /**
+   * A getter and either its values before the stress (read only) or its setter with two alternating values per shared
+   * object (concurrent writes).
+   */
+  private static final class Property {
+    private final Method getter;
+    private Object[] readValues;
+    private Method setter;
+    private Object[] firstValues;
+    private Object[] secondValues;
+
+    Property(Method getter) {
+      this.getter = getter;
+    }
+
+    void prepareReads(List<Entry<Object, Object>> pairs) throws IllegalAccessException, InvocationTargetException {
+      Object[] values = new Object[pairs.size()];
+      for (int i = 0; i < pairs.size(); i++) {
+        values[i] = this.getter.invoke(pairs.get(i).getKey());
+      }
+      this.readValues = values;
+    }
+
+    void prepareWrites(Class<?> dtoClass, List<Entry<Object, Object>> pairs, List<Class<?>> implOfAbstractClasses)
+        throws ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException {
+      String suffix = this.getter.getName().substring(this.getter.getName().startsWith("is") ? 2 : 3);
+      Method candidate;
+      try {
+        candidate = dtoClass.getMethod("set" + suffix, this.getter.getReturnType());
+      }
+      catch (NoSuchMethodException e) {
+        // derived or read only property: its value may change with the other setters thus it is not checked
+        return;
+      }
+
+      Object[] first = new Object[pairs.size()];
+      Object[] second = new Object[pairs.size()];
+      for (int i = 0; i < pairs.size(); i++) {
+        first[i] = createValue(dtoClass, candidate, implOfAbstractClasses);
+        second[i] = createValue(dtoClass, candidate, implOfAbstractClasses);
+
+        // the getter has to return the set value otherwise the property can not be checked
+        Object shared = pairs.get(i).getKey();
+        candidate.invoke(shared, first[i]);
+        if (!Objects.deepEquals(first[i], this.getter.invoke(shared))) {
+          return;
+        }
+      }
+      this.setter = candidate;
+      this.firstValues = first;
+      this.secondValues = second;
+    }
+
+    private static Object createValue(Class<?> dtoClass, Method setter, List<Class<?>> implOfAbstractClasses)
+        throws ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException {
+      Object[] argListLeft = new Object[1];
+      Object[] argListRight = new Object[1];
+      ObjectGraph graph = new ObjectGraph(AutoTester.getGraphBudget());
+      graph.add(dtoClass);
+      AutoTester.fillEverything(graph, setter.getParameterTypes(), setter.getGenericParameterTypes(), argListLeft,
+          argListRight, implOfAbstractClasses, SpecialValueLocator.NONE, false);
+      return argListLeft[0];
+    }
+
+    void write(int index, Object shared, boolean first) throws IllegalAccessException, InvocationTargetException {
+      if (this.setter != null) {
+        this.setter.invoke(shared, first ? this.firstValues[index] : this.secondValues[index]);
+      }
+    }
+
+    boolean isValid(int index, Object value) {
+      if (this.readValues != null) {
+        return Objects.deepEquals(value, this.readValues[index]);
+      }
+      if (this.setter != null) {
+        return Objects.deepEquals(value, this.firstValues[index])
+            || Objects.deepEquals(value, this.secondValues[index]);
+      }
+      return true;
+    }
+  }
+}
@@ -0,0 +1,151 @@
+/*
+ * =========================================== unittest-utilities ===========================================
+ *
+ * Project Info: https://github.com/Lonzak/unittest-utilities
+ *
+ * (C) Copyright 2012-2025 nepatec GmbH
+ *
+ * This file is part of unittest-utilities
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version. This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details. You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package net.lonzak.common.unittest;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import net.lonzak.common.unittest.SpecialValueLocator.ConstructorValue;
+
+/**
+ * Selects a minimal subset of constructors which still touches every parameter type and field (cp.
+ * {@link ConstructorSelection#COVERING}). A greedy set cover is used which is not always minimal but close to it. The
+ * default constructor is always selected since it creates the state where all fields are null (which is where most
+ * NPEs in equals() or hashCode() show up).
+ *
+ * @author Lonzak
+ *
+ */
+final class ConstructorSampler {
+
+  // only static methods thus no instantiation
+  private ConstructorSampler() {}
+
+  /**
+   * 
+   * @param constructors the candidates (order as defined in the class)
+   * @param specialValues constructors which are targeted by a special value are always selected (as well as the default
+   *        constructor)
+   * @return the selected constructors in the original order
+   */
+  static List<Constructor<?>> select(List<Constructor<?>> constructors, SpecialValueLocator specialValues) {
+    if (constructors.size() < 2) {
+      return constructors;
+    }
+
+    Set<Integer> specialValueConstructors = new HashSet<>();
+    for (ConstructorValue value : specialValues.getSpecialValues().keySet()) {
+      specialValueConstructors.add(value.getNumberOfArguments());
+    }
+
+    List<Set<Object>> features = new ArrayList<>();
+    Set<Object> uncovered = new HashSet<>();
+    for (Constructor<?> constructor : constructors) {
+      Set<Object> feature = getFeatures(constructor);
+      features.add(feature);
+      uncovered.addAll(feature);
+    }
+
+    boolean[] selected = new boolean[constructors.size()];
+    int numberOfSelected = 0;
+
+    for (int i = 0; i < constructors.size(); i++) {
+      int parameterCount = constructors.get(i).getParameterCount();
+      if (parameterCount == 0 || specialValueConstructors.contains(Integer.valueOf(parameterCount))) {
+        selected[i] = true;
+        numberOfSelected++;
+        uncovered.removeAll(features.get(i));
+      }
+    }
+
+    // greedy: take the constructor which covers the most uncovered features
+    while (!uncovered.isEmpty()) {
+      int best = -1;
+      int bestCount = 0;
+      for (int i = 0; i < constructors.size(); i++) {
+        if (selected[i]) {
+          continue;
+        }
+        int count = 0;
+        for (Object feature : features.get(i)) {
+          if (uncovered.contains(feature)) {
+            count++;
+          }
+        }
+        if (count > bestCount) {
+          best = i;
+          bestCount = count;
+        }
+      }
+      selected[best] = true;
+      numberOfSelected++;
+      uncovered.removeAll(features.get(best));
+    }
+
+    // e.g. only a default constructor
+    if (numberOfSelected == 0) {
+      selected[0] = true;
+    }
+
+    List<Constructor<?>> result = new ArrayList<>();
+    for (int i = 0; i < constructors.size(); i++) {
+      if (selected[i]) {
+        result.add(constructors.get(i));
+      }
+    }
+    return result;
+  }
+
+  /**
+   * The features of a constructor are its parameter types and (if the names were compiled into the class) the fields
+   * which have the same name as a parameter.
+   */
+  private static Set<Object> getFeatures(Constructor<?> constructor) {
+    Set<Object> features = new LinkedHashSet<>();
+    Class<?> declaringClass = constructor.getDeclaringClass();
+
+    for (Parameter parameter : constructor.getParameters()) {
+      features.add(parameter.getType());
+
+      if (parameter.isNamePresent()) {
+        Field field = findField(declaringClass, parameter.getName());
+        if (field != null) {
+          features.add(field);
+        }
+      }
+    }
+    return features;
+  }
+
+  private static Field findField(Class<?> clazz, String name) {
+    for (Class<?> current = clazz; current != null && current != Object.class; current = current.getSuperclass()) {
+      for (Field field : current.getDeclaredFields()) {
+        if (field.getName().equals(name)) {
+          return field;
+        }
+      }
+    }
+    return null;
+  }
+}
@@ -0,0 +1,43 @@
+/*
+ * =========================================== unittest-utilities ===========================================
+ *
+ * Project Info: https://github.com/Lonzak/unittest-utilities
+ *
+ * (C) Copyright 2012-2025 nepatec GmbH
+ *
+ * This file is part of unittest-utilities
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version. This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details. You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package net.lonzak.common.unittest;
+
+/**
+ * Defines which public constructors of the tested class are used by the {@link AutoTester}. Every constructed object
+ * pair is checked with every setter, thus the number of constructors has a big impact on the runtime.
+ *
+ * @author Lonzak
+ *
+ */
+public enum ConstructorSelection {
+
+  /**
+   * All public constructors are tested (default).
+   */
+  ALL,
+
+  /**
+   * Only a minimal subset of the constructors is tested which still covers every parameter type and (if the class was
+   * compiled with <code>-parameters</code>) every field which is set via a constructor parameter. Constructors which
+   * are targeted by a special value and the default constructor are always tested.
+   * <p>
+   * Without <code>-parameters</code> only the parameter types are known thus e.g. <code>(String name)</code> and
+   * <code>(String email)</code> are treated as equivalent.
+   */
+  COVERING
+}
@@ -0,0 +1,184 @@
+/*
+ * =========================================== unittest-utilities ===========================================
+ *
+ * Project Info: https://github.com/Lonzak/unittest-utilities
+ *
+ * (C) Copyright 2012-2025 nepatec GmbH
+ *
+ * This file is part of unittest-utilities
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version. This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details. You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package net.lonzak.common.unittest;
+
+/**
+ * Defines how the costs of equals(), hashCode() and toString() are measured and which budgets (in nanoseconds per
+ * operation) apply. Each method is first called <code>warmupIterations</code> times (to let the JIT compile it) and
+ * afterwards timed over <code>iterations</code> calls. A budget of {@link #UNLIMITED} is not checked.
+ *
+ * Usage:
+ *
+ * <pre>
+ * {@code
+ * AutoTester.setCostProfile(new CostProfile(10000, 100000, CostProfile.UNLIMITED, 50, CostProfile.UNLIMITED));
+ * }
+ * </pre>
+ *
+ * @author Lonzak
+ *
+ */
+public final class CostProfile {
+
+  /**
+   * No budget for a method.
+   */
+  public static final long UNLIMITED = Long.MAX_VALUE;
+
+  /**
+   * The costs are not measured (default).
+   */
+  public static final CostProfile NONE = new CostProfile();
+
+  private final boolean enabled;
+  private final int warmupIterations;
+  private final int iterations;
+  private final long maxEqualsNanos;
+  private final long maxHashCodeNanos;
+  private final long maxToStringNanos;
+
+  private CostProfile() {
+    this.enabled = false;
+    this.warmupIterations = 0;
+    this.iterations = 0;
+    this.maxEqualsNanos = UNLIMITED;
+    this.maxHashCodeNanos = UNLIMITED;
+    this.maxToStringNanos = UNLIMITED;
+  }
+
+  /**
+   * Only measures and reports the costs without budgets.
+   *
+   * @param warmupIterations number of calls before the measurement
+   * @param iterations number of measured calls
+   */
+  public CostProfile(int warmupIterations, int iterations) {
+    this(warmupIterations, iterations, UNLIMITED, UNLIMITED, UNLIMITED);
+  }
+
+  /**
+   *
+   * @param warmupIterations number of calls before the measurement
+   * @param iterations number of measured calls
+   * @param maxEqualsNanos maximum nanoseconds of one equals() call
+   * @param maxHashCodeNanos maximum nanoseconds of one hashCode() call
+   * @param maxToStringNanos maximum nanoseconds of one toString() call
+   */
+  public CostProfile(int warmupIterations, int iterations, long maxEqualsNanos, long maxHashCodeNanos,
+      long maxToStringNanos) {
+    if (warmupIterations < 0 || iterations < 1) {
+      throw new IllegalArgumentException("Invalid number of iterations (warmupIterations=" + warmupIterations
+          + ", iterations=" + iterations + ")!");
+    }
+    if (maxEqualsNanos < 0 || maxHashCodeNanos < 0 || maxToStringNanos < 0) {
+      throw new IllegalArgumentException("The budgets can not be negative (maxEqualsNanos=" + maxEqualsNanos
+          + ", maxHashCodeNanos=" + maxHashCodeNanos + ", maxToStringNanos=" + maxToStringNanos + ")!");
+    }
+    this.enabled = true;
+    this.warmupIterations = warmupIterations;
+    this.iterations = iterations;
+    this.maxEqualsNanos = maxEqualsNanos;
+    this.maxHashCodeNanos = maxHashCodeNanos;
+    this.maxToStringNanos = maxToStringNanos;
+  }
+
+  /**
+   *
+   * @return true if the costs should be measured otherwise false
+   */
+  public boolean isEnabled() {
+    return this.enabled;
+  }
+
+  /**
+   *
+   * @return the number of calls before the measurement
+   */
+  public int getWarmupIterations() {
+    return this.warmupIterations;
+  }
+
+  /**
+   *
+   * @return the number of measured calls
+   */
+  public int getIterations() {
+    return this.iterations;
+  }
+
+  /**
+   *
+   * @return the maximum nanoseconds of one equals() call
+   */
+  public long getMaxEqualsNanos() {
+    return this.maxEqualsNanos;
+  }
+
+  /**
+   *
+   * @return the maximum nanoseconds of one hashCode() call
+   */
+  public long getMaxHashCodeNanos() {
+    return this.maxHashCodeNanos;
+  }
+
+  /**
+   *
+   * @return the maximum nanoseconds of one toString() call
+   */
+  public long getMaxToStringNanos() {
+    return this.maxToStringNanos;
+  }
+
+  @Override
+  public int hashCode() {
+    final int prime = 31;
+    int result = 1;
+    result = prime * result + (this.enabled ? 1231 : 1237);
+    result = prime * result + this.iterations;
+    result = prime * result + Long.hashCode(this.maxEqualsNanos);
+    result = prime * result + Long.hashCode(this.maxHashCodeNanos);
+    result = prime * result + Long.hashCode(this.maxToStringNanos);
+    result = prime * result + this.warmupIterations;
+    return result;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null) {
+      return false;
+    }
+    if (this.getClass() != obj.getClass()) {
+      return false;
+    }
+    CostProfile other = (CostProfile) obj;
+    return this.enabled == other.enabled && this.iterations == other.iterations
+        && this.maxEqualsNanos == other.maxEqualsNanos && this.maxHashCodeNanos == other.maxHashCodeNanos
+        && this.maxToStringNanos == other.maxToStringNanos && this.warmupIterations == other.warmupIterations;
+  }
+
+  @Override
+  public String toString() {
+    return "CostProfile [enabled=" + this.enabled + ", warmupIterations=" + this.warmupIterations + ", iterations="
+        + this.iterations + ", maxEqualsNanos=" + this.maxEqualsNanos + ", maxHashCodeNanos=" + this.maxHashCodeNanos
+        + ", maxToStringNanos=" + this.maxToStringNanos + "]";
+  }
+}
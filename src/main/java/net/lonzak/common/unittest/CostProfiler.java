@@ -0,0 +1,125 @@
+/*
+ * =========================================== unittest-utilities ===========================================
+ *
+ * Project Info: https://github.com/Lonzak/unittest-utilities
+ *
+ * (C) Copyright 2012-2025 nepatec GmbH
+ *
+ * This file is part of unittest-utilities
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version. This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details. You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package net.lonzak.common.unittest;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Measures the nanoseconds per call of equals(), hashCode() and toString() of the constructed object pairs (cp.
+ * {@link CostProfile}). The slowest pair determines the result of a class.
+ *
+ * @author Lonzak
+ *
+ */
+final class CostProfiler {
+
+  // consumes the results so that the JIT can not eliminate the measured calls
+  private static volatile int sink;
+
+  // only static methods thus no instantiation
+  private CostProfiler() {}
+
+  /**
+   *
+   * @param dtoClass the tested class
+   * @param constructedObjects pairs of equal objects
+   * @param profile iterations and budgets
+   * @throws PotentialErrorDetected if a budget is exceeded
+   */
+  static void profile(Class<?> dtoClass, Map<Object, Object> constructedObjects, CostProfile profile) {
+    double equalsNanos = 0;
+    double hashCodeNanos = 0;
+    double toStringNanos = 0;
+
+    for (Entry<Object, Object> entry : constructedObjects.entrySet()) {
+      Object left = entry.getKey();
+      Object right = entry.getValue();
+
+      timeEquals(left, right, profile.getWarmupIterations());
+      equalsNanos = Math.max(equalsNanos, timeEquals(left, right, profile.getIterations()));
+
+      timeHashCode(left, profile.getWarmupIterations());
+      hashCodeNanos = Math.max(hashCodeNanos, timeHashCode(left, profile.getIterations()));
+
+      timeToString(left, profile.getWarmupIterations());
+      toStringNanos = Math.max(toStringNanos, timeToString(left, profile.getIterations()));
+    }
+
+    String costs = dtoClass.getSimpleName() + ": equals " + format(equalsNanos) + " ns/op, hashCode "
+        + format(hashCodeNanos) + " ns/op, toString " + format(toStringNanos) + " ns/op";
+    AutoTester.info(costs);
+
+    StringBuilder exceeded = new StringBuilder();
+    appendExceeded(exceeded, "equals", equalsNanos, profile.getMaxEqualsNanos());
+    appendExceeded(exceeded, "hashCode", hashCodeNanos, profile.getMaxHashCodeNanos());
+    appendExceeded(exceeded, "toString", toStringNanos, profile.getMaxToStringNanos());
+
+    if (exceeded.length() > 0) {
+      throw new PotentialErrorDetected(dtoClass.getSimpleName() + " exceeds the cost budget:" + exceeded + " ("
+          + costs + "). Check the implementation for expensive operations (e.g. deep copies, string formatting or iterations over large collections).");
+    }
+  }
+
+  private static void appendExceeded(StringBuilder exceeded, String method, double nanos, long budget) {
+    if (budget != CostProfile.UNLIMITED && nanos > budget) {
+      exceeded.append(' ').append(method).append("() ").append(format(nanos)).append(" ns/op > ").append(budget)
+          .append(" ns/op;");
+    }
+  }
+
+  private static double timeEquals(Object left, Object right, int iterations) {
+    int result = 0;
+    long start = System.nanoTime();
+    for (int i = 0; i < iterations; i++) {
+      if (left.equals(right)) {
+        result++;
+      }
+    }
+    long duration = System.nanoTime() - start;
+    sink += result;
+    return iterations == 0 ? 0 : (double) duration / iterations;
+  }
+
+  private static double timeHashCode(Object object, int iterations) {
+    int result = 0;
+    long start = System.nanoTime();
+    for (int i = 0; i < iterations; i++) {
+      result += object.hashCode();
+    }
+    long duration = System.nanoTime() - start;
+    sink += result;
+    return iterations == 0 ? 0 : (double) duration / iterations;
+  }
+
+  private static double timeToString(Object object, int iterations) {
+    int result = 0;
+    long start = System.nanoTime();
+    for (int i = 0; i < iterations; i++) {
+      result += object.toString().length();
+    }
+    long duration = System.nanoTime() - start;
+    sink += result;
+    return iterations == 0 ? 0 : (double) duration / iterations;
+  }
+
+  private static String format(double nanos) {
+    return String.format(Locale.ROOT, "%.1f", Double.valueOf(nanos));
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * =========================================== unittest-utilities ===========================================
+ *
+ * Project Info: https://github.com/Lonzak/unittest-utilities
+ *
+ * (C) Copyright 2012-2025 nepatec GmbH
+ *
+ * This file is part of unittest-utilities
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version. This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details. You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package net.lonzak.common.unittest;
+
+import java.io.PrintStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Prints each distinct warning (class, property and message) only once and at most a limited number of warnings per
+ * class. Repetitions and suppressed warnings are counted and summarized in one line after the test of the class.
+ *
+ * Usage:
+ *
+ * <pre>
+ * {@code
+ * AutoTester.setWarningSink(new DeduplicatingWarningSink(System.out, 5));
+ * }
+ * </pre>
+ *
+ * @author Lonzak
+ *
+ */
+public final class DeduplicatingWarningSink implements WarningSink {
+
+  private static final int DEFAULT_MAX_PER_CLASS = 20;
+
+  private final PrintStream out;
+  private final int maxPerClass;
+  // distinct warnings of the current class -> occurrences
+  private final Map<String, Occurrence> occurrences = new LinkedHashMap<>();
+  private int printed;
+
+  /**
+   * Prints at most 20 distinct warnings per class to <code>System.err</code>.
+   */
+  public DeduplicatingWarningSink() {
+    this(System.err, DEFAULT_MAX_PER_CLASS);
+  }
+
+  /**
+   *
+   * @param out the stream to print to
+   * @param maxPerClass the maximum number of printed warnings per class
+   */
+  public DeduplicatingWarningSink(PrintStream out, int maxPerClass) {
+    if (out == null) {
+      throw new IllegalArgumentException("The stream can not be null!");
+    }
+    if (maxPerClass < 0) {
+      throw new IllegalArgumentException("The maximum number of warnings can not be negative (" + maxPerClass + ")!");
+    }
+    this.out = out;
+    this.maxPerClass = maxPerClass;
+  }
+
+  @Override
+  public synchronized void warn(String className, String property, String message) {
+    String key = className + '\u0000' + property + '\u0000' + message;
+    Occurrence occurrence = this.occurrences.get(key);
+    if (occurrence == null) {
+      boolean print = this.printed < this.maxPerClass;
+      occurrence = new Occurrence(property, print);
+      this.occurrences.put(key, occurrence);
+      if (print) {
+        this.printed++;
+        this.out.println(message);
+      }
+    }
+    occurrence.count++;
+  }
+
+  @Override
+  public synchronized void classFinished(String className) {
+    int total = 0;
+    int suppressed = 0;
+    // number of suppressed warnings per property
+    Map<String, int[]> properties = new LinkedHashMap<>();
+    for (Occurrence occurrence : this.occurrences.values()) {
+      total += occurrence.count;
+      int hidden = occurrence.count - (occurrence.printed ? 1 : 0);
+      if (hidden > 0) {
+        suppressed += hidden;
+        properties.computeIfAbsent(occurrence.property == null ? "-" : occurrence.property, p -> new int[1])[0] +=
+            hidden;
+      }
+    }
+    if (suppressed > 0) {
+      StringBuilder summary = new StringBuilder();
+      for (Entry<String, int[]> entry : properties.entrySet()) {
+        summary.append(summary.length() == 0 ? "" : ", ").append(entry.getKey()).append(" x")
+            .append(entry.getValue()[0]);
+      }
+      this.out.println(className + ": " + suppressed + " of " + total + " warning(s) suppressed (" + summary + ")");
+    }
+    this.occurrences.clear();
+    this.printed = 0;
+  }
+
+  @Override
+  public String toString() {
+    return "DeduplicatingWarningSink [maxPerClass=" + this.maxPerClass + "]";
+  }
+
+  private static final class Occurrence {
+
+    private final String property;
+    private final boolean printed;
+    private int count;
+
+    Occurrence(String property, boolean printed) {
+      this.property = property;
+      this.printed = printed;
+    }
+  }
+}
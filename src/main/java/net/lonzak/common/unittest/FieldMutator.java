@@ -0,0 +1,283 @@
+/*
+ * =========================================== unittest-utilities ===========================================
+ *
+ * Project Info: https://github.com/Lonzak/unittest-utilities
+ *
+ * (C) Copyright 2012-2025 nepatec GmbH
+ *
+ * This file is part of unittest-utilities
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version. This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details. You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package net.lonzak.common.unittest;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.invoke.VarHandle.AccessMode;
+import java.lang.reflect.Field;
+import java.lang.reflect.InaccessibleObjectException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Writes each field of an object directly (instead of calling a setter) and checks that equals() and hashCode() react
+ * consistently. Thus final fields and classes without setters are covered as well. The fields are accessed via cached
+ * {@link VarHandle}s, final fields (which a {@link VarHandle} can not write) via {@link Field#set(Object, Object)}.
+ * After each check the original value is restored. Like the setter check, every field compared by equals() has to
+ * change the hashCode. A hash cached in the constructor (an int field which only hashCode() reads and which holds the
+ * hashCode) is not written and neither are the fields which only equals() compares since a direct write does not
+ * update the cached hash.
+ *
+ * @author Lonzak
+ *
+ */
+final class FieldMutator {
+
+  // attempts to generate a value which differs from the current one
+  private static final int ATTEMPTS = 3;
+
+  private static final ClassValue<Accessors> ACCESSORS = new ClassValue<Accessors>() {
+    @Override
+    protected Accessors computeValue(Class<?> type) {
+      return createAccessors(type);
+    }
+  };
+
+  // only static methods thus no instantiation
+  private FieldMutator() {}
+
+  /**
+   *
+   * @param dtoClass the tested class
+   * @param constructedObjects pairs of equal objects
+   * @param implOfAbstractClasses implementations for abstract field types
+   * @param ignorePropertiesForGetSetTest fields which are not written
+   * @param fieldUsage fields which equals() and hashCode() use (fields of the class which are used by neither are
+   *        skipped)
+   * @throws PotentialErrorDetected if equals() and hashCode() react inconsistently on a field change
+   */
+  static void check(Class<?> dtoClass, HashMap<Object, Object> constructedObjects,
+      List<Class<?>> implOfAbstractClasses, List<String> ignorePropertiesForGetSetTest, FieldUsage fieldUsage)
+      throws ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException {
+
+    ObjectGraph graph = new ObjectGraph(AutoTester.getGraphBudget());
+    graph.add(dtoClass);
+
+    Accessors cached = ACCESSORS.get(dtoClass);
+    // reported by every run (the accessors are only created once)
+    for (String field : cached.inaccessible) {
+      AutoTester.warn(dtoClass.getSimpleName() + ": The field " + field
+          + " can not be written (module system) thus it is skipped!");
+    }
+    FieldAccessor[] accessors = cached.accessors;
+    Set<String> cachedHashes = cachedHashes(dtoClass, accessors, constructedObjects, fieldUsage);
+    Set<String> equalsOnly = fieldUsage.getEqualsOnlyFields();
+
+    for (FieldAccessor accessor : accessors) {
+      Field field = accessor.field;
+      if (ignorePropertiesForGetSetTest.contains(field.getName())) {
+        continue;
+      }
+      // a direct write would leave the cached hash inconsistent with the fields it is derived from
+      if (field.getDeclaringClass() == dtoClass && (cachedHashes.contains(field.getName())
+          || !cachedHashes.isEmpty() && equalsOnly.contains(field.getName()))) {
+        continue;
+      }
+      // the bytecode shows that neither equals() nor hashCode() read the field
+      if (fieldUsage.isKnown() && field.getDeclaringClass() == dtoClass
+          && !fieldUsage.getEqualsFields().contains(field.getName())
+          && !fieldUsage.getHashCodeFields().contains(field.getName())) {
+        continue;
+      }
+
+      for (Entry<Object, Object> entry : constructedObjects.entrySet()) {
+        Object left = entry.getKey();
+        Object right = entry.getValue();
+
+        Object oldValue = accessor.get(left);
+        Object newValue = createDifferentValue(graph, field, oldValue, implOfAbstractClasses);
+        if (newValue == null) {
+          // no different value could be generated - null is not written since the class might not allow it
+          continue;
+        }
+
+        AutoTester.setCurrentProperty(field.getName());
+        int oldHashCode = AutoTester.callHashCode(left);
+        accessor.set(left, newValue);
+        try {
+          boolean hashCodeChanged = oldHashCode != AutoTester.callHashCode(left);
+          boolean equalsChanged = !AutoTester.callEquals(left, right);
+
+          if (hashCodeChanged && !equalsChanged) {
+            throw new PotentialErrorDetected("Error in " + dtoClass.getSimpleName() + ": changed the field ("
+                + field.getName() + ") to " + toString(newValue)
+                + " and the hashCode did change however the result of equals did not! This violates the invariant that equal objects must have equal hashcodes. (Interface contract for Object states: if two objects are equal according to equals(), then they must have the same hashCode() value.)");
+          }
+          if (!hashCodeChanged && equalsChanged) {
+            throw new PotentialErrorDetected("Error in " + dtoClass.getSimpleName() + ": changed the field ("
+                + field.getName() + ") to " + toString(newValue)
+                + " and the hashCode did not change however the result of equals did! This violates the invariant that equal objects must have equal hashcodes. (Interface contract for Object states: if two objects are equal according to equals(), then they must have the same hashCode() value.)");
+          }
+        }
+        finally {
+          accessor.set(left, oldValue);
+        }
+      }
+    }
+    AutoTester.setCurrentProperty(null);
+  }
+
+  private static Object createDifferentValue(ObjectGraph graph, Field field, Object oldValue,
+      List<Class<?>> implOfAbstractClasses)
+      throws ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException {
+    if (field.getType() == boolean.class) {
+      return Boolean.valueOf(!((Boolean) oldValue).booleanValue());
+    }
+
+    Object[] argListLeft = new Object[1];
+    Object[] argListRight = new Object[1];
+    for (int i = 0; i < ATTEMPTS; i++) {
+      graph.startGraph();
+      AutoTester.fillEverything(graph, new Class<?>[] {field.getType()}, new Type[] {field.getGenericType()},
+          argListLeft, argListRight, implOfAbstractClasses, SpecialValueLocator.NONE, false);
+      if (argListLeft[0] != null && !Objects.deepEquals(argListLeft[0], oldValue)) {
+        return argListLeft[0];
+      }
+    }
+    return null;
+  }
+
+  /**
+   *
+   * @return the own int fields which only hashCode() reads and which hold the hashCode of every constructed object
+   *         (a hash cached in the constructor)
+   */
+  private static Set<String> cachedHashes(Class<?> dtoClass, FieldAccessor[] accessors,
+      HashMap<Object, Object> constructedObjects, FieldUsage fieldUsage) throws IllegalAccessException {
+    Set<String> cachedHashes = new HashSet<>();
+    if (!fieldUsage.isKnown() || constructedObjects.isEmpty()) {
+      return cachedHashes;
+    }
+    Set<String> hashCodeOnly = fieldUsage.getHashCodeOnlyFields();
+    for (FieldAccessor accessor : accessors) {
+      Field field = accessor.field;
+      if (field.getDeclaringClass() != dtoClass || field.getType() != int.class
+          || !hashCodeOnly.contains(field.getName())) {
+        continue;
+      }
+      boolean cached = true;
+      for (Object object : constructedObjects.keySet()) {
+        cached &= ((Integer) accessor.get(object)).intValue() == AutoTester.callHashCode(object);
+      }
+      if (cached) {
+        cachedHashes.add(field.getName());
+      }
+    }
+    return cachedHashes;
+  }
+
+  private static String toString(Object value) {
+    return value != null && value.getClass().isArray() ? Arrays.deepToString(new Object[] {value}) : String.valueOf(value);
+  }
+
+  private static Accessors createAccessors(Class<?> dtoClass) {
+    List<FieldAccessor> accessors = new ArrayList<>();
+    List<String> inaccessible = new ArrayList<>();
+    for (Class<?> current = dtoClass; current != null && current != Object.class; current = current.getSuperclass()) {
+      for (Field field : current.getDeclaredFields()) {
+        int modifiers = field.getModifiers();
+        // transient fields are typically caches (e.g. a cached hashCode)
+        if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()) {
+          continue;
+        }
+        FieldAccessor accessor = FieldAccessor.create(field);
+        if (accessor != null) {
+          accessors.add(accessor);
+        } else {
+          inaccessible.add(field.getName());
+        }
+      }
+    }
+    return new Accessors(accessors.toArray(new FieldAccessor[accessors.size()]), inaccessible);
+  }
+
+  /**
+   * The accessors of the writable fields of a class and the names of the fields which can not be written.
+   */
+  private static final class Accessors {
+
+    private final FieldAccessor[] accessors;
+    private final List<String> inaccessible;
+
+    private Accessors(FieldAccessor[] accessors, List<String> inaccessible) {
+      this.accessors = accessors;
+      this.inaccessible = inaccessible;
+    }
+  }
+
+  /**
+   * Reads and writes one field: via a {@link VarHandle} or (final fields) via reflection.
+   */
+  private static final class FieldAccessor {
+
+    private final Field field;
+    private final VarHandle handle;
+    private final boolean writable;
+
+    private FieldAccessor(Field field, VarHandle handle) {
+      this.field = field;
+      this.handle = handle;
+      this.writable = handle != null && handle.isAccessModeSupported(AccessMode.SET);
+    }
+
+    static FieldAccessor create(Field field) {
+      try {
+        field.setAccessible(true);
+      }
+      catch (InaccessibleObjectException e) {
+        return null;
+      }
+      VarHandle handle;
+      try {
+        handle = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup())
+            .unreflectVarHandle(field);
+      }
+      catch (IllegalAccessException e) {
+        // the reflective access is used instead
+        handle = null;
+      }
+      return new FieldAccessor(field, handle);
+    }
+
+    Object get(Object target) throws IllegalAccessException {
+      if (this.handle != null) {
+        return this.handle.get(target);
+      }
+      return this.field.get(target);
+    }
+
+    void set(Object target, Object value) throws IllegalAccessException {
+      if (this.writable) {
+        this.handle.set(target, value);
+      } else {
+        // final fields
+        this.field.set(target, value);
+      }
+    }
+  }
+}
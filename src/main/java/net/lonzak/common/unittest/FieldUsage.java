@@ -0,0 +1,500 @@
+/*
+ * =========================================== unittest-utilities ===========================================
+ *
+ * Project Info: https://github.com/Lonzak/unittest-utilities
+ *
+ * (C) Copyright 2012-2025 nepatec GmbH
+ *
+ * This file is part of unittest-utilities
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version. This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details. You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package net.lonzak.common.unittest;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Static analysis of the bytecode of a class: determines which (own, non static) fields are read by equals() and
+ * hashCode() and which fields are written by the setters. Only the class file of the class itself is parsed (a minimal
+ * parser of the constant pool and the code attributes - no bytecode library is needed). Calls to other methods of the
+ * same class are followed.
+ * <p>
+ * The result is unknown if the class file can not be read or if equals() or hashCode() call methods of a super class
+ * (e.g. super.equals()), use invokedynamic or read no own fields at all (e.g. reflection based implementations).
+ *
+ * @author Lonzak
+ *
+ */
+final class FieldUsage {
+
+  private static final FieldUsage UNKNOWN = new FieldUsage();
+
+  private static final ClassValue<FieldUsage> CACHE = new ClassValue<FieldUsage>() {
+    @Override
+    protected FieldUsage computeValue(Class<?> type) {
+      return analyze(type);
+    }
+  };
+
+  // constant pool tags
+  private static final int UTF8 = 1;
+  private static final int LONG = 5;
+  private static final int DOUBLE = 6;
+  private static final int CLASS = 7;
+
+  // opcodes
+  private static final int TABLESWITCH = 0xaa;
+  private static final int LOOKUPSWITCH = 0xab;
+  private static final int GETFIELD = 0xb4;
+  private static final int PUTFIELD = 0xb5;
+  private static final int INVOKEVIRTUAL = 0xb6;
+  private static final int INVOKESPECIAL = 0xb7;
+  private static final int INVOKESTATIC = 0xb8;
+  private static final int INVOKEINTERFACE = 0xb9;
+  private static final int INVOKEDYNAMIC = 0xba;
+  private static final int WIDE = 0xc4;
+  private static final int IINC = 0x84;
+
+  // length of each instruction (including the opcode), 0 = variable length
+  private static final byte[] LENGTHS = new byte[256];
+
+  static {
+    Arrays.fill(LENGTHS, (byte) 1);
+    LENGTHS[0x10] = 2; // bipush
+    LENGTHS[0x11] = 3; // sipush
+    LENGTHS[0x12] = 2; // ldc
+    LENGTHS[0x13] = 3; // ldc_w
+    LENGTHS[0x14] = 3; // ldc2_w
+    for (int opcode = 0x15; opcode <= 0x19; opcode++) {
+      LENGTHS[opcode] = 2; // xload
+    }
+    for (int opcode = 0x36; opcode <= 0x3a; opcode++) {
+      LENGTHS[opcode] = 2; // xstore
+    }
+    LENGTHS[IINC] = 3;
+    for (int opcode = 0x99; opcode <= 0xa8; opcode++) {
+      LENGTHS[opcode] = 3; // if, goto, jsr
+    }
+    LENGTHS[0xa9] = 2; // ret
+    LENGTHS[TABLESWITCH] = 0;
+    LENGTHS[LOOKUPSWITCH] = 0;
+    for (int opcode = 0xb2; opcode <= 0xb8; opcode++) {
+      LENGTHS[opcode] = 3; // field access, invokevirtual/special/static
+    }
+    LENGTHS[INVOKEINTERFACE] = 5;
+    LENGTHS[INVOKEDYNAMIC] = 5;
+    LENGTHS[0xbb] = 3; // new
+    LENGTHS[0xbc] = 2; // newarray
+    LENGTHS[0xbd] = 3; // anewarray
+    LENGTHS[0xc0] = 3; // checkcast
+    LENGTHS[0xc1] = 3; // instanceof
+    LENGTHS[WIDE] = 0;
+    LENGTHS[0xc5] = 4; // multianewarray
+    LENGTHS[0xc6] = 3; // ifnull
+    LENGTHS[0xc7] = 3; // ifnonnull
+    LENGTHS[0xc8] = 5; // goto_w
+    LENGTHS[0xc9] = 5; // jsr_w
+  }
+
+  private final boolean known;
+  private final Set<String> equalsFields;
+  private final Set<String> hashCodeFields;
+  // setter (name + descriptor) -> own fields which are read or written by the setter
+  private final Map<String, Set<String>> setterFields;
+
+  private FieldUsage() {
+    this.known = false;
+    this.equalsFields = Collections.emptySet();
+    this.hashCodeFields = Collections.emptySet();
+    this.setterFields = Collections.emptyMap();
+  }
+
+  private FieldUsage(Set<String> equalsFields, Set<String> hashCodeFields, Map<String, Set<String>> setterFields) {
+    this.known = true;
+    this.equalsFields = Collections.unmodifiableSet(equalsFields);
+    this.hashCodeFields = Collections.unmodifiableSet(hashCodeFields);
+    this.setterFields = setterFields;
+  }
+
+  /**
+   *
+   * @param dtoClass the class to analyze
+   * @return the (cached) field usage of equals(), hashCode() and the setters
+   */
+  static FieldUsage of(Class<?> dtoClass) {
+    return CACHE.get(dtoClass);
+  }
+
+  /**
+   *
+   * @return true if the fields of equals() and hashCode() could be determined
+   */
+  boolean isKnown() {
+    return this.known;
+  }
+
+  /**
+   *
+   * @return the own fields which are read by equals()
+   */
+  Set<String> getEqualsFields() {
+    return this.equalsFields;
+  }
+
+  /**
+   *
+   * @return the own fields which are read by hashCode() (fields which hashCode() writes, e.g. a cached hash, excluded)
+   */
+  Set<String> getHashCodeFields() {
+    return this.hashCodeFields;
+  }
+
+  /**
+   *
+   * @return the fields used by hashCode() but not compared by equals() (only correct if derived from compared
+   *         fields, e.g. a cached hash)
+   */
+  Set<String> getHashCodeOnlyFields() {
+    Set<String> fields = new TreeSet<>(this.hashCodeFields);
+    fields.removeAll(this.equalsFields);
+    return fields;
+  }
+
+  /**
+   *
+   * @return the fields compared by equals() but not used by hashCode() (the equals/hashCode check fails for them)
+   */
+  Set<String> getEqualsOnlyFields() {
+    Set<String> fields = new TreeSet<>(this.equalsFields);
+    fields.removeAll(this.hashCodeFields);
+    return fields;
+  }
+
+  /**
+   *
+   * @param setter a setter of the analyzed class
+   * @return true if the setter provably only touches fields which neither equals() nor hashCode() use
+   */
+  boolean isIrrelevant(Method setter) {
+    if (!this.known) {
+      return false;
+    }
+    Set<String> fields = this.setterFields.get(setter.getName() + descriptor(setter));
+    if (fields == null || fields.isEmpty()) {
+      return false;
+    }
+    return Collections.disjoint(fields, this.equalsFields) && Collections.disjoint(fields, this.hashCodeFields);
+  }
+
+  private static FieldUsage analyze(Class<?> dtoClass) {
+    String name = dtoClass.getName();
+    try (InputStream in = dtoClass.getResourceAsStream(name.substring(name.lastIndexOf('.') + 1) + ".class")) {
+      if (in == null) {
+        return UNKNOWN;
+      }
+      ClassFile classFile = new ClassFile(in.readAllBytes());
+      Set<String> superClasses = new HashSet<>();
+      for (Class<?> superClass = dtoClass.getSuperclass(); superClass != null; superClass =
+          superClass.getSuperclass()) {
+        superClasses.add(superClass.getName().replace('.', '/'));
+      }
+
+      Scan equalsScan = classFile.scan("equals(Ljava/lang/Object;)Z", superClasses);
+      Scan hashCodeScan = classFile.scan("hashCode()I", superClasses);
+      if (!equalsScan.complete || !hashCodeScan.complete || equalsScan.reads.isEmpty()
+          || hashCodeScan.reads.isEmpty()) {
+        return UNKNOWN;
+      }
+      // fields written by hashCode() are caches (e.g. private int hash)
+      hashCodeScan.reads.removeAll(hashCodeScan.writes);
+
+      Map<String, Set<String>> setterFields = new HashMap<>();
+      for (String method : classFile.methods.keySet()) {
+        if (method.startsWith("set") && method.endsWith(")V")) {
+          Scan setterScan = classFile.scan(method, superClasses);
+          if (setterScan.complete) {
+            Set<String> fields = new HashSet<>(setterScan.reads);
+            fields.addAll(setterScan.writes);
+            setterFields.put(method, fields);
+          }
+        }
+      }
+      return new FieldUsage(equalsScan.reads, hashCodeScan.reads, setterFields);
+    }
+    catch (IOException | RuntimeException e) {
+      // unsupported or corrupt class file - the dynamic checks still apply
+      return UNKNOWN;
+    }
+  }
+
+  private static String descriptor(Method method) {
+    StringBuilder descriptor = new StringBuilder("(");
+    for (Class<?> parameter : method.getParameterTypes()) {
+      descriptor.append(descriptor(parameter));
+    }
+    return descriptor.append(')').append(descriptor(method.getReturnType())).toString();
+  }
+
+  private static String descriptor(Class<?> type) {
+    if (type.isArray()) {
+      return type.getName().replace('.', '/');
+    }
+    if (type.isPrimitive()) {
+      if (type == void.class) {
+        return "V";
+      }
+      if (type == boolean.class) {
+        return "Z";
+      }
+      if (type == long.class) {
+        return "J";
+      }
+      return String.valueOf(Character.toUpperCase(type.getName().charAt(0)));
+    }
+    return "L" + type.getName().replace('.', '/') + ";";
+  }
+
+  @Override
+  public String toString() {
+    return "FieldUsage [known=" + this.known + ", equalsFields=" + this.equalsFields + ", hashCodeFields="
+        + this.hashCodeFields + "]";
+  }
+
+  /**
+   * The own fields read and written by a method (and the own methods it calls).
+   */
+  private static final class Scan {
+    private final Set<String> reads = new HashSet<>();
+    private final Set<String> writes = new HashSet<>();
+    private boolean complete = true;
+  }
+
+  /**
+   * Minimal class file parser: the constant pool, the non static fields and the code of the methods.
+   */
+  private static final class ClassFile {
+
+    private final int[] tags;
+    private final String[] utf8;
+    private final int[] first;
+    private final int[] second;
+    private final String thisClass;
+    private final Set<String> instanceFields = new HashSet<>();
+    // name + descriptor -> code (null for abstract/native methods)
+    private final Map<String, byte[]> methods = new HashMap<>();
+
+    ClassFile(byte[] bytes) throws IOException {
+      DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+      if (in.readInt() != 0xCAFEBABE) {
+        throw new IOException("Not a class file");
+      }
+      in.readUnsignedShort(); // minor
+      in.readUnsignedShort(); // major
+
+      int count = in.readUnsignedShort();
+      this.tags = new int[count];
+      this.utf8 = new String[count];
+      this.first = new int[count];
+      this.second = new int[count];
+      for (int i = 1; i < count; i++) {
+        int tag = in.readUnsignedByte();
+        this.tags[i] = tag;
+        switch (tag) {
+          case UTF8:
+            this.utf8[i] = in.readUTF();
+            break;
+          case 3: // integer
+          case 4: // float
+            in.readInt();
+            break;
+          case LONG:
+          case DOUBLE:
+            in.readLong();
+            i++;
+            break;
+          case CLASS:
+          case 8: // string
+          case 16: // method type
+          case 19: // module
+          case 20: // package
+            this.first[i] = in.readUnsignedShort();
+            break;
+          case 9: // field ref
+          case 10: // method ref
+          case 11: // interface method ref
+          case 12: // name and type
+          case 17: // dynamic
+          case 18: // invoke dynamic
+            this.first[i] = in.readUnsignedShort();
+            this.second[i] = in.readUnsignedShort();
+            break;
+          case 15: // method handle
+            in.readUnsignedByte();
+            in.readUnsignedShort();
+            break;
+          default:
+            throw new IOException("Unknown constant pool tag " + tag);
+        }
+      }
+
+      in.readUnsignedShort(); // access flags
+      this.thisClass = className(in.readUnsignedShort());
+      in.readUnsignedShort(); // super class
+      in.skipBytes(2 * in.readUnsignedShort()); // interfaces
+
+      int fields = in.readUnsignedShort();
+      for (int i = 0; i < fields; i++) {
+        int access = in.readUnsignedShort();
+        String name = this.utf8[in.readUnsignedShort()];
+        in.readUnsignedShort(); // descriptor
+        skipAttributes(in);
+        // ACC_STATIC
+        if ((access & 0x0008) == 0) {
+          this.instanceFields.add(name);
+        }
+      }
+
+      int methodCount = in.readUnsignedShort();
+      for (int i = 0; i < methodCount; i++) {
+        in.readUnsignedShort(); // access flags
+        String name = this.utf8[in.readUnsignedShort()] + this.utf8[in.readUnsignedShort()];
+        byte[] code = null;
+        int attributes = in.readUnsignedShort();
+        for (int j = 0; j < attributes; j++) {
+          String attribute = this.utf8[in.readUnsignedShort()];
+          int length = in.readInt();
+          if ("Code".equals(attribute)) {
+            in.readUnsignedShort(); // max stack
+            in.readUnsignedShort(); // max locals
+            code = new byte[in.readInt()];
+            in.readFully(code);
+            in.skipBytes(length - 8 - code.length);
+          } else {
+            in.skipBytes(length);
+          }
+        }
+        this.methods.put(name, code);
+      }
+    }
+
+    private static void skipAttributes(DataInputStream in) throws IOException {
+      int attributes = in.readUnsignedShort();
+      for (int j = 0; j < attributes; j++) {
+        in.readUnsignedShort();
+        in.skipBytes(in.readInt());
+      }
+    }
+
+    private String className(int index) {
+      return this.utf8[this.first[index]];
+    }
+
+    Scan scan(String method, Set<String> superClasses) {
+      Scan scan = new Scan();
+      scan(method, superClasses, scan, new HashSet<String>());
+      return scan;
+    }
+
+    private void scan(String method, Set<String> superClasses, Scan scan, Set<String> visited) {
+      if (!visited.add(method)) {
+        return;
+      }
+      byte[] code = this.methods.get(method);
+      if (code == null) {
+        // inherited, abstract or native
+        scan.complete = false;
+        return;
+      }
+
+      int pc = 0;
+      while (pc < code.length) {
+        int opcode = code[pc] & 0xff;
+        switch (opcode) {
+          case GETFIELD:
+          case PUTFIELD: {
+            int ref = index(code, pc + 1);
+            String owner = className(this.first[ref]);
+            String name = this.utf8[this.first[this.second[ref]]];
+            if (owner.equals(this.thisClass) && this.instanceFields.contains(name)) {
+              (opcode == GETFIELD ? scan.reads : scan.writes).add(name);
+            } else if (opcode == PUTFIELD) {
+              // writes a field of another (or the super) class
+              scan.complete = false;
+            }
+            break;
+          }
+          case INVOKEVIRTUAL:
+          case INVOKESPECIAL:
+          case INVOKESTATIC:
+          case INVOKEINTERFACE: {
+            int ref = index(code, pc + 1);
+            String owner = className(this.first[ref]);
+            int nameAndType = this.second[ref];
+            String name = this.utf8[this.first[nameAndType]];
+            String target = name + this.utf8[this.second[nameAndType]];
+            if (owner.equals(this.thisClass)) {
+              if (!"<init>".equals(name)) {
+                scan(target, superClasses, scan, visited);
+              }
+            } else if (superClasses.contains(owner) && !"getClass()Ljava/lang/Class;".equals(target)) {
+              // e.g. super.equals() or an inherited getter
+              scan.complete = false;
+            }
+            break;
+          }
+          case INVOKEDYNAMIC:
+            scan.complete = false;
+            break;
+          default:
+            break;
+        }
+        pc += length(code, pc);
+      }
+    }
+
+    private static int index(byte[] code, int pc) {
+      return ((code[pc] & 0xff) << 8) | (code[pc + 1] & 0xff);
+    }
+
+    private static int integer(byte[] code, int pc) {
+      return (index(code, pc) << 16) | index(code, pc + 2);
+    }
+
+    private static int length(byte[] code, int pc) {
+      int opcode = code[pc] & 0xff;
+      int length = LENGTHS[opcode];
+      if (length > 0) {
+        return length;
+      }
+      if (opcode == WIDE) {
+        return (code[pc + 1] & 0xff) == IINC ? 6 : 4;
+      }
+      // switch instructions are 4 byte aligned
+      int start = (pc + 4) & ~3;
+      if (opcode == TABLESWITCH) {
+        int low = integer(code, start + 4);
+        int high = integer(code, start + 8);
+        return start - pc + 12 + 4 * (high - low + 1);
+      }
+      // lookupswitch
+      return start - pc + 8 + 8 * integer(code, start + 4);
+    }
+  }
+}
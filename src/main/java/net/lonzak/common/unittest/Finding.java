@@ -0,0 +1,179 @@
+/*
+ * =========================================== unittest-utilities ===========================================
+ *
+ * Project Info: https://github.com/Lonzak/unittest-utilities
+ *
+ * (C) Copyright 2012-2025 nepatec GmbH
+ *
+ * This file is part of unittest-utilities
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version. This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details. You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package net.lonzak.common.unittest;
+
+import java.util.Objects;
+
+/**
+ * One finding of an {@link AutoTester} run: an error or a warning of a class, phase and (if known) property and
+ * constructor. The seed reproduces the generated values (cp. {@link AutoTester#setSeed(Long)}).
+ *
+ * @author Lonzak
+ *
+ */
+public final class Finding {
+
+  /**
+   * The severity of a finding.
+   */
+  public enum Severity {
+    /**
+     * The class violates a contract or a configured limit.
+     */
+    ERROR,
+
+    /**
+     * Something could not be tested or looks suspicious.
+     */
+    WARNING,
+
+    /**
+     * A measurement of a passed check e.g. the costs, allocations or serialized size of a class.
+     */
+    INFO
+  }
+
+  private final Severity severity;
+  private final String className;
+  private final Phase phase;
+  private final String property;
+  private final int constructor;
+  private final String message;
+  private final long seed;
+  private final Throwable cause;
+
+  Finding(Severity severity, String className, Phase phase, String property, int constructor, String message,
+      long seed) {
+    this(severity, className, phase, property, constructor, message, seed, null);
+  }
+
+  Finding(Severity severity, String className, Phase phase, String property, int constructor, String message,
+      long seed, Throwable cause) {
+    this.severity = severity;
+    this.className = className;
+    this.phase = phase;
+    this.property = property;
+    this.constructor = constructor;
+    this.message = message;
+    this.seed = seed;
+    this.cause = cause;
+  }
+
+  /**
+   *
+   * @return the severity
+   */
+  public Severity getSeverity() {
+    return this.severity;
+  }
+
+  /**
+   *
+   * @return the name of the tested class (or null if the finding is not related to a class)
+   */
+  public String getClassName() {
+    return this.className;
+  }
+
+  /**
+   *
+   * @return the phase (or null if the finding is not related to a phase)
+   */
+  public Phase getPhase() {
+    return this.phase;
+  }
+
+  /**
+   *
+   * @return the property or null if the finding is not related to a property
+   */
+  public String getProperty() {
+    return this.property;
+  }
+
+  /**
+   *
+   * @return the number of the constructor in {@link Class#getConstructors()} (or in
+   *         {@link Class#getDeclaredConstructors()} if it is not public) starting at 1 or 0 if the finding is not related
+   *         to a constructor
+   */
+  public int getConstructor() {
+    return this.constructor;
+  }
+
+  /**
+   *
+   * @return the message
+   */
+  public String getMessage() {
+    return this.message;
+  }
+
+  /**
+   *
+   * @return the seed of the random values
+   */
+  public long getSeed() {
+    return this.seed;
+  }
+
+  /**
+   *
+   * @return the exception which caused the error (with its stack trace) or null
+   */
+  public Throwable getCause() {
+    return this.cause;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(this.className, Integer.valueOf(this.constructor), this.message, this.phase, this.property,
+        Long.valueOf(this.seed), this.severity);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null) {
+      return false;
+    }
+    if (this.getClass() != obj.getClass()) {
+      return false;
+    }
+    Finding other = (Finding) obj;
+    return Objects.equals(this.className, other.className) && this.constructor == other.constructor
+        && Objects.equals(this.message, other.message) && this.phase == other.phase
+        && Objects.equals(this.property, other.property) && this.seed == other.seed
+        && this.severity == other.severity;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder().append(this.severity).append(' ').append(this.className).append(" [")
+        .append(this.phase);
+    if (this.property != null) {
+      builder.append(", property=").append(this.property);
+    }
+    if (this.constructor > 0) {
+      builder.append(", constructor=").append(this.constructor);
+    }
+    return builder.append(", seed=").append(this.seed).append("]: ").append(this.message).toString();
+  }
+}
@@ -0,0 +1,169 @@
+/*
+ * =========================================== unittest-utilities ===========================================
+ *
+ * Project Info: https://github.com/Lonzak/unittest-utilities
+ *
+ * (C) Copyright 2012-2025 nepatec GmbH
+ *
+ * This file is part of unittest-utilities
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version. This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details. You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package net.lonzak.common.unittest;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Java Flight Recorder events of the {@link AutoTester}. All events are disabled by default thus they cost nothing
+ * unless a recording enables them, e.g.:
+ *
+ * <pre>
+ * {@code
+ * -XX:StartFlightRecording:settings=profile,+net.lonzak.unittest.Phase#enabled=true
+ * }
+ * </pre>
+ *
+ * The events then show up next to the GC and lock events in JDK Mission Control (category "AutoTester").
+ *
+ * @author Lonzak
+ *
+ */
+final class FlightRecorderEvents {
+
+  private static final String CATEGORY = "AutoTester";
+
+  // only nested event classes thus no instantiation
+  private FlightRecorderEvents() {}
+
+  @Name("net.lonzak.unittest.ClassTest")
+  @Label("Class Test")
+  @Description("Test of one class by the AutoTester")
+  @Category(CATEGORY)
+  @Enabled(false)
+  @StackTrace(false)
+  static final class ClassTestEvent extends Event {
+    @Label("Tested Class")
+    Class<?> testedClass;
+
+    @Label("Constructed Objects")
+    long objects;
+
+    void finish(Class<?> dtoClass, long constructedObjects) {
+      end();
+      if (shouldCommit()) {
+        this.testedClass = dtoClass;
+        this.objects = constructedObjects;
+        commit();
+      }
+    }
+  }
+
+  @Name("net.lonzak.unittest.Phase")
+  @Label("Phase")
+  @Description("One phase of the test of a class")
+  @Category(CATEGORY)
+  @Enabled(false)
+  @StackTrace(false)
+  static final class PhaseEvent extends Event {
+    @Label("Tested Class")
+    Class<?> testedClass;
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Constructed Objects")
+    long objects;
+
+    void finish(Class<?> dtoClass, Phase finishedPhase, long constructedObjects) {
+      end();
+      if (shouldCommit()) {
+        this.testedClass = dtoClass;
+        this.phase = finishedPhase.name();
+        this.objects = constructedObjects;
+        commit();
+      }
+    }
+  }
+
+  @Name("net.lonzak.unittest.ConstructorInvocation")
+  @Label("Constructor Invocation")
+  @Description("Construction of an object pair (without the generation of the parameters)")
+  @Category(CATEGORY)
+  @Enabled(false)
+  @StackTrace(false)
+  static final class ConstructorEvent extends Event {
+    @Label("Constructed Class")
+    Class<?> constructedClass;
+
+    @Label("Constructor")
+    String constructor;
+
+    void finish(Constructor<?> invoked) {
+      end();
+      if (shouldCommit()) {
+        this.constructedClass = invoked.getDeclaringClass();
+        this.constructor = invoked.toString();
+        commit();
+      }
+    }
+  }
+
+  @Name("net.lonzak.unittest.Generator")
+  @Label("Value Generation")
+  @Description("Generation of the values of constructor or method parameters")
+  @Category(CATEGORY)
+  @Enabled(false)
+  @StackTrace(false)
+  static final class GeneratorEvent extends Event {
+    @Label("Parameter Types")
+    String parameterTypes;
+
+    void finish(Class<?>[] parameters) {
+      end();
+      if (shouldCommit()) {
+        this.parameterTypes = Arrays.toString(parameters);
+        commit();
+      }
+    }
+  }
+
+  @Name("net.lonzak.unittest.SlowInvocation")
+  @Label("Slow Invocation")
+  @Description("Invocation of a method of the tested class (e.g. a setter or getter) which exceeds the threshold")
+  @Category(CATEGORY)
+  @Enabled(false)
+  @Threshold("1 ms")
+  static final class InvocationEvent extends Event {
+    @Label("Declaring Class")
+    Class<?> declaringClass;
+
+    @Label("Method")
+    String method;
+
+    void finish(Method invoked) {
+      end();
+      if (shouldCommit()) {
+        this.declaringClass = invoked.getDeclaringClass();
+        this.method = invoked.getName();
+        commit();
+      }
+    }
+  }
+}
@@ -0,0 +1,186 @@
+/*
+ * =========================================== unittest-utilities ===========================================
+ *
+ * Project Info: https://github.com/Lonzak/unittest-utilities
+ *
+ * (C) Copyright 2012-2025 nepatec GmbH
+ *
+ * This file is part of unittest-utilities
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version. This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details. You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package net.lonzak.common.unittest;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves the type arguments of generic parameter types like <code>List&lt;List&lt;String&gt;&gt;</code>,
+ * <code>Map&lt;String, Set&lt;Long&gt;&gt;</code>, <code>List&lt;? extends Number&gt;</code> or
+ * <code>List&lt;T&gt;</code>. The results are cached per raw class.
+ * <p>
+ * The resolved arguments are either a {@link Class}, a {@link ParameterizedType} (nested generics) or a
+ * {@link GenericArrayType}. Wildcards and type variables are replaced by their bounds.
+ *
+ * @author Lonzak
+ *
+ */
+final class GenericTypeResolver {
+
+  // cached per raw class (a ClassValue does not prevent the class or its class loader from being unloaded)
+  private static final ClassValue<Map<List<Type>, Type[]>> TYPE_ARGUMENTS = new ClassValue<Map<List<Type>, Type[]>>() {
+    @Override
+    protected Map<List<Type>, Type[]> computeValue(Class<?> raw) {
+      return new ConcurrentHashMap<>();
+    }
+  };
+
+  // only static methods thus no instantiation
+  private GenericTypeResolver() {}
+
+  /**
+   * Resolves the type arguments of a type with respect to a generic super type, e.g. the element type of
+   * <code>ArrayList&lt;String&gt;</code> with respect to <code>Collection</code> or the key and value types of a
+   * <code>Properties</code> object with respect to <code>Map</code>.
+   * 
+   * @param type the (generic) type of a parameter
+   * @param target the generic super type e.g. Collection.class or Map.class
+   * @return the resolved type arguments, one for each type parameter of the target (Object if unknown)
+   */
+  static Type[] getTypeArguments(Type type, Class<?> target) {
+    Class<?> raw = getRawClass(type);
+    // e.g. List<OrderDTO>: the cache of the JDK class List would keep OrderDTO forever thus it is not cached
+    Map<List<Type>, Type[]> cache =
+        type instanceof Class || raw.getClassLoader() != null ? TYPE_ARGUMENTS.get(raw) : null;
+    List<Type> key = Arrays.asList(type, target);
+    Type[] arguments = cache == null ? null : cache.get(key);
+    if (arguments == null) {
+      arguments = resolve(type, target, new HashMap<>());
+      if (arguments == null) {
+        arguments = new Type[target.getTypeParameters().length];
+        Arrays.fill(arguments, Object.class);
+      }
+      if (cache != null) {
+        cache.put(key, arguments);
+      }
+    }
+    return arguments.clone();
+  }
+
+  /**
+   * 
+   * @param type the (generic) array type
+   * @return the resolved component type
+   */
+  static Type getComponentType(Type type) {
+    if (type instanceof GenericArrayType) {
+      return normalize(((GenericArrayType) type).getGenericComponentType(), new HashMap<>());
+    }
+    return getRawClass(type).getComponentType();
+  }
+
+  /**
+   * 
+   * @param type a class, parameterized type, generic array type, wildcard or type variable
+   * @return the erasure of the type
+   */
+  static Class<?> getRawClass(Type type) {
+    if (type instanceof Class) {
+      return (Class<?>) type;
+    } else if (type instanceof ParameterizedType) {
+      return (Class<?>) ((ParameterizedType) type).getRawType();
+    } else if (type instanceof GenericArrayType) {
+      Class<?> component = getRawClass(((GenericArrayType) type).getGenericComponentType());
+      return Array.newInstance(component, 0).getClass();
+    } else if (type instanceof WildcardType || type instanceof TypeVariable) {
+      return getRawClass(normalize(type, new HashMap<>()));
+    }
+    return Object.class;
+  }
+
+  private static Type[] resolve(Type type, Class<?> target, Map<TypeVariable<?>, Type> bindings) {
+    Class<?> raw = getRawClass(type);
+
+    if (!target.isAssignableFrom(raw)) {
+      return null;
+    }
+
+    Map<TypeVariable<?>, Type> currentBindings = new HashMap<>();
+    TypeVariable<?>[] parameters = raw.getTypeParameters();
+    if (type instanceof ParameterizedType) {
+      Type[] actual = ((ParameterizedType) type).getActualTypeArguments();
+      for (int i = 0; i < parameters.length && i < actual.length; i++) {
+        currentBindings.put(parameters[i], substitute(actual[i], bindings));
+      }
+    }
+
+    if (raw.equals(target)) {
+      Type[] arguments = new Type[parameters.length];
+      for (int i = 0; i < parameters.length; i++) {
+        Type bound = currentBindings.get(parameters[i]);
+        arguments[i] = normalize(bound == null ? parameters[i] : bound, new HashMap<>());
+      }
+      return arguments;
+    }
+
+    // walk up the hierarchy e.g. ArrayList<E> -> AbstractList<E> -> ... -> Collection<E>
+    Type superClass = raw.getGenericSuperclass();
+    if (superClass != null) {
+      Type[] arguments = resolve(superClass, target, currentBindings);
+      if (arguments != null) {
+        return arguments;
+      }
+    }
+    for (Type superInterface : raw.getGenericInterfaces()) {
+      Type[] arguments = resolve(superInterface, target, currentBindings);
+      if (arguments != null) {
+        return arguments;
+      }
+    }
+    return null;
+  }
+
+  private static Type substitute(Type type, Map<TypeVariable<?>, Type> bindings) {
+    if (type instanceof TypeVariable && bindings.containsKey(type)) {
+      return bindings.get(type);
+    }
+    return type;
+  }
+
+  /**
+   * Replaces wildcards and type variables by their bounds: <code>? extends Number</code> and <code>T extends
+   * Number</code> result in Number, <code>? super Integer</code> in Integer and <code>?</code> in Object.
+   */
+  private static Type normalize(Type type, Map<TypeVariable<?>, Boolean> visited) {
+    if (type instanceof WildcardType) {
+      WildcardType wildcard = (WildcardType) type;
+      if (wildcard.getLowerBounds().length > 0) {
+        return normalize(wildcard.getLowerBounds()[0], visited);
+      }
+      return normalize(wildcard.getUpperBounds()[0], visited);
+    } else if (type instanceof TypeVariable) {
+      TypeVariable<?> variable = (TypeVariable<?>) type;
+      // recursive bounds like T extends Comparable<T>
+      if (visited.put(variable, Boolean.TRUE) != null) {
+        return Object.class;
+      }
+      return normalize(variable.getBounds()[0], visited);
+    }
+    return type;
+  }
+}
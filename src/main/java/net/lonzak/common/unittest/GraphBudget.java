@@ -0,0 +1,134 @@
+/*
+ * =========================================== unittest-utilities ===========================================
+ *
+ * Project Info: https://github.com/Lonzak/unittest-utilities
+ *
+ * (C) Copyright 2012-2025 nepatec GmbH
+ *
+ * This file is part of unittest-utilities
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version. This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details. You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package net.lonzak.common.unittest;
+
+/**
+ * Limits the size of the object graphs which are generated for constructor and setter parameters.
+ * <p>
+ * Large aggregate roots may reference many other DTOs which again reference other DTOs and so on. Without limits the
+ * generated graphs can become very big. Values beyond the budget are replaced by an already generated sample of the
+ * same class or by <code>null</code> if no sample exists yet.
+ *
+ * Usage:
+ *
+ * <pre>
+ * {@code
+ * AutoTester.setGraphBudget(new GraphBudget(3, 500, 5, 10));
+ * }
+ * </pre>
+ *
+ * @author Lonzak
+ *
+ */
+public final class GraphBudget {
+
+  /**
+   * No limits (default).
+   */
+  public static final GraphBudget UNLIMITED =
+      new GraphBudget(Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE);
+
+  private final int maxDepth;
+  private final int maxObjects;
+  private final int maxCollectionSize;
+  private final int maxArrayLength;
+
+  /**
+   *
+   * @param maxDepth maximum nesting depth of generated objects (the tested class itself has the depth 0)
+   * @param maxObjects maximum number of objects which are constructed for one object graph
+   * @param maxCollectionSize maximum number of elements of a generated collection or map
+   * @param maxArrayLength maximum length of a generated array
+   */
+  public GraphBudget(int maxDepth, int maxObjects, int maxCollectionSize, int maxArrayLength) {
+    if (maxDepth < 0 || maxObjects < 0 || maxCollectionSize < 0 || maxArrayLength < 0) {
+      throw new IllegalArgumentException("The graph budget can not contain negative values (maxDepth=" + maxDepth
+          + ", maxObjects=" + maxObjects + ", maxCollectionSize=" + maxCollectionSize + ", maxArrayLength="
+          + maxArrayLength + ")!");
+    }
+    this.maxDepth = maxDepth;
+    this.maxObjects = maxObjects;
+    this.maxCollectionSize = maxCollectionSize;
+    this.maxArrayLength = maxArrayLength;
+  }
+
+  /**
+   *
+   * @return the maximum nesting depth
+   */
+  public int getMaxDepth() {
+    return this.maxDepth;
+  }
+
+  /**
+   *
+   * @return the maximum number of objects for one object graph
+   */
+  public int getMaxObjects() {
+    return this.maxObjects;
+  }
+
+  /**
+   *
+   * @return the maximum number of elements of a collection or map
+   */
+  public int getMaxCollectionSize() {
+    return this.maxCollectionSize;
+  }
+
+  /**
+   *
+   * @return the maximum length of an array
+   */
+  public int getMaxArrayLength() {
+    return this.maxArrayLength;
+  }
+
+  @Override
+  public int hashCode() {
+    final int prime = 31;
+    int result = 1;
+    result = prime * result + this.maxArrayLength;
+    result = prime * result + this.maxCollectionSize;
+    result = prime * result + this.maxDepth;
+    result = prime * result + this.maxObjects;
+    return result;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null) {
+      return false;
+    }
+    if (this.getClass() != obj.getClass()) {
+      return false;
+    }
+    GraphBudget other = (GraphBudget) obj;
+    return this.maxArrayLength == other.maxArrayLength && this.maxCollectionSize == other.maxCollectionSize
+        && this.maxDepth == other.maxDepth && this.maxObjects == other.maxObjects;
+  }
+
+  @Override
+  public String toString() {
+    return "GraphBudget [maxDepth=" + this.maxDepth + ", maxObjects=" + this.maxObjects + ", maxCollectionSize="
+        + this.maxCollectionSize + ", maxArrayLength=" + this.maxArrayLength + "]";
+  }
+}
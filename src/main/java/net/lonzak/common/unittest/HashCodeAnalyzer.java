@@ -0,0 +1,159 @@
+/*
+ * =========================================== unittest-utilities ===========================================
+ *
+ * Project Info: https://github.com/Lonzak/unittest-utilities
+ *
+ * (C) Copyright 2012-2025 nepatec GmbH
+ *
+ * This file is part of unittest-utilities
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version. This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details. You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package net.lonzak.common.unittest;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Measures the quality of the hashCode() of random instances (cp. {@link HashDistribution}).
+ *
+ * @author Lonzak
+ *
+ */
+final class HashCodeAnalyzer {
+
+  // below that number of distinct instances the measured values are not meaningful
+  static final int MIN_DISTINCT_INSTANCES = 32;
+
+  private final int distinctInstances;
+  private final double collisionRate;
+  private final double bucketUtilization;
+  private final double maxBitBias;
+  private final int maxBiasedBit;
+
+  private HashCodeAnalyzer(int[] hashCodes) {
+    int n = hashCodes.length;
+    this.distinctInstances = n;
+
+    // collisions: every additional instance with an already used hashCode
+    int[] sorted = hashCodes.clone();
+    Arrays.sort(sorted);
+    int uniqueHashCodes = n == 0 ? 0 : 1;
+    for (int i = 1; i < n; i++) {
+      if (sorted[i] != sorted[i - 1]) {
+        uniqueHashCodes++;
+      }
+    }
+    this.collisionRate = n == 0 ? 0 : (double) (n - uniqueHashCodes) / n;
+
+    // buckets of a HashMap which holds all instances (default load factor 0.75)
+    int tableSize = tableSizeFor((int) (n / 0.75f) + 1);
+    boolean[] occupied = new boolean[tableSize];
+    int occupiedBuckets = 0;
+    for (int hashCode : hashCodes) {
+      int bucket = (hashCode ^ (hashCode >>> 16)) & (tableSize - 1);
+      if (!occupied[bucket]) {
+        occupied[bucket] = true;
+        occupiedBuckets++;
+      }
+    }
+    double expectedBuckets = tableSize * (1 - Math.pow(1 - 1d / tableSize, n));
+    this.bucketUtilization = expectedBuckets == 0 ? 1 : occupiedBuckets / expectedBuckets;
+
+    // bias of each bit: n distinct values can only use about log2(n) bits thus the higher bits of a small value domain
+    // (e.g. a char or short key) are constant even for a good hashCode() and are not considered
+    int significantBits = uniqueHashCodes < 2 ? 0 : Integer.SIZE - 1 - Integer.numberOfLeadingZeros(uniqueHashCodes);
+    double bias = 0;
+    int biasedBit = -1;
+    for (int bit = 0; bit < significantBits; bit++) {
+      int ones = 0;
+      for (int hashCode : hashCodes) {
+        ones += (hashCode >>> bit) & 1;
+      }
+      double current = Math.abs((double) ones / n - 0.5);
+      if (current > bias) {
+        bias = current;
+        biasedBit = bit;
+      }
+    }
+    this.maxBitBias = bias;
+    this.maxBiasedBit = biasedBit;
+  }
+
+  /**
+   * Analyzes the hashCodes of the given instances. Equal instances are only considered once.
+   *
+   * @param dtoClass the tested class
+   * @param samples the random instances
+   * @param distribution the thresholds
+   * @throws PotentialErrorDetected if a threshold is violated and the distribution is configured to fail
+   */
+  static void analyze(Class<?> dtoClass, List<Object> samples, HashDistribution distribution) {
+    Set<Object> distinct = new HashSet<>(samples);
+
+    if (distinct.size() < MIN_DISTINCT_INSTANCES) {
+      AutoTester.warn(dtoClass.getSimpleName() + ": Only " + distinct.size() + " distinct instances of "
+            + samples.size() + " generated ones thus the hashCode distribution is not analyzed.");
+      return;
+    }
+
+    int[] hashCodes = new int[distinct.size()];
+    int i = 0;
+    for (Object instance : distinct) {
+      hashCodes[i++] = AutoTester.callHashCode(instance);
+    }
+
+    HashCodeAnalyzer result = new HashCodeAnalyzer(hashCodes);
+
+    StringBuilder violations = new StringBuilder();
+    if (result.collisionRate > distribution.getMaxCollisionRate()) {
+      violations.append(" collision rate ").append(format(result.collisionRate)).append(" > ")
+          .append(distribution.getMaxCollisionRate()).append(';');
+    }
+    if (result.bucketUtilization < distribution.getMinBucketUtilization()) {
+      violations.append(" bucket utilization ").append(format(result.bucketUtilization)).append(" < ")
+          .append(distribution.getMinBucketUtilization()).append(';');
+    }
+    if (result.maxBitBias > distribution.getMaxBitBias()) {
+      violations.append(" bias of bit ").append(result.maxBiasedBit).append(' ').append(format(result.maxBitBias))
+          .append(" > ").append(distribution.getMaxBitBias()).append(';');
+    }
+
+    if (violations.length() > 0) {
+      String message = dtoClass.getSimpleName() + ": The hashCode() is poorly distributed over "
+          + result.distinctInstances + " distinct instances:" + violations
+          + " Instances used as HashMap/HashSet keys will end up in few buckets. Consider using all significant fields (e.g. Objects.hash(...)).";
+      if (distribution.isFailOnViolation()) {
+        throw new PotentialErrorDetected(message);
+      } else {
+        AutoTester.warn(message);
+      }
+    }
+  }
+
+  private static String format(double value) {
+    return String.format(Locale.ROOT, "%.4f", Double.valueOf(value));
+  }
+
+  // cp. HashMap#tableSizeFor
+  private static int tableSizeFor(int capacity) {
+    int n = -1 >>> Integer.numberOfLeadingZeros(Math.max(capacity, 2) - 1);
+    return n >= (1 << 30) ? (1 << 30) : n + 1;
+  }
+
+  @Override
+  public String toString() {
+    return "HashCodeAnalyzer [distinctInstances=" + this.distinctInstances + ", collisionRate=" + this.collisionRate
+        + ", bucketUtilization=" + this.bucketUtilization + ", maxBitBias=" + this.maxBitBias + ", maxBiasedBit="
+        + this.maxBiasedBit + "]";
+  }
+}
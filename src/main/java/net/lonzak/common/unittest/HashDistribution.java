@@ -0,0 +1,189 @@
+/*
+ * =========================================== unittest-utilities ===========================================
+ *
+ * Project Info: https://github.com/Lonzak/unittest-utilities
+ *
+ * (C) Copyright 2012-2025 nepatec GmbH
+ *
+ * This file is part of unittest-utilities
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version. This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details. You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package net.lonzak.common.unittest;
+
+/**
+ * Defines the quality which is expected from the hashCode() of a tested class. The {@link AutoTester} generates the
+ * given number of random instances and measures
+ * <ul>
+ * <li>the collision rate: the share of distinct (not equal) instances which share their hashCode with another
+ * one</li>
+ * <li>the bucket utilization: the number of occupied buckets of a HashMap sized for the instances (after the
+ * spreading of HashMap) compared to the number which is expected for uniformly distributed hashCodes</li>
+ * <li>the bit bias: the maximum deviation of a hashCode bit from being set in 50% of the cases (only the lowest log2(n)
+ * bits are considered for n distinct hashCodes since the higher bits of a small value domain are always constant)</li>
+ * </ul>
+ *
+ * Usage:
+ *
+ * <pre>
+ * {@code
+ * AutoTester.setHashDistribution(new HashDistribution(1000));
+ * }
+ * </pre>
+ *
+ * @author Lonzak
+ *
+ */
+public final class HashDistribution {
+
+  /**
+   * The hashCode distribution is not analyzed (default).
+   */
+  public static final HashDistribution NONE = new HashDistribution();
+
+  private final boolean enabled;
+  private final int samples;
+  private final double maxCollisionRate;
+  private final double minBucketUtilization;
+  private final double maxBitBias;
+  private final boolean failOnViolation;
+
+  private HashDistribution() {
+    this.enabled = false;
+    this.samples = 0;
+    this.maxCollisionRate = 1;
+    this.minBucketUtilization = 0;
+    this.maxBitBias = 0.5;
+    this.failOnViolation = false;
+  }
+
+  /**
+   * Uses the default thresholds: at most 1% collisions, at least 75% of the expected bucket utilization, a bit bias
+   * of at most 0.45 (i.e. nearly constant bits) and a failure in case of a violation.
+   *
+   * @param samples the number of random instances to generate
+   */
+  public HashDistribution(int samples) {
+    this(samples, 0.01, 0.75, 0.45, true);
+  }
+
+  /**
+   *
+   * @param samples the number of random instances to generate
+   * @param maxCollisionRate the maximum share (0..1) of distinct instances with a colliding hashCode
+   * @param minBucketUtilization the minimum ratio (0..1) of occupied buckets compared to uniformly distributed
+   *        hashCodes
+   * @param maxBitBias the maximum deviation (0..0.5) of a single bit from being set in 50% of the cases
+   * @param failOnViolation true to fail the test otherwise only a warning is printed
+   */
+  public HashDistribution(int samples, double maxCollisionRate, double minBucketUtilization, double maxBitBias,
+      boolean failOnViolation) {
+    if (samples < 1) {
+      throw new IllegalArgumentException("At least one sample is needed (samples=" + samples + ")!");
+    }
+    if (maxCollisionRate < 0 || maxCollisionRate > 1 || minBucketUtilization < 0 || minBucketUtilization > 1
+        || maxBitBias < 0 || maxBitBias > 0.5) {
+      throw new IllegalArgumentException("Invalid thresholds (maxCollisionRate=" + maxCollisionRate
+          + ", minBucketUtilization=" + minBucketUtilization + ", maxBitBias=" + maxBitBias + ")!");
+    }
+    this.enabled = true;
+    this.samples = samples;
+    this.maxCollisionRate = maxCollisionRate;
+    this.minBucketUtilization = minBucketUtilization;
+    this.maxBitBias = maxBitBias;
+    this.failOnViolation = failOnViolation;
+  }
+
+  /**
+   *
+   * @return true if the hashCode distribution should be analyzed otherwise false
+   */
+  public boolean isEnabled() {
+    return this.enabled;
+  }
+
+  /**
+   *
+   * @return the number of random instances to generate
+   */
+  public int getSamples() {
+    return this.samples;
+  }
+
+  /**
+   *
+   * @return the maximum share of distinct instances with a colliding hashCode
+   */
+  public double getMaxCollisionRate() {
+    return this.maxCollisionRate;
+  }
+
+  /**
+   *
+   * @return the minimum ratio of occupied buckets compared to uniformly distributed hashCodes
+   */
+  public double getMinBucketUtilization() {
+    return this.minBucketUtilization;
+  }
+
+  /**
+   *
+   * @return the maximum deviation of a single bit from being set in 50% of the cases
+   */
+  public double getMaxBitBias() {
+    return this.maxBitBias;
+  }
+
+  /**
+   *
+   * @return true if a violation fails the test otherwise only a warning is printed
+   */
+  public boolean isFailOnViolation() {
+    return this.failOnViolation;
+  }
+
+  @Override
+  public int hashCode() {
+    final int prime = 31;
+    int result = 1;
+    result = prime * result + (this.enabled ? 1231 : 1237);
+    result = prime * result + (this.failOnViolation ? 1231 : 1237);
+    result = prime * result + Double.hashCode(this.maxBitBias);
+    result = prime * result + Double.hashCode(this.maxCollisionRate);
+    result = prime * result + Double.hashCode(this.minBucketUtilization);
+    result = prime * result + this.samples;
+    return result;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null) {
+      return false;
+    }
+    if (this.getClass() != obj.getClass()) {
+      return false;
+    }
+    HashDistribution other = (HashDistribution) obj;
+    return this.enabled == other.enabled && this.failOnViolation == other.failOnViolation
+        && Double.compare(this.maxBitBias, other.maxBitBias) == 0
+        && Double.compare(this.maxCollisionRate, other.maxCollisionRate) == 0
+        && Double.compare(this.minBucketUtilization, other.minBucketUtilization) == 0
+        && this.samples == other.samples;
+  }
+
+  @Override
+  public String toString() {
+    return "HashDistribution [enabled=" + this.enabled + ", samples=" + this.samples + ", maxCollisionRate="
+        + this.maxCollisionRate + ", minBucketUtilization=" + this.minBucketUtilization + ", maxBitBias="
+        + this.maxBitBias + ", failOnViolation=" + this.failOnViolation + "]";
+  }
+}
@@ -0,0 +1,248 @@
+/*
+ * =========================================== unittest-utilities ===========================================
+ *
+ * Project Info: https://github.com/Lonzak/unittest-utilities
+ *
+ * (C) Copyright 2012-2025 nepatec GmbH
+ *
+ * This file is part of unittest-utilities
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version. This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details. You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package net.lonzak.common.unittest;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Remembers the classes which passed the test together with a hash of their bytecode, the bytecode of their
+ * superclasses, the bytecode of all classes of the AutoTester (or its jar) and the configuration. A class whose hash is
+ * unchanged is skipped. Any change of the class, its ancestors, the AutoTester or the configuration invalidates the
+ * entry.
+ * <p>
+ * The file is append-only (one line per passed class - the last line of a class wins) and is compacted when it is
+ * loaded.
+ *
+ * @author Lonzak
+ *
+ */
+final class IncrementalCache {
+
+  private static final String HEADER = "# AutoTester incremental cache: <class> <hash>";
+  private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+  private final Path file;
+  // class name -> hash of the last passed test
+  private final Map<String, String> passed = new HashMap<>();
+  private final String testerHash;
+  private BufferedWriter writer;
+
+  IncrementalCache(Path file) {
+    this.file = file;
+    try {
+      this.testerHash = testerHash();
+      if (Files.exists(file)) {
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        for (String line : lines) {
+          int separator = line.indexOf(' ');
+          if (!line.startsWith("#") && separator > 0) {
+            this.passed.put(line.substring(0, separator), line.substring(separator + 1));
+          }
+        }
+        // compact the file if most of the lines are outdated
+        if (lines.size() > 2 * this.passed.size() + 1) {
+          rewrite();
+        }
+      }
+    }
+    catch (IOException e) {
+      throw new UncheckedIOException("Could not read the incremental cache " + file, e);
+    }
+  }
+
+  Path getFile() {
+    return this.file;
+  }
+
+  /**
+   * Computes the hash of a class and the given configuration.
+   *
+   * @param dtoClass the tested class
+   * @param configuration the configuration of the test
+   * @return the hash or null if the bytecode of the class (or of a superclass) is not available
+   */
+  String hash(Class<?> dtoClass, String configuration) {
+    StringBuilder source = new StringBuilder(this.testerHash).append('\n').append(configuration);
+    try {
+      for (Class<?> clazz = dtoClass; clazz != null && clazz.getClassLoader() != null; clazz = clazz.getSuperclass()) {
+        String hash = bytecodeHash(clazz);
+        if (hash == null) {
+          return null;
+        }
+        source.append('\n').append(clazz.getName()).append(' ').append(hash);
+      }
+    }
+    catch (IOException e) {
+      return null;
+    }
+    return hex(digest().digest(source.toString().getBytes(StandardCharsets.UTF_8)));
+  }
+
+  /**
+   *
+   * @param dtoClass the tested class
+   * @param hash the current hash of the class
+   * @return true if the class already passed with the same hash
+   */
+  synchronized boolean isUnchanged(Class<?> dtoClass, String hash) {
+    return hash != null && hash.equals(this.passed.get(dtoClass.getName()));
+  }
+
+  /**
+   * Remembers a passed class (and writes it to the file).
+   *
+   * @param dtoClass the tested class
+   * @param hash the current hash of the class
+   */
+  synchronized void markPassed(Class<?> dtoClass, String hash) {
+    if (hash == null || hash.equals(this.passed.put(dtoClass.getName(), hash))) {
+      return;
+    }
+    try {
+      if (this.writer == null) {
+        if (this.file.getParent() != null) {
+          Files.createDirectories(this.file.getParent());
+        }
+        boolean created = !Files.exists(this.file);
+        this.writer = Files.newBufferedWriter(this.file, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+            StandardOpenOption.APPEND);
+        if (created) {
+          this.writer.write(HEADER);
+          this.writer.newLine();
+        }
+      }
+      this.writer.write(dtoClass.getName() + " " + hash);
+      this.writer.newLine();
+      // the results of an aborted run are kept
+      this.writer.flush();
+    }
+    catch (IOException e) {
+      throw new UncheckedIOException("Could not write the incremental cache " + this.file, e);
+    }
+  }
+
+  /**
+   * Closes the file (it is reopened by the next passed class).
+   */
+  synchronized void close() {
+    if (this.writer != null) {
+      try {
+        this.writer.close();
+      }
+      catch (IOException e) {
+        throw new UncheckedIOException("Could not close the incremental cache " + this.file, e);
+      }
+      finally {
+        this.writer = null;
+      }
+    }
+  }
+
+  private void rewrite() throws IOException {
+    StringBuilder content = new StringBuilder(HEADER).append(System.lineSeparator());
+    for (Map.Entry<String, String> entry : this.passed.entrySet()) {
+      content.append(entry.getKey()).append(' ').append(entry.getValue()).append(System.lineSeparator());
+    }
+    Files.write(this.file, content.toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   *
+   * @return the hash of the jar of the AutoTester or of all classes of its package (a changed check of any helper class
+   *         invalidates the cache as well)
+   */
+  private static String testerHash() throws IOException {
+    CodeSource codeSource = AutoTester.class.getProtectionDomain().getCodeSource();
+    if (codeSource != null && codeSource.getLocation() != null) {
+      try {
+        Path location = Paths.get(codeSource.getLocation().toURI());
+        if (Files.isRegularFile(location)) {
+          return hex(digest().digest(Files.readAllBytes(location)));
+        }
+        Path directory = location.resolve(AutoTester.class.getPackage().getName().replace('.', '/'));
+        if (Files.isDirectory(directory)) {
+          MessageDigest digest = digest();
+          List<Path> classes;
+          try (Stream<Path> files = Files.walk(directory)) {
+            classes = files.filter(path -> path.toString().endsWith(".class")).sorted().collect(Collectors.toList());
+          }
+          for (Path clazz : classes) {
+            digest.update(directory.relativize(clazz).toString().getBytes(StandardCharsets.UTF_8));
+            digest.update(Files.readAllBytes(clazz));
+          }
+          return hex(digest.digest());
+        }
+      }
+      catch (URISyntaxException | IllegalArgumentException e) {
+        // e.g. a nested jar - the version is used instead
+      }
+    }
+    return bytecodeHash(AutoTester.class) + " " + AutoTester.class.getPackage().getImplementationVersion();
+  }
+
+  private static String bytecodeHash(Class<?> clazz) throws IOException {
+    String name = clazz.getName();
+    try (InputStream in = clazz.getResourceAsStream(name.substring(name.lastIndexOf('.') + 1) + ".class")) {
+      if (in == null) {
+        return null;
+      }
+      return hex(digest().digest(in.readAllBytes()));
+    }
+  }
+
+  private static MessageDigest digest() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    }
+    catch (NoSuchAlgorithmException e) {
+      // every java platform has to support SHA-256
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static String hex(byte[] bytes) {
+    char[] chars = new char[bytes.length * 2];
+    for (int i = 0; i < bytes.length; i++) {
+      chars[2 * i] = HEX[(bytes[i] >> 4) & 0xf];
+      chars[2 * i + 1] = HEX[bytes[i] & 0xf];
+    }
+    return new String(chars);
+  }
+
+  @Override
+  public String toString() {
+    return "IncrementalCache [file=" + this.file + ", passed=" + this.passed.size() + "]";
+  }
+}
@@ -0,0 +1,215 @@
+/*
+ * =========================================== unittest-utilities ===========================================
+ *
+ * Project Info: https://github.com/Lonzak/unittest-utilities
+ *
+ * (C) Copyright 2012-2025 nepatec GmbH
+ *
+ * This file is part of unittest-utilities
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version. This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details. You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package net.lonzak.common.unittest;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+
+/**
+ * Collects the slowest classes, phases and properties of a run e.g. to find the expensive classes which should be
+ * fixed or excluded. Only the top entries are kept (in a bounded heap) thus the memory stays flat for any number of
+ * classes. If a stream is given the leaderboard is printed after each batch.
+ *
+ * Usage:
+ *
+ * <pre>
+ * {@code
+ * AutoTester.addListener(new Leaderboard(10, System.out));
+ * AutoTester.testClasses(FailureMode.COLLECT_ALL, classes);
+ * }
+ * </pre>
+ *
+ * @author Lonzak
+ *
+ */
+public final class Leaderboard implements AutoTesterListener {
+
+  private static final Comparator<Entry> BY_NANOS = Comparator.comparingLong(Entry::getNanos);
+
+  private final int size;
+  private final PrintStream out;
+  private final PriorityQueue<Entry> classes;
+  private final PriorityQueue<Entry> phases;
+  private final PriorityQueue<Entry> properties;
+
+  /**
+   *
+   * @param size the number of entries per category (classes, phases and properties)
+   * @param out the stream to print the leaderboard to after each batch or null to only collect it
+   */
+  public Leaderboard(int size, PrintStream out) {
+    if (size <= 0) {
+      throw new IllegalArgumentException("The size of the leaderboard has to be positive (" + size + ")!");
+    }
+    this.size = size;
+    this.out = out;
+    this.classes = new PriorityQueue<>(size + 1, BY_NANOS);
+    this.phases = new PriorityQueue<>(size + 1, BY_NANOS);
+    this.properties = new PriorityQueue<>(size + 1, BY_NANOS);
+  }
+
+  @Override
+  public synchronized void classFinished(Class<?> dtoClass, long nanos, long objects) {
+    if (isCandidate(this.classes, nanos)) {
+      offer(this.classes, new Entry(dtoClass.getName(), nanos, objects));
+    }
+  }
+
+  @Override
+  public synchronized void phaseFinished(Class<?> dtoClass, Phase phase, long nanos, long objects) {
+    if (isCandidate(this.phases, nanos)) {
+      offer(this.phases, new Entry(dtoClass.getName() + " " + phase, nanos, objects));
+    }
+  }
+
+  @Override
+  public synchronized void propertyFinished(Class<?> dtoClass, Phase phase, String property, long nanos,
+      long objects) {
+    // the name is only built for the slow properties
+    if (isCandidate(this.properties, nanos)) {
+      offer(this.properties, new Entry(dtoClass.getName() + "." + property + " (" + phase + ")", nanos, objects));
+    }
+  }
+
+  @Override
+  public void batchFinished(TestReport report) {
+    if (this.out != null) {
+      print(this.out);
+    }
+  }
+
+  private boolean isCandidate(PriorityQueue<Entry> entries, long nanos) {
+    return entries.size() < this.size || entries.peek().getNanos() < nanos;
+  }
+
+  private void offer(PriorityQueue<Entry> entries, Entry entry) {
+    entries.add(entry);
+    if (entries.size() > this.size) {
+      entries.poll();
+    }
+  }
+
+  /**
+   *
+   * @return the slowest classes (the slowest first)
+   */
+  public synchronized List<Entry> getSlowestClasses() {
+    return sorted(this.classes);
+  }
+
+  /**
+   *
+   * @return the slowest phases of all classes (the slowest first)
+   */
+  public synchronized List<Entry> getSlowestPhases() {
+    return sorted(this.phases);
+  }
+
+  /**
+   *
+   * @return the slowest properties of all classes (the slowest first)
+   */
+  public synchronized List<Entry> getSlowestProperties() {
+    return sorted(this.properties);
+  }
+
+  private static List<Entry> sorted(PriorityQueue<Entry> entries) {
+    List<Entry> list = new ArrayList<>(entries);
+    list.sort(BY_NANOS.reversed());
+    return list;
+  }
+
+  /**
+   * Prints the slowest classes, phases and properties.
+   *
+   * @param stream the stream to print to
+   */
+  public void print(PrintStream stream) {
+    StringBuilder text = new StringBuilder();
+    append(text, "classes", getSlowestClasses());
+    append(text, "phases", getSlowestPhases());
+    append(text, "properties", getSlowestProperties());
+    stream.print(text);
+  }
+
+  private static void append(StringBuilder text, String category, List<Entry> entries) {
+    if (entries.isEmpty()) {
+      return;
+    }
+    text.append("Slowest ").append(category).append(':').append(System.lineSeparator());
+    for (int i = 0; i < entries.size(); i++) {
+      Entry entry = entries.get(i);
+      text.append(String.format(Locale.ROOT, "%3d. %10.1f ms %8d objects  %s%n", Integer.valueOf(i + 1),
+          Double.valueOf(entry.getNanos() / 1e6), Long.valueOf(entry.getObjects()), entry.getName()));
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "Leaderboard [size=" + this.size + "]";
+  }
+
+  /**
+   * One entry of the leaderboard: a class, a phase of a class or a property of a class.
+   */
+  public static final class Entry {
+
+    private final String name;
+    private final long nanos;
+    private final long objects;
+
+    Entry(String name, long nanos, long objects) {
+      this.name = name;
+      this.nanos = nanos;
+      this.objects = objects;
+    }
+
+    /**
+     *
+     * @return the class name (optionally followed by the phase or property)
+     */
+    public String getName() {
+      return this.name;
+    }
+
+    /**
+     *
+     * @return the duration in nanoseconds
+     */
+    public long getNanos() {
+      return this.nanos;
+    }
+
+    /**
+     *
+     * @return the number of constructed objects
+     */
+    public long getObjects() {
+      return this.objects;
+    }
+
+    @Override
+    public String toString() {
+      return "Entry [name=" + this.name + ", nanos=" + this.nanos + ", objects=" + this.objects + "]";
+    }
+  }
+}
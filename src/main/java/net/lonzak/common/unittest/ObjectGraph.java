@@ -0,0 +1,161 @@
+/*
+ * =========================================== unittest-utilities ===========================================
+ *
+ * Project Info: https://github.com/Lonzak/unittest-utilities
+ *
+ * (C) Copyright 2012-2025 nepatec GmbH
+ *
+ * This file is part of unittest-utilities
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version. This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details. You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package net.lonzak.common.unittest;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+/**
+ * Keeps track of the object graph which is currently generated by the {@link AutoTester}: the classes which are about
+ * to be created (to detect creation cycles), the current nesting depth and the number of constructed objects.
+ *
+ * @author Lonzak
+ *
+ */
+final class ObjectGraph {
+
+  private final GraphBudget budget;
+
+  // it is necessary to store all classes to avoid circular object creations which otherwise results in an SOE
+  private final Set<Class<?>> constructedClasses = Collections.newSetFromMap(new IdentityHashMap<>());
+  private final Map<Class<?>, Entry<Object, Object>> samples = new IdentityHashMap<>();
+  private Class<?> root;
+  private int depth = -1;
+  private int objects;
+
+  ObjectGraph(GraphBudget budget) {
+    this.budget = budget;
+  }
+
+  GraphBudget getBudget() {
+    return this.budget;
+  }
+
+  /**
+   * Marks a class as 'about to be created'. The first class is the root of the graph.
+   *
+   * @param clazz the class which is created
+   */
+  void add(Class<?> clazz) {
+    if (this.root == null) {
+      this.root = clazz;
+    }
+    this.constructedClasses.add(clazz);
+  }
+
+  /**
+   *
+   * @param clazz to check
+   * @return true if the class is already about to be created (thus creating it again results in a cycle)
+   */
+  boolean contains(Class<?> clazz) {
+    return this.constructedClasses.contains(clazz);
+  }
+
+  /**
+   * Clears all classes except the root. Necessary since each constructor (or parameter) has to be looked at
+   * individually.
+   */
+  void clearBelowRoot() {
+    if (this.constructedClasses.size() > 1) {
+      this.constructedClasses.clear();
+      this.constructedClasses.add(this.root);
+    }
+  }
+
+  /**
+   * Starts a new object graph e.g. for the next constructor or setter: the object counter is reset.
+   */
+  void startGraph() {
+    this.objects = 0;
+  }
+
+  void enter() {
+    this.depth++;
+  }
+
+  void exit() {
+    this.depth--;
+  }
+
+  void countObjects(int count) {
+    this.objects += count;
+  }
+
+  /**
+   *
+   * @return true if no further objects should be created for the current graph
+   */
+  boolean isExhausted() {
+    // the root itself is always created
+    if (this.depth <= 0) {
+      return false;
+    }
+    return this.depth > this.budget.getMaxDepth() || this.objects >= this.budget.getMaxObjects();
+  }
+
+  /**
+   * Stores the first created pair of a class which is then shared in case the budget is exhausted.
+   *
+   * @param clazz the created class
+   * @param left the left object
+   * @param right the right object
+   */
+  void addSample(Class<?> clazz, Object left, Object right) {
+    if (!this.samples.containsKey(clazz)) {
+      this.samples.put(clazz, new SimpleImmutableEntry<>(left, right));
+    }
+  }
+
+  /**
+   *
+   * @param clazz the class
+   * @return the shared sample pair or null
+   */
+  Entry<Object, Object> getSample(Class<?> clazz) {
+    return this.samples.get(clazz);
+  }
+
+  /**
+   *
+   * @param requested the number of requested elements
+   * @return the number of elements of a collection which stays within the budget
+   */
+  int limitCollectionSize(int requested) {
+    return Math.min(requested, this.budget.getMaxCollectionSize());
+  }
+
+  /**
+   *
+   * @param requested the requested length
+   * @return the array length which stays within the budget
+   */
+  int limitArrayLength(int requested) {
+    return Math.min(requested, this.budget.getMaxArrayLength());
+  }
+
+  @Override
+  public String toString() {
+    return "ObjectGraph [root=" + this.root + ", depth=" + this.depth + ", objects=" + this.objects
+        + ", constructedClasses=" + this.constructedClasses + "]";
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * =========================================== unittest-utilities ===========================================
+ *
+ * Project Info: https://github.com/Lonzak/unittest-utilities
+ *
+ * (C) Copyright 2012-2025 nepatec GmbH
+ *
+ * This file is part of unittest-utilities
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version. This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details. You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package net.lonzak.common.unittest;
+
+/**
+ * The phases of the {@link AutoTester} run of one class. Each {@link Finding} names the phase which reported it.
+ *
+ * @author Lonzak
+ *
+ */
+public enum Phase {
+
+  /**
+   * Construction of the objects via all (selected) constructors.
+   */
+  CONSTRUCTION,
+
+  /**
+   * Canonical constructor, accessors, equals(), hashCode() and toString() of a record.
+   */
+  RECORD,
+
+  /**
+   * Static bytecode analysis of the fields used by equals() and hashCode().
+   */
+  FIELD_USAGE,
+
+  /**
+   * Consistency of equals() and hashCode() when the setters are called.
+   */
+  EQUALS_HASHCODE,
+
+  /**
+   * Consistency of equals() and hashCode() when the fields are changed directly.
+   */
+  FIELD_MUTATION,
+
+  /**
+   * The setters store the value which the getters return.
+   */
+  GETTER_SETTER,
+
+  /**
+   * Allocations of the setters, getters, equals() and hashCode().
+   */
+  ALLOCATION,
+
+  /**
+   * The toString() method.
+   */
+  TO_STRING,
+
+  /**
+   * Length and allocations of toString() on stress sized instances.
+   */
+  TO_STRING_LIMIT,
+
+  /**
+   * Concurrent calls of the getters, equals(), hashCode() and toString().
+   */
+  CONCURRENCY,
+
+  /**
+   * Serialization round trips.
+   */
+  SERIALIZATION,
+
+  /**
+   * The compareTo() contract and the sort cost.
+   */
+  COMPARABLE,
+
+  /**
+   * Distribution of the hashCodes.
+   */
+  HASH_DISTRIBUTION,
+
+  /**
+   * Costs of equals(), hashCode() and toString().
+   */
+  COSTS,
+
+  /**
+   * Complexity exponent of equals(), hashCode() and toString().
+   */
+  COMPLEXITY
+}
@@ -0,0 +1,136 @@
+/*
+ * =========================================== unittest-utilities ===========================================
+ *
+ * Project Info: https://github.com/Lonzak/unittest-utilities
+ *
+ * (C) Copyright 2012-2025 nepatec GmbH
+ *
+ * This file is part of unittest-utilities
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version. This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details. You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package net.lonzak.common.unittest;
+
+import java.io.PrintStream;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Prints the progress of a batch run: the number of tested classes, the throughput and the estimated remaining time.
+ * The estimate is based on the measured durations (the sum of the phases) of the classes tested so far. To keep the
+ * output compact a line is printed at most once per interval (and after the last class).
+ *
+ * Usage:
+ *
+ * <pre>
+ * {@code
+ * AutoTester.addListener(new ProgressReporter(System.out, 5000));
+ * AutoTester.testClasses(FailureMode.COLLECT_ALL, classes);
+ * }
+ * </pre>
+ *
+ * @author Lonzak
+ *
+ */
+public final class ProgressReporter implements AutoTesterListener {
+
+  private final PrintStream out;
+  private final long intervalNanos;
+
+  private int total;
+  private int done;
+  private int failed;
+  private long testedNanos;
+  private long batchStart;
+  private long lastPrint;
+
+  /**
+   *
+   * @param out the stream to print to
+   * @param intervalMillis the minimum time between two progress lines in milliseconds
+   */
+  public ProgressReporter(PrintStream out, long intervalMillis) {
+    if (out == null) {
+      throw new IllegalArgumentException("The stream can not be null!");
+    }
+    if (intervalMillis < 0) {
+      throw new IllegalArgumentException("The interval can not be negative (" + intervalMillis + ")!");
+    }
+    this.out = out;
+    this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(intervalMillis);
+  }
+
+  @Override
+  public synchronized void batchStarted(int classes) {
+    this.total = classes;
+    this.done = 0;
+    this.failed = 0;
+    this.testedNanos = 0;
+    this.batchStart = System.nanoTime();
+    this.lastPrint = this.batchStart;
+  }
+
+  @Override
+  public synchronized void classSkipped(Class<?> dtoClass) {
+    this.done++;
+    printProgress();
+  }
+
+  @Override
+  public synchronized void classReported(ClassResult result) {
+    this.done++;
+    this.testedNanos += result.getNanos();
+    if (!result.isPassed()) {
+      this.failed++;
+    }
+    printProgress();
+  }
+
+  private void printProgress() {
+    long now = System.nanoTime();
+    if (this.done == this.total || now - this.lastPrint >= this.intervalNanos) {
+      this.lastPrint = now;
+      this.out.println(getProgress());
+    }
+  }
+
+  /**
+   *
+   * @return the progress e.g. "[120/480] 25% 1 failed, 42.0 classes/s, ETA 8s"
+   */
+  public synchronized String getProgress() {
+    long elapsed = System.nanoTime() - this.batchStart;
+    double throughput = elapsed > 0 ? this.done * 1e9 / elapsed : 0;
+    String progress = String.format(Locale.ROOT, "[%d/%d] %d%% %d failed, %.1f classes/s",
+        Integer.valueOf(this.done), Integer.valueOf(this.total),
+        Integer.valueOf(this.total == 0 ? 100 : this.done * 100 / this.total), Integer.valueOf(this.failed),
+        Double.valueOf(throughput));
+    if (this.done == 0 || this.done >= this.total) {
+      return progress;
+    }
+    long remainingNanos = this.testedNanos / this.done * (this.total - this.done);
+    return progress + ", ETA " + formatDuration(remainingNanos);
+  }
+
+  private static String formatDuration(long nanos) {
+    long seconds = TimeUnit.NANOSECONDS.toSeconds(nanos);
+    if (seconds < 60) {
+      return seconds + "s";
+    }
+    if (seconds < 3600) {
+      return seconds / 60 + "m " + seconds % 60 + "s";
+    }
+    return seconds / 3600 + "h " + seconds / 60 % 60 + "m";
+  }
+
+  @Override
+  public String toString() {
+    return "ProgressReporter [done=" + this.done + ", total=" + this.total + "]";
+  }
+}
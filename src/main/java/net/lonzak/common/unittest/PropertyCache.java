@@ -0,0 +1,125 @@
+/*
+ * =========================================== unittest-utilities ===========================================
+ *
+ * Project Info: https://github.com/Lonzak/unittest-utilities
+ *
+ * (C) Copyright 2012-2025 nepatec GmbH
+ *
+ * This file is part of unittest-utilities
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version. This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details. You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package net.lonzak.common.unittest;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Remembers the inherited properties which were already verified within a batch (cp.
+ * {@link AutoTester#testClasses(Class...)}). If many entities share a base class its properties are only verified
+ * once. A property is verified again by a subclass if the subclass overrides its setter or getter or - for the
+ * equals/hashCode check - declares its own equals() or hashCode().
+ *
+ * @author Lonzak
+ *
+ */
+final class PropertyCache {
+
+  static final String GETTER_SETTER = "getterSetter";
+  static final String EQUALS_HASHCODE = "equalsHashCode";
+
+  private final Set<String> verified = ConcurrentHashMap.newKeySet();
+  private final AtomicInteger hits = new AtomicInteger();
+
+  /**
+   *
+   * @param phase {@link #GETTER_SETTER} or {@link #EQUALS_HASHCODE}
+   * @param dtoClass the tested class
+   * @param setter the setter of the property
+   * @return true if the inherited property was already verified in the batch
+   */
+  boolean isVerified(String phase, Class<?> dtoClass, Method setter) {
+    String key = key(phase, dtoClass, setter);
+    if (key != null && this.verified.contains(key)) {
+      this.hits.incrementAndGet();
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Marks an inherited property as verified. Properties which are declared by the tested class itself are not cached.
+   *
+   * @param phase {@link #GETTER_SETTER} or {@link #EQUALS_HASHCODE}
+   * @param dtoClass the tested class
+   * @param setter the setter of the property
+   */
+  void markVerified(String phase, Class<?> dtoClass, Method setter) {
+    String key = key(phase, dtoClass, setter);
+    if (key != null) {
+      this.verified.add(key);
+    }
+  }
+
+  /**
+   *
+   * @return the number of skipped property checks
+   */
+  int getHits() {
+    return this.hits.get();
+  }
+
+  private static String key(String phase, Class<?> dtoClass, Method setter) {
+    if (setter.getDeclaringClass() == dtoClass) {
+      return null;
+    }
+
+    StringBuilder key = new StringBuilder(phase).append(':').append(setter.getDeclaringClass().getName()).append('#')
+        .append(setter.getName());
+    for (Class<?> parameter : setter.getParameterTypes()) {
+      key.append(',').append(parameter.getName());
+    }
+
+    // an overridden getter may behave differently
+    Method getter = findGetter(dtoClass, setter);
+    key.append(":getter=").append(getter == null ? "none" : getter.getDeclaringClass().getName());
+
+    // the equals/hashCode participation depends on the declaring class of equals() and hashCode()
+    if (EQUALS_HASHCODE.equals(phase)) {
+      try {
+        key.append(":equals=").append(dtoClass.getMethod("equals", Object.class).getDeclaringClass().getName())
+            .append(":hashCode=").append(dtoClass.getMethod("hashCode").getDeclaringClass().getName());
+      }
+      catch (NoSuchMethodException e) {
+        throw new InternalException(e);
+      }
+    }
+    return key.toString();
+  }
+
+  private static Method findGetter(Class<?> dtoClass, Method setter) {
+    String property = setter.getName().substring(3);
+    for (String prefix : new String[] {"get", "is"}) {
+      try {
+        return dtoClass.getMethod(prefix + property);
+      }
+      catch (NoSuchMethodException e) {
+        // try the next prefix
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public String toString() {
+    return "PropertyCache [verified=" + this.verified.size() + ", hits=" + this.hits + "]";
+  }
+}
@@ -0,0 +1,210 @@
+/*
+ * =========================================== unittest-utilities ===========================================
+ *
+ * Project Info: https://github.com/Lonzak/unittest-utilities
+ *
+ * (C) Copyright 2012-2025 nepatec GmbH
+ *
+ * This file is part of unittest-utilities
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version. This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details. You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package net.lonzak.common.unittest;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+
+import net.lonzak.common.unittest.FlightRecorderEvents.ConstructorEvent;
+
+/**
+ * Tests Java records. Records have no setters thus the setter based checks of the {@link AutoTester} are skipped.
+ * Instead the canonical constructor is called with generated components and the accessors, equals(), hashCode() and
+ * toString() are checked. The accessors are called via cached method handles.
+ *
+ * @author Lonzak
+ *
+ */
+final class RecordTester {
+
+  private static final ClassValue<RecordAccessors> ACCESSORS = new ClassValue<RecordAccessors>() {
+    @Override
+    protected RecordAccessors computeValue(Class<?> recordClass) {
+      return new RecordAccessors(recordClass);
+    }
+  };
+
+  // only static methods thus no instantiation
+  private RecordTester() {}
+
+  /**
+   * 
+   * @param recordClass the record to test
+   * @param implOfAbstractClasses implementations for abstract component types
+   * @param specialValues special values for the canonical constructor
+   * @param allocationProbe measures the allocations of the accessors, equals() and hashCode() (or null)
+   * @return the constructed pair of records
+   * @throws PotentialErrorDetected if the record violates the equals/hashCode/toString contracts
+   */
+  static Object[] testRecord(Class<?> recordClass, List<Class<?>> implOfAbstractClasses,
+      SpecialValueLocator specialValues, AllocationProbe allocationProbe)
+      throws ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException {
+
+    RecordAccessors accessors = ACCESSORS.get(recordClass);
+    Class<?>[] types = accessors.types;
+
+    specialValues.setNumberOfArgumentsConstructor(types.length);
+
+    ObjectGraph graph = new ObjectGraph(AutoTester.getGraphBudget());
+    graph.add(recordClass);
+    graph.enter();
+
+    Object[] argListLeft = new Object[types.length];
+    Object[] argListRight = new Object[types.length];
+    AutoTester.fillEverything(graph, types, accessors.genericTypes, argListLeft, argListRight, implOfAbstractClasses,
+        specialValues, true);
+
+    ConstructorEvent event = new ConstructorEvent();
+    event.begin();
+    Object left = AutoTester.construct(accessors.canonicalConstructor, argListLeft);
+    Object right = AutoTester.construct(accessors.canonicalConstructor, argListRight);
+    event.finish(accessors.canonicalConstructor);
+
+    // accessors must return the components which were passed to the canonical constructor
+    for (int i = 0; i < types.length; i++) {
+      Object value = accessors.get(i, left);
+      if (!Objects.deepEquals(argListLeft[i], value)) {
+        throw new PotentialErrorDetected("Error @ " + recordClass.getSimpleName() + ": The accessor "
+            + accessors.names[i] + "() returns " + value + " however the canonical constructor was called with "
+            + argListLeft[i] + ". If the constructor normalizes the values use the special value mechanism!");
+      }
+    }
+
+    AutoTester.executeEquals(left, right, false);
+
+    if (allocationProbe != null) {
+      for (int i = 0; i < types.length; i++) {
+        allocationProbe.measureAccessor(accessors.methods[i], left);
+      }
+      allocationProbe.measureEquals(left, right);
+      allocationProbe.measureHashCode(left);
+    }
+
+    if (AutoTester.callHashCode(left) != AutoTester.callHashCode(right)) {
+      throw new PotentialErrorDetected("Error in " + recordClass.getSimpleName()
+          + ": two equal records have different hashCodes. This violates the invariant that equal objects must have equal hashcodes.");
+    }
+
+    // change one component after the other and verify that equals and hashCode react consistently
+    for (int i = 0; i < types.length; i++) {
+      Object[] changedLeft = new Object[1];
+      Object[] changedRight = new Object[1];
+      AutoTester.fillEverything(graph, new Class<?>[] {types[i]}, new Type[] {accessors.genericTypes[i]},
+          changedLeft, changedRight, implOfAbstractClasses, SpecialValueLocator.NONE, false);
+
+      Object[] arguments = argListRight.clone();
+      arguments[i] = changedLeft[0];
+      Object changed = AutoTester.construct(accessors.canonicalConstructor, arguments);
+
+      boolean hashCodeChanged = AutoTester.callHashCode(changed) != AutoTester.callHashCode(right);
+      boolean equalsChanged = !AutoTester.callEquals(changed, right);
+
+      if (hashCodeChanged && !equalsChanged) {
+        throw new PotentialErrorDetected("Error in " + recordClass.getSimpleName() + ": changed the component ("
+            + accessors.names[i] + ") to " + changedLeft[0]
+            + " and the hashCode did change however the result of equals did not! This violates the invariant that equal objects must have equal hashcodes.");
+      }
+    }
+
+    checkToString(recordClass, left, right, argListLeft);
+
+    return new Object[] {left, right};
+  }
+
+  private static void checkToString(Class<?> recordClass, Object left, Object right, Object[] components) {
+    // the ordering of unordered collections may differ (cp. AutoTester#nullifyUnorderedCollections)
+    for (Object component : components) {
+      if ((component instanceof Set && !(component instanceof SortedSet))
+          || (component instanceof Map && !(component instanceof SortedMap))) {
+        return;
+      }
+    }
+
+    if (!AutoTester.callToString(left).equals(AutoTester.callToString(right))) {
+      throw new PotentialErrorDetected(
+          "Two identical records should have the same toString() method result. The reason for that are usually object addresses (SomeObject@383534aa...) of components which don't overwrite toString() or native array adresses (e.g. [I@67424e82]). Values: "
+              + left + " vs. " + right);
+    }
+  }
+
+  /**
+   * The canonical constructor and the accessor handles of a record.
+   */
+  private static final class RecordAccessors {
+    private final Constructor<?> canonicalConstructor;
+    private final Class<?>[] types;
+    private final Type[] genericTypes;
+    private final String[] names;
+    private final Method[] methods;
+    private final MethodHandle[] accessors;
+
+    RecordAccessors(Class<?> recordClass) {
+      RecordComponent[] components = recordClass.getRecordComponents();
+      this.types = new Class<?>[components.length];
+      this.genericTypes = new Type[components.length];
+      this.names = new String[components.length];
+      this.methods = new Method[components.length];
+      this.accessors = new MethodHandle[components.length];
+
+      try {
+        for (int i = 0; i < components.length; i++) {
+          this.types[i] = components[i].getType();
+          this.genericTypes[i] = components[i].getGenericType();
+          this.names[i] = components[i].getName();
+
+          Method accessor = components[i].getAccessor();
+          accessor.setAccessible(true);
+          this.methods[i] = accessor;
+          this.accessors[i] = MethodHandles.lookup().unreflect(accessor)
+              .asType(MethodType.methodType(Object.class, Object.class));
+        }
+        this.canonicalConstructor = recordClass.getDeclaredConstructor(this.types);
+        this.canonicalConstructor.setAccessible(true);
+      }
+      catch (NoSuchMethodException | IllegalAccessException e) {
+        throw new InternalException("Could not access the canonical constructor or the accessors of the record "
+            + recordClass.getName() + ": " + Arrays.toString(components), e);
+      }
+    }
+
+    Object get(int index, Object record) throws InvocationTargetException {
+      try {
+        return this.accessors[index].invokeExact(record);
+      }
+      catch (RuntimeException | Error e) {
+        throw e;
+      }
+      catch (Throwable t) {
+        throw new InvocationTargetException(t);
+      }
+    }
+  }
+}
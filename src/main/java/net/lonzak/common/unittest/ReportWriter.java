@@ -0,0 +1,358 @@
+/*
+ * =========================================== unittest-utilities ===========================================
+ *
+ * Project Info: https://github.com/Lonzak/unittest-utilities
+ *
+ * (C) Copyright 2012-2025 nepatec GmbH
+ *
+ * This file is part of unittest-utilities
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version. This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details. You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package net.lonzak.common.unittest;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import net.lonzak.common.unittest.Finding.Severity;
+
+/**
+ * Streams one record per tested class (status, findings, timings per phase, seed and skipped properties) into a file.
+ * Classes which the incremental cache skips get a record with the status SKIPPED.
+ * The records are written through a buffered {@link FileChannel} right after each class thus the memory stays flat and
+ * the results of an aborted run are kept. Two formats are supported:
+ * <ul>
+ * <li>JSON Lines: one JSON object per line</li>
+ * <li>JUnit XML: one testcase per class (the closing tag of the testsuite is written by {@link #close()})</li>
+ * </ul>
+ *
+ * Usage:
+ *
+ * <pre>
+ * {@code
+ * try (ReportWriter writer = ReportWriter.jsonLines(Paths.get("target/autotester.jsonl"))) {
+ *   AutoTester.addListener(writer);
+ *   AutoTester.testClasses(FailureMode.COLLECT_ALL, classes);
+ * } finally {
+ *   AutoTester.removeListener(writer);
+ * }
+ * }
+ * </pre>
+ *
+ * @author Lonzak
+ *
+ */
+public final class ReportWriter implements AutoTesterListener, Closeable {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private enum Format {
+    JSON_LINES, JUNIT_XML
+  }
+
+  private final Format format;
+  private final FileChannel channel;
+  private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+  private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+      .onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+  private final StringBuilder record = new StringBuilder();
+  private final Map<Phase, Long> phaseNanos = new EnumMap<>(Phase.class);
+
+  private ReportWriter(Format format, Path file) throws IOException {
+    this.format = format;
+    this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+        StandardOpenOption.TRUNCATE_EXISTING);
+    if (format == Format.JUNIT_XML) {
+      this.record.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<testsuite name=\"AutoTester\">\n");
+      flush();
+    }
+  }
+
+  /**
+   *
+   * @param file the file to write (an existing file is replaced)
+   * @return a writer which writes one JSON object per class and line
+   * @throws IOException if the file can not be opened
+   */
+  public static ReportWriter jsonLines(Path file) throws IOException {
+    return new ReportWriter(Format.JSON_LINES, file);
+  }
+
+  /**
+   *
+   * @param file the file to write (an existing file is replaced)
+   * @return a writer which writes one JUnit testcase per class
+   * @throws IOException if the file can not be opened
+   */
+  public static ReportWriter junitXml(Path file) throws IOException {
+    return new ReportWriter(Format.JUNIT_XML, file);
+  }
+
+  @Override
+  public synchronized void classStarted(Class<?> dtoClass) {
+    this.phaseNanos.clear();
+  }
+
+  @Override
+  public synchronized void phaseFinished(Class<?> dtoClass, Phase phase, long nanos, long objects) {
+    this.phaseNanos.merge(phase, Long.valueOf(nanos), Long::sum);
+  }
+
+  @Override
+  public synchronized void classSkipped(Class<?> dtoClass) {
+    if (this.format == Format.JSON_LINES) {
+      this.record.append("{\"class\":");
+      appendJsonString(dtoClass.getName());
+      this.record.append(",\"status\":\"SKIPPED\"}\n");
+    } else {
+      appendXmlTestcase(dtoClass.getName(), 0);
+      this.record.append("    <skipped message=\"unchanged since the last passed test\"/>\n  </testcase>\n");
+    }
+    try {
+      flush();
+    }
+    catch (IOException e) {
+      throw new UncheckedIOException("The report could not be written", e);
+    }
+  }
+
+  @Override
+  public synchronized void classReported(ClassResult result) {
+    if (this.format == Format.JSON_LINES) {
+      appendJson(result);
+    } else {
+      appendXml(result);
+    }
+    try {
+      flush();
+    }
+    catch (IOException e) {
+      throw new UncheckedIOException("The report could not be written", e);
+    }
+  }
+
+  private void appendJson(ClassResult result) {
+    StringBuilder json = this.record;
+    json.append("{\"class\":");
+    appendJsonString(result.getClassName());
+    json.append(",\"status\":\"").append(result.isPassed() ? "PASSED" : "FAILED").append('"');
+    json.append(",\"seed\":").append(result.getSeed());
+    json.append(",\"nanos\":").append(result.getNanos());
+    json.append(",\"objects\":").append(result.getObjects());
+    json.append(",\"phases\":{");
+    boolean first = true;
+    for (Entry<Phase, Long> phase : this.phaseNanos.entrySet()) {
+      json.append(first ? "" : ",").append('"').append(phase.getKey()).append("\":").append(phase.getValue());
+      first = false;
+    }
+    json.append("},\"skipped\":[");
+    first = true;
+    for (String property : result.getSkippedProperties()) {
+      json.append(first ? "" : ",");
+      appendJsonString(property);
+      first = false;
+    }
+    json.append("],\"findings\":[");
+    first = true;
+    for (Finding finding : result.getFindings()) {
+      json.append(first ? "" : ",").append("{\"severity\":\"").append(finding.getSeverity()).append('"');
+      if (finding.getPhase() != null) {
+        json.append(",\"phase\":\"").append(finding.getPhase()).append('"');
+      }
+      if (finding.getProperty() != null) {
+        json.append(",\"property\":");
+        appendJsonString(finding.getProperty());
+      }
+      if (finding.getConstructor() > 0) {
+        json.append(",\"constructor\":").append(finding.getConstructor());
+      }
+      json.append(",\"message\":");
+      appendJsonString(finding.getMessage());
+      json.append('}');
+      first = false;
+    }
+    json.append("]}\n");
+  }
+
+  private void appendJsonString(String value) {
+    StringBuilder json = this.record;
+    json.append('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      switch (c) {
+        case '"':
+          json.append("\\\"");
+          break;
+        case '\\':
+          json.append("\\\\");
+          break;
+        case '\n':
+          json.append("\\n");
+          break;
+        case '\r':
+          json.append("\\r");
+          break;
+        case '\t':
+          json.append("\\t");
+          break;
+        default:
+          if (c < 0x20) {
+            json.append(String.format(Locale.ROOT, "\\u%04x", Integer.valueOf(c)));
+          } else {
+            json.append(c);
+          }
+      }
+    }
+    json.append('"');
+  }
+
+  private void appendXml(ClassResult result) {
+    StringBuilder xml = this.record;
+    appendXmlTestcase(result.getClassName(), result.getNanos());
+    xml.append("    <properties>\n      <property name=\"seed\" value=\"").append(result.getSeed()).append("\"/>\n");
+    for (Entry<Phase, Long> phase : this.phaseNanos.entrySet()) {
+      xml.append("      <property name=\"phase.").append(phase.getKey()).append(".nanos\" value=\"")
+          .append(phase.getValue()).append("\"/>\n");
+    }
+    for (String property : result.getSkippedProperties()) {
+      xml.append("      <property name=\"skipped\" value=\"");
+      appendXmlText(property);
+      xml.append("\"/>\n");
+    }
+    xml.append("    </properties>\n");
+
+    StringBuilder warnings = new StringBuilder();
+    StringBuilder infos = new StringBuilder();
+    for (Finding finding : result.getFindings()) {
+      if (finding.getSeverity() == Severity.INFO) {
+        infos.append(finding).append('\n');
+      } else if (finding.getSeverity() == Severity.ERROR) {
+        xml.append("    <failure message=\"");
+        appendXmlText(finding.getMessage());
+        xml.append("\" type=\"").append(finding.getPhase()).append("\">");
+        appendXmlText(finding.toString());
+        xml.append("</failure>\n");
+      } else {
+        warnings.append(finding).append('\n');
+      }
+    }
+    if (infos.length() > 0) {
+      xml.append("    <system-out>");
+      appendXmlText(infos.toString());
+      xml.append("</system-out>\n");
+    }
+    if (warnings.length() > 0) {
+      xml.append("    <system-err>");
+      appendXmlText(warnings.toString());
+      xml.append("</system-err>\n");
+    }
+    xml.append("  </testcase>\n");
+  }
+
+  private void appendXmlTestcase(String className, long nanos) {
+    StringBuilder xml = this.record;
+    int dot = className.lastIndexOf('.');
+    xml.append("  <testcase classname=\"");
+    appendXmlText(className);
+    xml.append("\" name=\"");
+    appendXmlText(className.substring(dot + 1));
+    xml.append("\" time=\"").append(String.format(Locale.ROOT, "%.3f", Double.valueOf(nanos / 1e9))).append("\">\n");
+  }
+
+  private void appendXmlText(String value) {
+    StringBuilder xml = this.record;
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      switch (c) {
+        case '<':
+          xml.append("&lt;");
+          break;
+        case '>':
+          xml.append("&gt;");
+          break;
+        case '&':
+          xml.append("&amp;");
+          break;
+        case '"':
+          xml.append("&quot;");
+          break;
+        default:
+          // control characters are not allowed in XML 1.0
+          xml.append(c < 0x20 && c != '\n' && c != '\r' && c != '\t' ? ' ' : c);
+      }
+    }
+  }
+
+  /**
+   * Encodes the current record into the buffer and writes the buffer to the channel.
+   */
+  private void flush() throws IOException {
+    CharBuffer chars = CharBuffer.wrap(this.record);
+    this.encoder.reset();
+    CoderResult result;
+    do {
+      result = this.encoder.encode(chars, this.buffer, true);
+      if (result.isOverflow()) {
+        writeBuffer();
+      }
+    }
+    while (result.isOverflow());
+    while (this.encoder.flush(this.buffer).isOverflow()) {
+      writeBuffer();
+    }
+    writeBuffer();
+    this.record.setLength(0);
+  }
+
+  private void writeBuffer() throws IOException {
+    this.buffer.flip();
+    while (this.buffer.hasRemaining()) {
+      this.channel.write(this.buffer);
+    }
+    this.buffer.clear();
+  }
+
+  /**
+   * Finishes the file (closing tag of the JUnit testsuite) and closes the channel.
+   */
+  @Override
+  public synchronized void close() throws IOException {
+    if (!this.channel.isOpen()) {
+      return;
+    }
+    try {
+      if (this.format == Format.JUNIT_XML) {
+        this.record.append("</testsuite>\n");
+        flush();
+      }
+    }
+    finally {
+      this.channel.close();
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "ReportWriter [format=" + this.format + "]";
+  }
+}
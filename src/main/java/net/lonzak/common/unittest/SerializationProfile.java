@@ -0,0 +1,149 @@
+/*
+ * =========================================== unittest-utilities ===========================================
+ *
+ * Project Info: https://github.com/Lonzak/unittest-utilities
+ *
+ * (C) Copyright 2012-2025 nepatec GmbH
+ *
+ * This file is part of unittest-utilities
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version. This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details. You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package net.lonzak.common.unittest;
+
+/**
+ * Defines the serialization round trip of {@link java.io.Serializable} classes: each constructed object is serialized
+ * with an <code>ObjectOutputStream</code> and deserialized with an <code>ObjectInputStream</code>. The deserialized
+ * object has to be equal to the original one. The serialized size and the round trips per second are reported and
+ * checked against the thresholds.
+ *
+ * Usage:
+ *
+ * <pre>
+ * {@code
+ * AutoTester.setSerializationProfile(new SerializationProfile(1000, 4096, 10000));
+ * }
+ * </pre>
+ *
+ * @author Lonzak
+ *
+ */
+public final class SerializationProfile {
+
+  /**
+   * The serialization is not checked (default).
+   */
+  public static final SerializationProfile NONE = new SerializationProfile();
+
+  private final boolean enabled;
+  private final int iterations;
+  private final long maxSerializedBytes;
+  private final double minRoundTripsPerSecond;
+
+  private SerializationProfile() {
+    this.enabled = false;
+    this.iterations = 0;
+    this.maxSerializedBytes = Long.MAX_VALUE;
+    this.minRoundTripsPerSecond = 0;
+  }
+
+  /**
+   * Only checks the equality after the round trip and reports size and throughput.
+   *
+   * @param iterations the number of measured round trips (the same number is used for the warmup)
+   */
+  public SerializationProfile(int iterations) {
+    this(iterations, Long.MAX_VALUE, 0);
+  }
+
+  /**
+   *
+   * @param iterations the number of measured round trips (the same number is used for the warmup)
+   * @param maxSerializedBytes the maximum size of a serialized object
+   * @param minRoundTripsPerSecond the minimum number of round trips (serialization and deserialization) per second
+   */
+  public SerializationProfile(int iterations, long maxSerializedBytes, double minRoundTripsPerSecond) {
+    if (iterations < 1 || maxSerializedBytes < 0 || minRoundTripsPerSecond < 0) {
+      throw new IllegalArgumentException("Invalid serialization profile (iterations=" + iterations
+          + ", maxSerializedBytes=" + maxSerializedBytes + ", minRoundTripsPerSecond=" + minRoundTripsPerSecond
+          + ")!");
+    }
+    this.enabled = true;
+    this.iterations = iterations;
+    this.maxSerializedBytes = maxSerializedBytes;
+    this.minRoundTripsPerSecond = minRoundTripsPerSecond;
+  }
+
+  /**
+   *
+   * @return true if the serialization should be checked otherwise false
+   */
+  public boolean isEnabled() {
+    return this.enabled;
+  }
+
+  /**
+   *
+   * @return the number of measured round trips
+   */
+  public int getIterations() {
+    return this.iterations;
+  }
+
+  /**
+   *
+   * @return the maximum size of a serialized object
+   */
+  public long getMaxSerializedBytes() {
+    return this.maxSerializedBytes;
+  }
+
+  /**
+   *
+   * @return the minimum number of round trips per second
+   */
+  public double getMinRoundTripsPerSecond() {
+    return this.minRoundTripsPerSecond;
+  }
+
+  @Override
+  public int hashCode() {
+    final int prime = 31;
+    int result = 1;
+    result = prime * result + (this.enabled ? 1231 : 1237);
+    result = prime * result + this.iterations;
+    result = prime * result + Long.hashCode(this.maxSerializedBytes);
+    result = prime * result + Double.hashCode(this.minRoundTripsPerSecond);
+    return result;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null) {
+      return false;
+    }
+    if (this.getClass() != obj.getClass()) {
+      return false;
+    }
+    SerializationProfile other = (SerializationProfile) obj;
+    return this.enabled == other.enabled && this.iterations == other.iterations
+        && this.maxSerializedBytes == other.maxSerializedBytes
+        && Double.compare(this.minRoundTripsPerSecond, other.minRoundTripsPerSecond) == 0;
+  }
+
+  @Override
+  public String toString() {
+    return "SerializationProfile [enabled=" + this.enabled + ", iterations=" + this.iterations
+        + ", maxSerializedBytes=" + this.maxSerializedBytes + ", minRoundTripsPerSecond="
+        + this.minRoundTripsPerSecond + "]";
+  }
+}
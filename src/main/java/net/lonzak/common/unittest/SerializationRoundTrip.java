@@ -0,0 +1,142 @@
+/*
+ * =========================================== unittest-utilities ===========================================
+ *
+ * Project Info: https://github.com/Lonzak/unittest-utilities
+ *
+ * (C) Copyright 2012-2025 nepatec GmbH
+ *
+ * This file is part of unittest-utilities
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version. This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details. You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package net.lonzak.common.unittest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Serializes and deserializes objects into a reusable in-memory buffer (cp. {@link SerializationProfile}).
+ *
+ * @author Lonzak
+ *
+ */
+final class SerializationRoundTrip {
+
+  private final ReusableBuffer buffer = new ReusableBuffer();
+
+  /**
+   *
+   * @param dtoClass the tested class
+   * @param constructedObjects the objects to serialize
+   * @param checkEquals true if the class implements equals()
+   * @param profile the thresholds
+   * @throws PotentialErrorDetected if the round trip fails or a threshold is violated
+   */
+  static void check(Class<?> dtoClass, Map<Object, Object> constructedObjects, boolean checkEquals,
+      SerializationProfile profile) {
+    SerializationRoundTrip roundTrip = new SerializationRoundTrip();
+    long maxBytes = 0;
+    double minRoundTripsPerSecond = Double.MAX_VALUE;
+
+    for (Entry<Object, Object> entry : constructedObjects.entrySet()) {
+      Object original = entry.getKey();
+      Object copy;
+      try {
+        copy = roundTrip.roundTrip(original);
+      }
+      catch (NotSerializableException nse) {
+        throw new PotentialErrorDetected(dtoClass.getSimpleName()
+            + " implements Serializable however it references a class which is not serializable: " + nse.getMessage()
+            + ". Make the field transient or the referenced class serializable.", nse);
+      }
+      catch (IOException | ClassNotFoundException e) {
+        throw new PotentialErrorDetected(
+            dtoClass.getSimpleName() + " could not be serialized and deserialized: " + e.getMessage(), e);
+      }
+
+      if (checkEquals && !AutoTester.callEquals(original, copy)) {
+        throw new PotentialErrorDetected(dtoClass.getSimpleName()
+            + ": The deserialized object is not equal to the serialized one. Check transient fields and custom readObject/writeObject methods. Values: "
+            + original + " vs. " + copy);
+      }
+      maxBytes = Math.max(maxBytes, roundTrip.buffer.size());
+      minRoundTripsPerSecond = Math.min(minRoundTripsPerSecond, roundTrip.measure(original, profile.getIterations()));
+    }
+
+    if (constructedObjects.isEmpty()) {
+      return;
+    }
+
+    String report = dtoClass.getSimpleName() + " serialization: " + maxBytes + " bytes, "
+        + String.format(Locale.ROOT, "%.0f", Double.valueOf(minRoundTripsPerSecond)) + " round trips/s";
+    AutoTester.info(report);
+
+    if (maxBytes > profile.getMaxSerializedBytes()) {
+      throw new PotentialErrorDetected(dtoClass.getSimpleName() + ": The serialized size of " + maxBytes
+          + " bytes exceeds the limit of " + profile.getMaxSerializedBytes()
+          + " bytes. The object graph is bloated - consider transient caches or smaller references (" + report + ").");
+    }
+    if (minRoundTripsPerSecond < profile.getMinRoundTripsPerSecond()) {
+      throw new PotentialErrorDetected(dtoClass.getSimpleName() + ": Only "
+          + String.format(Locale.ROOT, "%.0f", Double.valueOf(minRoundTripsPerSecond))
+          + " serialization round trips per second instead of at least " + profile.getMinRoundTripsPerSecond() + " ("
+          + report + ").");
+    }
+  }
+
+  private double measure(Object original, int iterations) {
+    try {
+      // warmup
+      for (int i = 0; i < iterations; i++) {
+        roundTrip(original);
+      }
+      long start = System.nanoTime();
+      for (int i = 0; i < iterations; i++) {
+        roundTrip(original);
+      }
+      long duration = Math.max(1, System.nanoTime() - start);
+      return iterations * 1_000_000_000d / duration;
+    }
+    catch (IOException | ClassNotFoundException e) {
+      throw new PotentialErrorDetected("The serialization round trip failed during the measurement: " + e.getMessage(),
+          e);
+    }
+  }
+
+  private Object roundTrip(Object original) throws IOException, ClassNotFoundException {
+    this.buffer.reset();
+    try (ObjectOutputStream out = new ObjectOutputStream(this.buffer)) {
+      out.writeObject(original);
+    }
+    try (ObjectInputStream in = new ObjectInputStream(this.buffer.toInputStream())) {
+      return in.readObject();
+    }
+  }
+
+  /**
+   * Keeps its internal array between the round trips and reads it without copying.
+   */
+  private static final class ReusableBuffer extends ByteArrayOutputStream {
+
+    ReusableBuffer() {
+      super(4096);
+    }
+
+    ByteArrayInputStream toInputStream() {
+      return new ByteArrayInputStream(this.buf, 0, this.count);
+    }
+  }
+}
@@ -0,0 +1,192 @@
+/*
+ * =========================================== unittest-utilities ===========================================
+ *
+ * Project Info: https://github.com/Lonzak/unittest-utilities
+ *
+ * (C) Copyright 2012-2025 nepatec GmbH
+ *
+ * This file is part of unittest-utilities
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version. This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details. You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package net.lonzak.common.unittest;
+
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * The counters of the {@link AutoTesterMXBean}. All counters are striped ({@link LongAdder}) thus updating them stays
+ * cheap even if classes are tested in parallel.
+ *
+ * @author Lonzak
+ *
+ */
+final class Statistics implements AutoTesterMXBean {
+
+  static final String OBJECT_NAME = "net.lonzak.common.unittest:type=AutoTester";
+
+  private final LongAdder classesTested = new LongAdder();
+  private final LongAdder classesFailed = new LongAdder();
+  private final LongAdder objectsConstructed = new LongAdder();
+  private final LongAdder invocations = new LongAdder();
+  private final LongAdder propertyCacheLookups = new LongAdder();
+  private final LongAdder propertyCacheHits = new LongAdder();
+  private final Map<String, LongAdder> generatorCalls = new ConcurrentHashMap<>();
+  // all phases are added upfront thus the map is only read concurrently
+  private final Map<Phase, LongAdder> phaseNanos = new EnumMap<>(Phase.class);
+
+  Statistics() {
+    for (Phase phase : Phase.values()) {
+      this.phaseNanos.put(phase, new LongAdder());
+    }
+  }
+
+  /**
+   * Registers the bean at the platform MBean server (an already registered bean is replaced).
+   */
+  void register() {
+    try {
+      MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      ObjectName name = new ObjectName(OBJECT_NAME);
+      if (server.isRegistered(name)) {
+        server.unregisterMBean(name);
+      }
+      server.registerMBean(this, name);
+    }
+    catch (JMException e) {
+      throw new IllegalStateException("Could not register the MBean " + OBJECT_NAME + ": " + e.getMessage(), e);
+    }
+  }
+
+  void unregister() {
+    try {
+      MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      ObjectName name = new ObjectName(OBJECT_NAME);
+      if (server.isRegistered(name)) {
+        server.unregisterMBean(name);
+      }
+    }
+    catch (JMException e) {
+      throw new IllegalStateException("Could not unregister the MBean " + OBJECT_NAME + ": " + e.getMessage(), e);
+    }
+  }
+
+  void classFinished(boolean failed) {
+    this.classesTested.increment();
+    if (failed) {
+      this.classesFailed.increment();
+    }
+  }
+
+  void countObjects(int count) {
+    this.objectsConstructed.add(count);
+  }
+
+  void countInvocation() {
+    this.invocations.increment();
+  }
+
+  void countGenerated(Class<?> type) {
+    this.generatorCalls.computeIfAbsent(type.getName(), t -> new LongAdder()).increment();
+  }
+
+  void countCacheLookup(boolean hit) {
+    this.propertyCacheLookups.increment();
+    if (hit) {
+      this.propertyCacheHits.increment();
+    }
+  }
+
+  void addPhaseTime(Phase phase, long nanos) {
+    this.phaseNanos.get(phase).add(nanos);
+  }
+
+  @Override
+  public long getClassesTested() {
+    return this.classesTested.sum();
+  }
+
+  @Override
+  public long getClassesFailed() {
+    return this.classesFailed.sum();
+  }
+
+  @Override
+  public long getObjectsConstructed() {
+    return this.objectsConstructed.sum();
+  }
+
+  @Override
+  public long getInvocations() {
+    return this.invocations.sum();
+  }
+
+  @Override
+  public Map<String, Long> getGeneratorCalls() {
+    Map<String, Long> calls = new TreeMap<>();
+    for (Entry<String, LongAdder> entry : this.generatorCalls.entrySet()) {
+      calls.put(entry.getKey(), Long.valueOf(entry.getValue().sum()));
+    }
+    return calls;
+  }
+
+  @Override
+  public long getPropertyCacheLookups() {
+    return this.propertyCacheLookups.sum();
+  }
+
+  @Override
+  public long getPropertyCacheHits() {
+    return this.propertyCacheHits.sum();
+  }
+
+  @Override
+  public double getPropertyCacheHitRate() {
+    long lookups = this.propertyCacheLookups.sum();
+    return lookups == 0 ? 0 : (double) this.propertyCacheHits.sum() / lookups;
+  }
+
+  @Override
+  public Map<String, Long> getPhaseMillis() {
+    Map<String, Long> millis = new TreeMap<>();
+    for (Entry<Phase, LongAdder> entry : this.phaseNanos.entrySet()) {
+      millis.put(entry.getKey().name(), Long.valueOf(entry.getValue().sum() / 1_000_000));
+    }
+    return millis;
+  }
+
+  @Override
+  public void reset() {
+    this.classesTested.reset();
+    this.classesFailed.reset();
+    this.objectsConstructed.reset();
+    this.invocations.reset();
+    this.propertyCacheLookups.reset();
+    this.propertyCacheHits.reset();
+    this.generatorCalls.clear();
+    for (LongAdder nanos : this.phaseNanos.values()) {
+      nanos.reset();
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "Statistics [classesTested=" + this.classesTested + ", classesFailed=" + this.classesFailed
+        + ", objectsConstructed=" + this.objectsConstructed + ", invocations=" + this.invocations + "]";
+  }
+}
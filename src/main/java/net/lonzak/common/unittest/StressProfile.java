@@ -0,0 +1,147 @@
+/*
+ * =========================================== unittest-utilities ===========================================
+ *
+ * Project Info: https://github.com/Lonzak/unittest-utilities
+ *
+ * (C) Copyright 2012-2025 nepatec GmbH
+ *
+ * This file is part of unittest-utilities
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version. This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details. You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package net.lonzak.common.unittest;
+
+/**
+ * By default the {@link AutoTester} generates tiny values (a few collection elements, arrays below 42 elements and
+ * short strings). A stress profile instead fills collections, maps, arrays and strings with production-sized data
+ * (e.g. 10k - 1M elements) to detect equals(), hashCode() or toString() implementations which do not scale.
+ * <p>
+ * Note that the {@link GraphBudget} still applies, thus the budget may limit the stress sizes.
+ *
+ * Usage:
+ *
+ * <pre>
+ * {@code
+ * AutoTester.setStressProfile(new StressProfile(100000));
+ * }
+ * </pre>
+ *
+ * @author Lonzak
+ *
+ */
+public final class StressProfile {
+
+  /**
+   * No stress sizes - the default (small) values are generated.
+   */
+  public static final StressProfile NONE = new StressProfile();
+
+  private final boolean enabled;
+  private final int collectionSize;
+  private final int arrayLength;
+  private final int stringLength;
+
+  private StressProfile() {
+    this.enabled = false;
+    this.collectionSize = 0;
+    this.arrayLength = 0;
+    this.stringLength = 0;
+  }
+
+  /**
+   * Uses the same size for collections, maps, arrays and strings.
+   *
+   * @param size the number of elements (or characters)
+   */
+  public StressProfile(int size) {
+    this(size, size, size);
+  }
+
+  /**
+   *
+   * @param collectionSize number of elements of the generated collections and maps
+   * @param arrayLength length of the generated arrays
+   * @param stringLength length of the generated strings
+   */
+  public StressProfile(int collectionSize, int arrayLength, int stringLength) {
+    if (collectionSize < 0 || arrayLength < 0 || stringLength < 0) {
+      throw new IllegalArgumentException("The stress sizes can not be negative (collectionSize=" + collectionSize
+          + ", arrayLength=" + arrayLength + ", stringLength=" + stringLength + ")!");
+    }
+    this.enabled = true;
+    this.collectionSize = collectionSize;
+    this.arrayLength = arrayLength;
+    this.stringLength = stringLength;
+  }
+
+  /**
+   *
+   * @return true if stress sizes should be generated otherwise false
+   */
+  public boolean isEnabled() {
+    return this.enabled;
+  }
+
+  /**
+   *
+   * @return the number of elements of the generated collections and maps
+   */
+  public int getCollectionSize() {
+    return this.collectionSize;
+  }
+
+  /**
+   *
+   * @return the length of the generated arrays
+   */
+  public int getArrayLength() {
+    return this.arrayLength;
+  }
+
+  /**
+   *
+   * @return the length of the generated strings
+   */
+  public int getStringLength() {
+    return this.stringLength;
+  }
+
+  @Override
+  public int hashCode() {
+    final int prime = 31;
+    int result = 1;
+    result = prime * result + this.arrayLength;
+    result = prime * result + this.collectionSize;
+    result = prime * result + (this.enabled ? 1231 : 1237);
+    result = prime * result + this.stringLength;
+    return result;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null) {
+      return false;
+    }
+    if (this.getClass() != obj.getClass()) {
+      return false;
+    }
+    StressProfile other = (StressProfile) obj;
+    return this.arrayLength == other.arrayLength && this.collectionSize == other.collectionSize
+        && this.enabled == other.enabled && this.stringLength == other.stringLength;
+  }
+
+  @Override
+  public String toString() {
+    return "StressProfile [enabled=" + this.enabled + ", collectionSize=" + this.collectionSize + ", arrayLength="
+        + this.arrayLength + ", stringLength=" + this.stringLength + "]";
+  }
+}
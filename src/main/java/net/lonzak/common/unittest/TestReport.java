@@ -0,0 +1,140 @@
+/*
+ * =========================================== unittest-utilities ===========================================
+ *
+ * Project Info: https://github.com/Lonzak/unittest-utilities
+ *
+ * (C) Copyright 2012-2025 nepatec GmbH
+ *
+ * This file is part of unittest-utilities
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version. This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details. You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package net.lonzak.common.unittest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import net.lonzak.common.unittest.Finding.Severity;
+
+/**
+ * All findings of an {@link AutoTester} run. With {@link FailureMode#COLLECT_ALL} one run surfaces every broken class
+ * instead of stopping at the first one.
+ *
+ * Usage:
+ *
+ * <pre>
+ * {@code
+ * TestReport report = AutoTester.testClasses(FailureMode.COLLECT_ALL, CustomerDTO.class, OrderDTO.class);
+ * report.assertNoErrors();
+ * }
+ * </pre>
+ *
+ * @author Lonzak
+ *
+ */
+public final class TestReport {
+
+  private final List<Finding> findings = new ArrayList<>();
+
+  TestReport() {}
+
+  synchronized void add(Finding finding) {
+    this.findings.add(finding);
+  }
+
+  synchronized int size() {
+    return this.findings.size();
+  }
+
+  synchronized List<Finding> getFindingsFrom(int index) {
+    return new ArrayList<>(this.findings.subList(index, this.findings.size()));
+  }
+
+  /**
+   *
+   * @return all findings in the order they were reported
+   */
+  public synchronized List<Finding> getFindings() {
+    return Collections.unmodifiableList(new ArrayList<>(this.findings));
+  }
+
+  /**
+   *
+   * @return the errors
+   */
+  public List<Finding> getErrors() {
+    return getFindings(Severity.ERROR);
+  }
+
+  /**
+   *
+   * @return the warnings
+   */
+  public List<Finding> getWarnings() {
+    return getFindings(Severity.WARNING);
+  }
+
+  /**
+   *
+   * @return the measurements (e.g. costs, allocations or serialized sizes)
+   */
+  public List<Finding> getInfos() {
+    return getFindings(Severity.INFO);
+  }
+
+  /**
+   *
+   * @return true if at least one error was found
+   */
+  public boolean hasErrors() {
+    return !getErrors().isEmpty();
+  }
+
+  /**
+   * @throws PotentialErrorDetected listing all errors if at least one error was found (the exceptions of the errors
+   *         are attached as suppressed exceptions)
+   */
+  public void assertNoErrors() {
+    List<Finding> errors = getErrors();
+    if (!errors.isEmpty()) {
+      StringBuilder message = new StringBuilder().append(errors.size()).append(" error(s) found:");
+      for (Finding error : errors) {
+        message.append(System.lineSeparator()).append(error);
+      }
+      PotentialErrorDetected detected = new PotentialErrorDetected(message.toString());
+      // the stack traces show where e.g. an unexpected exception came from
+      for (Finding error : errors) {
+        if (error.getCause() != null) {
+          detected.addSuppressed(error.getCause());
+        }
+      }
+      throw detected;
+    }
+  }
+
+  private synchronized List<Finding> getFindings(Severity severity) {
+    List<Finding> result = new ArrayList<>();
+    for (Finding finding : this.findings) {
+      if (finding.getSeverity() == severity) {
+        result.add(finding);
+      }
+    }
+    return Collections.unmodifiableList(result);
+  }
+
+  @Override
+  public synchronized String toString() {
+    StringBuilder builder = new StringBuilder("TestReport [findings=").append(this.findings.size()).append(']');
+    for (Finding finding : this.findings) {
+      builder.append(System.lineSeparator()).append(finding);
+    }
+    return builder.toString();
+  }
+}
@@ -0,0 +1,288 @@
+/*
+ * =========================================== unittest-utilities ===========================================
+ *
+ * Project Info: https://github.com/Lonzak/unittest-utilities
+ *
+ * (C) Copyright 2012-2025 nepatec GmbH
+ *
+ * This file is part of unittest-utilities
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version. This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details. You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package net.lonzak.common.unittest;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import net.lonzak.common.unittest.Finding.Severity;
+import net.lonzak.common.unittest.FlightRecorderEvents.ClassTestEvent;
+import net.lonzak.common.unittest.FlightRecorderEvents.PhaseEvent;
+
+/**
+ * The state of the current {@link AutoTester} run: the report, the failure mode and the class, phase, property and
+ * constructor which are currently tested. The findings are attributed to this state and the registered
+ * {@link AutoTesterListener}s are notified about every change. Without listeners (or MBean) no timings are taken. Classes and
+ * phases are also emitted as (by default disabled) flight recorder events.
+ *
+ * @author Lonzak
+ *
+ */
+final class TestRun {
+
+  private static final AutoTesterListener[] NO_LISTENERS = new AutoTesterListener[0];
+
+  private final TestReport report;
+  private final FailureMode failureMode;
+  private AutoTesterListener[] listeners = NO_LISTENERS;
+  // the counters of the MBean (or null)
+  private Statistics statistics;
+
+  private Class<?> dtoClass;
+  private long seed;
+  private Phase phase;
+  private String property;
+  private int constructor;
+  private final Set<String> skippedProperties = new TreeSet<>();
+  // the warnings of the current class (each distinct warning is reported once per phase and property)
+  private final Set<String> warnings = new HashSet<>();
+  // index of the first finding of the current class
+  private int firstFinding;
+
+  // flight recorder events (no-ops unless a recording enables them)
+  private ClassTestEvent classEvent;
+  private PhaseEvent phaseEvent;
+
+  // number of constructed objects
+  private long objects;
+  private long classStart;
+  private long classObjects;
+  private long phaseStart;
+  private long phaseObjects;
+  private long propertyStart;
+  private long propertyObjects;
+  private long constructorStart;
+  private long constructorObjects;
+
+  TestRun(TestReport report, FailureMode failureMode) {
+    this.report = report;
+    this.failureMode = failureMode;
+  }
+
+  TestReport getReport() {
+    return this.report;
+  }
+
+  String getClassName() {
+    return this.dtoClass == null ? null : this.dtoClass.getName();
+  }
+
+  String getProperty() {
+    return this.property;
+  }
+
+  boolean isFailFast() {
+    return this.failureMode == FailureMode.FAIL_FAST;
+  }
+
+  void startClass(Class<?> dtoClass, long seed, AutoTesterListener[] listeners, Statistics statistics) {
+    this.dtoClass = dtoClass;
+    this.seed = seed;
+    this.listeners = listeners;
+    this.statistics = statistics;
+    this.phase = null;
+    this.property = null;
+    this.constructor = 0;
+    this.skippedProperties.clear();
+    this.warnings.clear();
+    this.firstFinding = this.report.size();
+    this.classEvent = new ClassTestEvent();
+    this.classEvent.begin();
+    this.classObjects = this.objects;
+    if (this.listeners.length > 0) {
+      this.classStart = System.nanoTime();
+      for (AutoTesterListener listener : this.listeners) {
+        listener.classStarted(dtoClass);
+      }
+    }
+  }
+
+  void finishClass() {
+    startPhase(null);
+    this.classEvent.finish(this.dtoClass, this.objects - this.classObjects);
+    if (this.listeners.length > 0) {
+      long nanos = System.nanoTime() - this.classStart;
+      for (AutoTesterListener listener : this.listeners) {
+        listener.classFinished(this.dtoClass, nanos, this.objects - this.classObjects);
+      }
+      ClassResult result = new ClassResult(this.dtoClass.getName(), this.seed, nanos,
+          this.objects - this.classObjects, this.report.getFindingsFrom(this.firstFinding),
+          new TreeSet<>(this.skippedProperties));
+      for (AutoTesterListener listener : this.listeners) {
+        listener.classReported(result);
+      }
+    }
+    if (this.statistics != null) {
+      this.statistics.classFinished(hasErrors(this.report.getFindingsFrom(this.firstFinding)));
+    }
+    this.listeners = NO_LISTENERS;
+    this.statistics = null;
+  }
+
+  /**
+   *
+   * @return true if no error was reported for the current (or last) class
+   */
+  boolean isClassPassed() {
+    return !hasErrors(this.report.getFindingsFrom(this.firstFinding));
+  }
+
+  /**
+   * Finishes the current phase (if any) and starts the next one.
+   *
+   * @param phase the next phase or null
+   */
+  void startPhase(Phase phase) {
+    setProperty(null);
+    setConstructor(0);
+    if (this.phase != null) {
+      this.phaseEvent.finish(this.dtoClass, this.phase, this.objects - this.phaseObjects);
+    }
+    if (phase != null) {
+      this.phaseEvent = new PhaseEvent();
+      this.phaseEvent.begin();
+    }
+    if (this.listeners.length > 0 || this.statistics != null) {
+      if (this.phase != null) {
+        long nanos = System.nanoTime() - this.phaseStart;
+        if (this.statistics != null) {
+          this.statistics.addPhaseTime(this.phase, nanos);
+        }
+        for (AutoTesterListener listener : this.listeners) {
+          listener.phaseFinished(this.dtoClass, this.phase, nanos, this.objects - this.phaseObjects);
+        }
+      }
+      if (phase != null) {
+        this.phaseStart = System.nanoTime();
+        for (AutoTesterListener listener : this.listeners) {
+          listener.phaseStarted(this.dtoClass, phase);
+        }
+      }
+    }
+    this.phase = phase;
+    this.phaseObjects = this.objects;
+  }
+
+  /**
+   * Finishes the current property (if any) and starts the next one.
+   *
+   * @param property the next property or null
+   */
+  void setProperty(String property) {
+    if (this.listeners.length > 0) {
+      if (this.property != null) {
+        long nanos = System.nanoTime() - this.propertyStart;
+        for (AutoTesterListener listener : this.listeners) {
+          listener.propertyFinished(this.dtoClass, this.phase, this.property, nanos,
+              this.objects - this.propertyObjects);
+        }
+      }
+      if (property != null) {
+        this.propertyStart = System.nanoTime();
+        this.propertyObjects = this.objects;
+        for (AutoTesterListener listener : this.listeners) {
+          listener.propertyStarted(this.dtoClass, this.phase, property);
+        }
+      }
+    }
+    this.property = property;
+  }
+
+  /**
+   * Finishes the current constructor (if any) and starts the next one.
+   *
+   * @param constructor the number of the next constructor (cp. {@link Finding#getConstructor()}) or 0
+   */
+  void setConstructor(int constructor) {
+    if (this.listeners.length > 0) {
+      if (this.constructor > 0) {
+        long nanos = System.nanoTime() - this.constructorStart;
+        for (AutoTesterListener listener : this.listeners) {
+          listener.constructorFinished(this.dtoClass, this.phase, this.constructor, nanos,
+              this.objects - this.constructorObjects);
+        }
+      }
+      if (constructor > 0) {
+        this.constructorStart = System.nanoTime();
+        this.constructorObjects = this.objects;
+        for (AutoTesterListener listener : this.listeners) {
+          listener.constructorStarted(this.dtoClass, this.phase, constructor);
+        }
+      }
+    }
+    this.constructor = constructor;
+  }
+
+  void skipProperty(String property) {
+    this.skippedProperties.add(property);
+  }
+
+  void countObjects(int count) {
+    this.objects += count;
+    if (this.statistics != null) {
+      this.statistics.countObjects(count);
+    }
+  }
+
+  /**
+   *
+   * @param message the warning
+   * @return true if the warning was reported and false if it is a repetition (e.g. for another constructor)
+   */
+  boolean warn(String message) {
+    if (!this.warnings.add(this.phase + "\u0000" + this.property + "\u0000" + message)) {
+      return false;
+    }
+    add(Severity.WARNING, message);
+    return true;
+  }
+
+  void info(String message) {
+    add(Severity.INFO, message);
+  }
+
+  void error(Throwable error) {
+    add(Severity.ERROR, error.getMessage() == null ? error.toString() : error.getMessage(), error);
+  }
+
+  private static boolean hasErrors(List<Finding> findings) {
+    for (Finding finding : findings) {
+      if (finding.getSeverity() == Severity.ERROR) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void add(Severity severity, String message) {
+    add(severity, message, null);
+  }
+
+  private void add(Severity severity, String message, Throwable cause) {
+    this.report.add(new Finding(severity, this.dtoClass == null ? null : this.dtoClass.getName(), this.phase,
+        this.property, this.constructor, message, this.seed, cause));
+  }
+
+  @Override
+  public String toString() {
+    return "TestRun [failureMode=" + this.failureMode + ", dtoClass=" + this.dtoClass + ", phase=" + this.phase
+        + ", property=" + this.property + ", constructor=" + this.constructor + "]";
+  }
+}
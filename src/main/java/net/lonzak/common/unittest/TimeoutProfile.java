@@ -0,0 +1,120 @@
+/*
+ * =========================================== unittest-utilities ===========================================
+ *
+ * Project Info: https://github.com/Lonzak/unittest-utilities
+ *
+ * (C) Copyright 2012-2025 nepatec GmbH
+ *
+ * This file is part of unittest-utilities
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version. This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details. You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package net.lonzak.common.unittest;
+
+/**
+ * Some random inputs make user code run practically forever (e.g. a BigDecimal with a huge negative scale). With a
+ * timeout profile each class is tested in a supervised worker thread: if the class or a single invocation of a
+ * constructor or method (including equals(), hashCode() and toString()) takes too long the worker is interrupted and
+ * the hanging constructor or method is reported together with its arguments. Thus one pathological class no longer
+ * stalls the whole run.
+ * <p>
+ * Note that a worker which ignores the interrupt can not be stopped - it is abandoned and runs until the hanging code
+ * returns into the AutoTester (or the JVM exits). The next classes are tested as usual.
+ *
+ * Usage:
+ *
+ * <pre>
+ * {@code
+ * AutoTester.setTimeoutProfile(new TimeoutProfile(30000, 5000));
+ * }
+ * </pre>
+ *
+ * @author Lonzak
+ *
+ */
+public final class TimeoutProfile {
+
+  /**
+   * No timeouts - the classes are tested in the calling thread (default).
+   */
+  public static final TimeoutProfile NONE = new TimeoutProfile(0, 0);
+
+  private final long classTimeoutMillis;
+  private final long invocationTimeoutMillis;
+
+  /**
+   *
+   * @param classTimeoutMillis maximum duration of the test of one class in milliseconds (0 = no limit)
+   * @param invocationTimeoutMillis maximum duration of one constructor, setter or getter invocation in milliseconds (0 =
+   *        no limit)
+   */
+  public TimeoutProfile(long classTimeoutMillis, long invocationTimeoutMillis) {
+    if (classTimeoutMillis < 0 || invocationTimeoutMillis < 0) {
+      throw new IllegalArgumentException("The timeouts can not be negative (classTimeoutMillis=" + classTimeoutMillis
+          + ", invocationTimeoutMillis=" + invocationTimeoutMillis + ")!");
+    }
+    this.classTimeoutMillis = classTimeoutMillis;
+    this.invocationTimeoutMillis = invocationTimeoutMillis;
+  }
+
+  /**
+   *
+   * @return true if at least one timeout is set otherwise false
+   */
+  public boolean isEnabled() {
+    return this.classTimeoutMillis > 0 || this.invocationTimeoutMillis > 0;
+  }
+
+  /**
+   *
+   * @return the maximum duration of the test of one class in milliseconds (0 = no limit)
+   */
+  public long getClassTimeoutMillis() {
+    return this.classTimeoutMillis;
+  }
+
+  /**
+   *
+   * @return the maximum duration of one invocation in milliseconds (0 = no limit)
+   */
+  public long getInvocationTimeoutMillis() {
+    return this.invocationTimeoutMillis;
+  }
+
+  @Override
+  public int hashCode() {
+    final int prime = 31;
+    int result = 1;
+    result = prime * result + Long.hashCode(this.classTimeoutMillis);
+    result = prime * result + Long.hashCode(this.invocationTimeoutMillis);
+    return result;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null) {
+      return false;
+    }
+    if (this.getClass() != obj.getClass()) {
+      return false;
+    }
+    TimeoutProfile other = (TimeoutProfile) obj;
+    return this.classTimeoutMillis == other.classTimeoutMillis
+        && this.invocationTimeoutMillis == other.invocationTimeoutMillis;
+  }
+
+  @Override
+  public String toString() {
+    return "TimeoutProfile [classTimeoutMillis=" + this.classTimeoutMillis + ", invocationTimeoutMillis="
+        + this.invocationTimeoutMillis + "]";
+  }
+}
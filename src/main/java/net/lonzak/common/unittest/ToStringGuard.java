@@ -0,0 +1,132 @@
+/*
+ * =========================================== unittest-utilities ===========================================
+ *
+ * Project Info: https://github.com/Lonzak/unittest-utilities
+ *
+ * (C) Copyright 2012-2025 nepatec GmbH
+ *
+ * This file is part of unittest-utilities
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version. This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details. You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package net.lonzak.common.unittest;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * Checks the length and the allocated bytes of toString() against a {@link ToStringLimit}.
+ *
+ * @author Lonzak
+ *
+ */
+final class ToStringGuard {
+
+  // only static methods thus no instantiation
+  private ToStringGuard() {}
+
+  /**
+   *
+   * @param dtoClass the tested class
+   * @param instance a stress sized instance
+   * @param limit the limits
+   * @throws PotentialErrorDetected if a limit is exceeded
+   */
+  static void check(Class<?> dtoClass, Object instance, ToStringLimit limit) throws IllegalAccessException {
+    String output;
+    long allocated;
+    boolean previouslyEnabled = AllocationProbe.enableMeasurement();
+    try {
+      long before = AllocationProbe.getCurrentThreadAllocatedBytes();
+      output = AutoTester.callToString(instance);
+      allocated = before < 0 ? -1 : AllocationProbe.getCurrentThreadAllocatedBytes() - before;
+    }
+    finally {
+      AllocationProbe.restoreMeasurement(previouslyEnabled);
+    }
+
+    int length = output == null ? 0 : output.length();
+    if (length > limit.getMaxLength()) {
+      throw new PotentialErrorDetected(dtoClass.getSimpleName() + ": The toString() output has " + length
+          + " characters which exceeds the limit of " + limit.getMaxLength() + " characters. "
+          + dominatingField(instance, output) + " Consider to print only the size or the first elements.");
+    }
+    if (allocated > limit.getMaxAllocatedBytes()) {
+      throw new PotentialErrorDetected(dtoClass.getSimpleName() + ": The toString() call allocates " + allocated
+          + " bytes which exceeds the limit of " + limit.getMaxAllocatedBytes() + " bytes. "
+          + dominatingField(instance, output) + " Consider to print only the size or the first elements.");
+    }
+  }
+
+  /**
+   * Finds the field which contributes the most characters to the toString() output: each field is blanked (set to
+   * null) in turn and the output is compared. Thus fields which toString() does not print are never blamed.
+   *
+   * @param instance the instance
+   * @param output the toString() output of the instance
+   * @return a description of the dominating field
+   */
+  static String dominatingField(Object instance, String output) {
+    int length = output == null ? 0 : output.length();
+    String name = null;
+    int largest = 0;
+    for (Class<?> clazz = instance.getClass(); clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+      for (Field field : clazz.getDeclaredFields()) {
+        if (Modifier.isStatic(field.getModifiers()) || field.getType().isPrimitive() || !field.trySetAccessible()) {
+          continue;
+        }
+        int contribution = length - blankedLength(instance, field);
+        if (contribution > largest) {
+          largest = contribution;
+          name = field.getName();
+        }
+      }
+    }
+    if (name == null) {
+      return "No field dominates the output.";
+    }
+    return "The field '" + name + "' dominates the output (" + largest + " characters).";
+  }
+
+  /**
+   *
+   * @return the length of the toString() output without the value of the field (or Integer.MAX_VALUE if the field is
+   *         null or can not be blanked)
+   */
+  private static int blankedLength(Object instance, Field field) {
+    Object value;
+    try {
+      value = field.get(instance);
+      if (value == null) {
+        return Integer.MAX_VALUE;
+      }
+      field.set(instance, null);
+    }
+    catch (IllegalAccessException e) {
+      // e.g. a final field of a record
+      return Integer.MAX_VALUE;
+    }
+    try {
+      String blanked = AutoTester.callToString(instance);
+      return blanked == null ? 0 : blanked.length();
+    }
+    catch (RuntimeException e) {
+      // e.g. toString() does not expect null
+      return Integer.MAX_VALUE;
+    }
+    finally {
+      try {
+        field.set(instance, value);
+      }
+      catch (IllegalAccessException e) {
+        throw new InternalException(e);
+      }
+    }
+  }
+}
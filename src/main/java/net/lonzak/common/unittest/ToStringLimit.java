@@ -0,0 +1,146 @@
+/*
+ * =========================================== unittest-utilities ===========================================
+ *
+ * Project Info: https://github.com/Lonzak/unittest-utilities
+ *
+ * (C) Copyright 2012-2025 nepatec GmbH
+ *
+ * This file is part of unittest-utilities
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version. This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details. You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package net.lonzak.common.unittest;
+
+/**
+ * Limits the output of toString() to prevent log bloat (e.g. a toString() which dumps a huge collection). The limits
+ * are checked on instances whose collections, maps, arrays and strings have the given stress size (cp.
+ * {@link StressProfile}). In case a limit is exceeded the field which dominates the output is reported.
+ *
+ * Usage:
+ *
+ * <pre>
+ * {@code
+ * AutoTester.setToStringLimit(new ToStringLimit(10000, 100000));
+ * }
+ * </pre>
+ *
+ * @author Lonzak
+ *
+ */
+public final class ToStringLimit {
+
+  /**
+   * The output of toString() is not limited (default).
+   */
+  public static final ToStringLimit NONE = new ToStringLimit();
+
+  private final boolean enabled;
+  private final int maxLength;
+  private final long maxAllocatedBytes;
+  private final int stressSize;
+
+  private ToStringLimit() {
+    this.enabled = false;
+    this.maxLength = Integer.MAX_VALUE;
+    this.maxAllocatedBytes = Long.MAX_VALUE;
+    this.stressSize = 0;
+  }
+
+  /**
+   * Checks the limits on instances with 10k elements (or characters).
+   *
+   * @param maxLength the maximum number of characters of toString()
+   * @param maxAllocatedBytes the maximum number of bytes allocated by one toString() call
+   */
+  public ToStringLimit(int maxLength, long maxAllocatedBytes) {
+    this(maxLength, maxAllocatedBytes, 10_000);
+  }
+
+  /**
+   *
+   * @param maxLength the maximum number of characters of toString()
+   * @param maxAllocatedBytes the maximum number of bytes allocated by one toString() call
+   * @param stressSize the number of elements (or characters) of the generated collections, maps, arrays and strings
+   */
+  public ToStringLimit(int maxLength, long maxAllocatedBytes, int stressSize) {
+    if (maxLength < 0 || maxAllocatedBytes < 0 || stressSize < 0) {
+      throw new IllegalArgumentException("The limits can not be negative (maxLength=" + maxLength
+          + ", maxAllocatedBytes=" + maxAllocatedBytes + ", stressSize=" + stressSize + ")!");
+    }
+    this.enabled = true;
+    this.maxLength = maxLength;
+    this.maxAllocatedBytes = maxAllocatedBytes;
+    this.stressSize = stressSize;
+  }
+
+  /**
+   *
+   * @return true if the output of toString() should be limited otherwise false
+   */
+  public boolean isEnabled() {
+    return this.enabled;
+  }
+
+  /**
+   *
+   * @return the maximum number of characters of toString()
+   */
+  public int getMaxLength() {
+    return this.maxLength;
+  }
+
+  /**
+   *
+   * @return the maximum number of bytes allocated by one toString() call
+   */
+  public long getMaxAllocatedBytes() {
+    return this.maxAllocatedBytes;
+  }
+
+  /**
+   *
+   * @return the number of elements (or characters) of the generated collections, maps, arrays and strings
+   */
+  public int getStressSize() {
+    return this.stressSize;
+  }
+
+  @Override
+  public int hashCode() {
+    final int prime = 31;
+    int result = 1;
+    result = prime * result + (this.enabled ? 1231 : 1237);
+    result = prime * result + Long.hashCode(this.maxAllocatedBytes);
+    result = prime * result + this.maxLength;
+    result = prime * result + this.stressSize;
+    return result;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null) {
+      return false;
+    }
+    if (this.getClass() != obj.getClass()) {
+      return false;
+    }
+    ToStringLimit other = (ToStringLimit) obj;
+    return this.enabled == other.enabled && this.maxAllocatedBytes == other.maxAllocatedBytes
+        && this.maxLength == other.maxLength && this.stressSize == other.stressSize;
+  }
+
+  @Override
+  public String toString() {
+    return "ToStringLimit [enabled=" + this.enabled + ", maxLength=" + this.maxLength + ", maxAllocatedBytes="
+        + this.maxAllocatedBytes + ", stressSize=" + this.stressSize + "]";
+  }
+}
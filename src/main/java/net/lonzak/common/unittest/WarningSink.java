@@ -0,0 +1,56 @@
+/*
+ * =========================================== unittest-utilities ===========================================
+ *
+ * Project Info: https://github.com/Lonzak/unittest-utilities
+ *
+ * (C) Copyright 2012-2025 nepatec GmbH
+ *
+ * This file is part of unittest-utilities
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version. This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details. You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package net.lonzak.common.unittest;
+
+/**
+ * Receives the warnings of the {@link AutoTester} (if warnings are enabled). The default sink is a
+ * {@link DeduplicatingWarningSink} on <code>System.err</code>.
+ *
+ * Usage:
+ *
+ * <pre>
+ * {@code
+ * AutoTester.setWarningSink(WarningSink.CONSOLE); // every warning, unfiltered
+ * }
+ * </pre>
+ *
+ * @author Lonzak
+ *
+ */
+public interface WarningSink {
+
+  /**
+   * Prints every warning to <code>System.err</code> (without deduplication).
+   */
+  WarningSink CONSOLE = (className, property, message) -> System.err.println(message);
+
+  /**
+   *
+   * @param className the tested class (or null if no class is tested)
+   * @param property the tested property (or null if the warning is not related to a property)
+   * @param message the warning
+   */
+  void warn(String className, String property, String message);
+
+  /**
+   * Called after the test of a class e.g. to print a summary.
+   *
+   * @param className the tested class
+   */
+  default void classFinished(String className) {}
+}
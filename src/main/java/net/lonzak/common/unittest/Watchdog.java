@@ -0,0 +1,255 @@
+/*
+ * =========================================== unittest-utilities ===========================================
+ *
+ * Project Info: https://github.com/Lonzak/unittest-utilities
+ *
+ * (C) Copyright 2012-2025 nepatec GmbH
+ *
+ * This file is part of unittest-utilities
+ *
+ * This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser General
+ * Public License as published by the Free Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version. This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details. You should have received a copy of the GNU Lesser General Public License along with this
+ * library; if not, write to the Free Software Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package net.lonzak.common.unittest;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the test of one class in a worker thread and supervises it according to the {@link TimeoutProfile}. The worker
+ * announces each constructor and method invocation (see {@link #enter(Executable, Object[])}) as well as direct calls
+ * of equals(), hashCode() and toString() (see {@link #enter(Class, String, Object[])}) thus a hanging invocation can be
+ * reported with its arguments.
+ * <p>
+ * A worker which ignores the interrupt is abandoned and reported once. It works on its own copy of the state of the
+ * tested class thus the next classes are tested as usual. The worker is unwound as soon as it returns into the
+ * AutoTester (see {@link #checkCurrentThread()}).
+ *
+ * @author Lonzak
+ *
+ */
+final class Watchdog {
+
+  // time for an interrupted worker to finish before it is abandoned
+  private static final long GRACE_MILLIS = 100;
+  private static final int MAX_ARGUMENT_LENGTH = 100;
+
+  // the workers which ignored the interrupt
+  private static final Set<Thread> ABANDONED = ConcurrentHashMap.newKeySet();
+
+  private final TimeoutProfile profile;
+  private final Class<?> dtoClass;
+  private volatile Thread worker;
+
+  // the current invocation of the worker: the class, the method (null for a constructor) and the arguments
+  private volatile Class<?> owner;
+  private volatile String name;
+  private volatile Object[] arguments;
+  private volatile long deadline;
+
+  Watchdog(TimeoutProfile profile, Class<?> dtoClass) {
+    this.profile = profile;
+    this.dtoClass = dtoClass;
+  }
+
+  /**
+   * Marks the start of an invocation (only called by the worker).
+   *
+   * @param member the constructor or method
+   * @param args the arguments
+   */
+  void enter(Executable member, Object[] args) {
+    enter(member.getDeclaringClass(), member instanceof Constructor ? null : member.getName(), args);
+  }
+
+  /**
+   * Marks the start of a direct call e.g. of equals() (only called by the worker).
+   *
+   * @param owner the class of the called object
+   * @param name the method or null for a constructor
+   * @param args the arguments
+   */
+  void enter(Class<?> owner, String name, Object[] args) {
+    // an abandoned worker of a previous class must not affect the current one
+    if (Thread.currentThread() != this.worker) {
+      return;
+    }
+    this.arguments = args;
+    this.name = name;
+    this.owner = owner;
+    if (this.profile.getInvocationTimeoutMillis() > 0) {
+      this.deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.profile.getInvocationTimeoutMillis());
+    }
+  }
+
+  /**
+   * Marks the end of the current invocation.
+   */
+  void exit() {
+    if (Thread.currentThread() != this.worker) {
+      return;
+    }
+    this.deadline = 0;
+    this.owner = null;
+    this.name = null;
+    this.arguments = null;
+  }
+
+  /**
+   * Unwinds an abandoned worker as soon as it returns into the AutoTester thus it can not affect the current test.
+   *
+   * @throws Abandoned if the current thread is an abandoned worker
+   */
+  static void checkCurrentThread() {
+    if (!ABANDONED.isEmpty() && ABANDONED.remove(Thread.currentThread())) {
+      throw new Abandoned();
+    }
+  }
+
+  /**
+   * Runs the test in a worker thread and waits until it is finished or a timeout expires.
+   *
+   * @param test the test of the class
+   * @throws PotentialErrorDetected if a timeout expires
+   */
+  void run(Runnable test) {
+    Throwable[] failure = new Throwable[1];
+    Thread worker = new Thread(() -> {
+      try {
+        test.run();
+      }
+      catch (Throwable t) {
+        failure[0] = t;
+      }
+    }, "AutoTester " + this.dtoClass.getName());
+    worker.setDaemon(true);
+    this.worker = worker;
+
+    long classDeadline = this.profile.getClassTimeoutMillis() > 0
+        ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.profile.getClassTimeoutMillis())
+        : Long.MAX_VALUE;
+    worker.start();
+    try {
+      while (worker.isAlive()) {
+        long now = System.nanoTime();
+        long invocationDeadline = this.deadline;
+        if (invocationDeadline != 0 && invocationDeadline - now <= 0) {
+          abort(worker, "Error @ " + this.dtoClass.getSimpleName() + ": The invocation of " + describeInvocation()
+              + " did not finish within " + this.profile.getInvocationTimeoutMillis()
+              + " ms thus the test of the class is aborted!");
+        }
+        if (classDeadline != Long.MAX_VALUE && classDeadline - now <= 0) {
+          String invocation = describeInvocation();
+          abort(worker, "Error @ " + this.dtoClass.getSimpleName() + ": The test did not finish within "
+              + this.profile.getClassTimeoutMillis() + " ms"
+              + (invocation == null ? "" : " (hanging in " + invocation + ")") + " thus it is aborted!");
+        }
+        long wait = classDeadline == Long.MAX_VALUE ? Long.MAX_VALUE : classDeadline - now;
+        if (invocationDeadline != 0) {
+          wait = Math.min(wait, invocationDeadline - now);
+        }
+        // an invocation may start at any time thus its deadline is checked at least every few milliseconds
+        long invocationTimeout = this.profile.getInvocationTimeoutMillis();
+        if (invocationTimeout > 0) {
+          wait = Math.min(wait, TimeUnit.MILLISECONDS.toNanos(Math.max(1, invocationTimeout / 10)));
+        }
+        worker.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(wait)));
+      }
+    }
+    catch (InterruptedException e) {
+      worker.interrupt();
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while testing " + this.dtoClass.getName(), e);
+    }
+
+    if (failure[0] instanceof RuntimeException) {
+      throw (RuntimeException) failure[0];
+    }
+    if (failure[0] instanceof Error) {
+      throw (Error) failure[0];
+    }
+    if (failure[0] != null) {
+      throw new IllegalStateException(failure[0]);
+    }
+  }
+
+  private static void abort(Thread worker, String message) throws InterruptedException {
+    worker.interrupt();
+    worker.join(GRACE_MILLIS);
+    if (worker.isAlive()) {
+      // workers which finished without returning into the AutoTester
+      ABANDONED.removeIf(thread -> !thread.isAlive());
+      ABANDONED.add(worker);
+      throw new PotentialErrorDetected(message
+          + " The worker ignores the interrupt thus it is abandoned (it stops as soon as it returns into the AutoTester).");
+    }
+    throw new PotentialErrorDetected(message);
+  }
+
+  /**
+   *
+   * @return the current invocation with its arguments e.g. Amount(1906457549, -619243059) or null
+   */
+  private String describeInvocation() {
+    Class<?> current = this.owner;
+    String method = this.name;
+    Object[] args = this.arguments;
+    if (current == null) {
+      return null;
+    }
+    StringBuilder description = new StringBuilder();
+    if (method == null) {
+      description.append("the constructor ").append(current.getSimpleName());
+    } else {
+      description.append(current.getSimpleName()).append('.').append(method);
+    }
+    description.append('(');
+    for (int i = 0; args != null && i < args.length; i++) {
+      description.append(i == 0 ? "" : ", ").append(describeArgument(args[i]));
+    }
+    return description.append(')').toString();
+  }
+
+  private static String describeArgument(Object arg) {
+    String value;
+    // toString() of arbitrary classes may hang as well thus only well known types are printed
+    if (arg == null || arg instanceof Boolean || arg instanceof Character || arg instanceof BigDecimal
+        || arg instanceof BigInteger || arg instanceof Number && arg.getClass().getName().startsWith("java.lang.")) {
+      value = String.valueOf(arg);
+    } else if (arg instanceof String) {
+      value = "\"" + arg + "\"";
+    } else if (arg instanceof Enum) {
+      value = ((Enum<?>) arg).name();
+    } else {
+      return arg.getClass().getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(arg));
+    }
+    return value.length() > MAX_ARGUMENT_LENGTH ? value.substring(0, MAX_ARGUMENT_LENGTH) + "..." : value;
+  }
+
+  /**
+   * Unwinds an abandoned worker. It is an {@link Error} thus the checks do not report it as finding.
+   */
+  static final class Abandoned extends Error {
+
+    private static final long serialVersionUID = 1L;
+
+    Abandoned() {
+      super("The worker was abandoned after a timeout");
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "Watchdog [profile=" + this.profile + ", dtoClass=" + this.dtoClass + "]";
+  }
+}
@@ -17,7 +17,13 @@
  */
 package net.lonzak.common.unittest;
 
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 //import java.time.Instant;
 //import java.time.LocalDate;
 //import java.time.LocalDateTime;
@@ -26,12 +32,28 @@ import java.math.BigDecimal;
 //import java.time.ZonedDateTime;
 //import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.xml.parsers.DocumentBuilderFactory;
 
 import org.junit.Assert;
 import org.junit.Test;
+import org.w3c.dom.Document;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 
 import net.lonzak.common.unittest.SpecialValueLocator.ConstructorValue;
 import net.lonzak.common.unittest.examples.classes.ArrayObject;
@@ -41,11 +63,41 @@ import net.lonzak.common.unittest.examples.classes.Constructor3;
 import net.lonzak.common.unittest.examples.classes.ConstructorFailures;
 import net.lonzak.common.unittest.examples.classes.DtoWithNoToString;
 import net.lonzak.common.unittest.examples.classes.PrivateConstructor;
+import net.lonzak.common.unittest.examples.dtos.AliasDTO;
 import net.lonzak.common.unittest.examples.dtos.BlackNumber;
+import net.lonzak.common.unittest.examples.dtos.CachedHashDTO;
+import net.lonzak.common.unittest.examples.dtos.CustomerEntity;
+import net.lonzak.common.unittest.examples.dtos.DetailDTO;
 import net.lonzak.common.unittest.examples.dtos.ExampleDTO;
+import net.lonzak.common.unittest.examples.dtos.BrokenRecord;
+import net.lonzak.common.unittest.examples.dtos.BrokenTagDTO;
+import net.lonzak.common.unittest.examples.dtos.CodeDTO;
+import net.lonzak.common.unittest.examples.dtos.ConfinedDTO;
+import net.lonzak.common.unittest.examples.dtos.GenericDTO;
+import net.lonzak.common.unittest.examples.dtos.HangingDTO;
+import net.lonzak.common.unittest.examples.dtos.HangingRecord;
+import net.lonzak.common.unittest.examples.dtos.ImmutableTagDTO;
+import net.lonzak.common.unittest.examples.dtos.InconsistentHashDTO;
+import net.lonzak.common.unittest.examples.dtos.JournalDTO;
+import net.lonzak.common.unittest.examples.dtos.LabelDTO;
+import net.lonzak.common.unittest.examples.dtos.ObservedDTO;
+import net.lonzak.common.unittest.examples.dtos.MessageDTO;
+import net.lonzak.common.unittest.examples.dtos.OrderEntity;
+import net.lonzak.common.unittest.examples.dtos.PointRecord;
+import net.lonzak.common.unittest.examples.dtos.PoorHashDTO;
+import net.lonzak.common.unittest.examples.dtos.PriorityDTO;
+import net.lonzak.common.unittest.examples.dtos.ProductEntity;
+import net.lonzak.common.unittest.examples.dtos.QuadraticDTO;
+import net.lonzak.common.unittest.examples.dtos.SessionDTO;
+import net.lonzak.common.unittest.examples.dtos.StubbornDTO;
+import net.lonzak.common.unittest.examples.dtos.SharedScratchDTO;
+import net.lonzak.common.unittest.examples.dtos.SlowHashDTO;
+import net.lonzak.common.unittest.examples.dtos.RecordingDTO;
 import net.lonzak.common.unittest.examples.dtos.RedNumber;
 import net.lonzak.common.unittest.examples.dtos.Triangle;
 import net.lonzak.common.unittest.examples.dtos.SpecialValueSetter;
+import net.lonzak.common.unittest.examples.dtos.TelescopingDTO;
+import net.lonzak.common.unittest.examples.dtos.VersionDTO;
 import net.lonzak.common.unittest.examples.enums.ClassOfColor;
 import net.lonzak.common.unittest.examples.enums.LineOfColor;
 import net.lonzak.common.unittest.examples.exceptions.DomainException;
@@ -62,6 +114,893 @@ public class AutoTesterTest {
     AutoTester.testClass(Triangle.class);
   }
 
+  @Test
+  public void testGraphBudget() {
+    try {
+      AutoTester.setGraphBudget(new GraphBudget(1, 10, 1, 2));
+      AutoTester.testClass(BlackNumber.class);
+      AutoTester.testClass(ExampleDTO.class);
+      AutoTester.testClass(Triangle.class);
+
+      for (int i = 0; i < 100; i++) {
+        Assert.assertTrue(AutoTester.getRandomIntArrayPrimitive().length <= 2);
+      }
+
+      AutoTester.setGraphBudget(new GraphBudget(0, 0, 0, 0));
+      Assert.assertEquals(0, AutoTester.getRandomByteArrayPrimitive().length);
+      AutoTester.testClass(RedNumber.class, null, null,
+          new SpecialValueLocator(new ConstructorValue(1, 1, "9910000001111")));
+    }
+    finally {
+      AutoTester.setGraphBudget(null);
+    }
+  }
+
+  @Test
+  public void testStressProfile() {
+    try {
+      AutoTester.setStressProfile(new StressProfile(10000, 20000, 500));
+      Assert.assertEquals(20000, AutoTester.getRandomIntArrayPrimitive().length);
+      Assert.assertEquals(20000, AutoTester.getRandomDoubleArray().length);
+      Assert.assertEquals(500, AutoTester.getRandomString(500).length());
+
+      AutoTester.testClass(ExampleDTO.class);
+
+      // the graph budget limits the stress sizes
+      AutoTester.setGraphBudget(new GraphBudget(5, 100, 10, 10));
+      Assert.assertEquals(10, AutoTester.getRandomCharacterArray().length);
+      AutoTester.testClass(ExampleDTO.class);
+    }
+    finally {
+      AutoTester.setStressProfile(null);
+      AutoTester.setGraphBudget(null);
+    }
+  }
+
+  @Test
+  public void testConstructorSelection() {
+    List<java.lang.reflect.Constructor<?>> constructors = Arrays.asList(TelescopingDTO.class.getConstructors());
+    List<java.lang.reflect.Constructor<?>> selected = ConstructorSampler.select(constructors, SpecialValueLocator.NONE);
+    // the default constructor (all fields null) and the one covering all parameter types
+    Set<Integer> parameterCounts = new HashSet<>();
+    for (java.lang.reflect.Constructor<?> constructor : selected) {
+      parameterCounts.add(Integer.valueOf(constructor.getParameterCount()));
+    }
+    Assert.assertEquals(new HashSet<>(Arrays.asList(Integer.valueOf(0), Integer.valueOf(4))), parameterCounts);
+
+    // constructors with special values are always selected
+    selected = ConstructorSampler.select(constructors,
+        new SpecialValueLocator(new ConstructorValue(2, 1, "special")));
+    Assert.assertEquals(3, selected.size());
+
+    // the constructors are numbered by their position in getConstructors() and not in the selection
+    final Set<Integer> numbers = new HashSet<>();
+    AutoTesterListener listener = new AutoTesterListener() {
+      @Override
+      public void constructorStarted(Class<?> dtoClass, Phase phase, int constructor) {
+        if (phase == Phase.CONSTRUCTION) {
+          numbers.add(Integer.valueOf(constructor));
+        }
+      }
+    };
+    try {
+      AutoTester.setConstructorSelection(ConstructorSelection.COVERING);
+      AutoTester.addListener(listener);
+      AutoTester.testClass(TelescopingDTO.class);
+      AutoTester.removeListener(listener);
+      AutoTester.testClass(RedNumber.class, null, null,
+          new SpecialValueLocator(new ConstructorValue(1, 1, "9910000001111")));
+    }
+    finally {
+      AutoTester.removeListener(listener);
+      AutoTester.setConstructorSelection(null);
+    }
+    Set<Integer> expected = new HashSet<>();
+    for (java.lang.reflect.Constructor<?> constructor : ConstructorSampler.select(constructors,
+        SpecialValueLocator.NONE)) {
+      expected.add(Integer.valueOf(constructors.indexOf(constructor) + 1));
+    }
+    Assert.assertEquals(expected, numbers);
+    AutoTester.testClass(TelescopingDTO.class);
+  }
+
+  @Test
+  public void testNestedGenerics() throws NoSuchMethodException {
+    AutoTester.testClass(GenericDTO.class);
+
+    java.lang.reflect.Type nestedMap = GenericDTO.class.getMethod("getNestedMap").getGenericReturnType();
+    java.lang.reflect.Type[] arguments = GenericTypeResolver.getTypeArguments(nestedMap, java.util.Map.class);
+    Assert.assertEquals(String.class, arguments[0]);
+    Assert.assertEquals(java.util.Set.class, GenericTypeResolver.getRawClass(arguments[1]));
+
+    // type arguments of a non generic subclass
+    arguments = GenericTypeResolver.getTypeArguments(java.util.Properties.class, java.util.Map.class);
+    Assert.assertEquals(Object.class, arguments[0]);
+    Assert.assertEquals(Object.class, arguments[1]);
+  }
+
+  @Test
+  public void testRecords() {
+    AutoTester.testClass(PointRecord.class);
+
+    try {
+      AutoTester.testClass(BrokenRecord.class);
+      Assert.fail("The hashCode of BrokenRecord uses a component which is ignored by equals");
+    }
+    catch (PotentialErrorDetected e) {
+      Assert.assertTrue(e.getMessage(), e.getMessage().contains("version"));
+    }
+  }
+
+  @Test
+  public void testHashDistribution() {
+    try {
+      AutoTester.setHashDistribution(new HashDistribution(500));
+      AutoTester.testClass(PointRecord.class);
+      AutoTester.testClass(TelescopingDTO.class);
+      // the high bits of a small value domain are always 0 which is fine
+      AutoTester.testClass(CodeDTO.class);
+
+      try {
+        AutoTester.testClass(PoorHashDTO.class);
+        Assert.fail("The lower 12 bits of the hashCode of PoorHashDTO are never set");
+      }
+      catch (PotentialErrorDetected e) {
+        Assert.assertTrue(e.getMessage(), e.getMessage().contains("bias of bit"));
+      }
+
+      // only a warning
+      AutoTester.setHashDistribution(new HashDistribution(500, 0.01, 0.75, 0.45, false));
+      AutoTester.testClass(PoorHashDTO.class);
+    }
+    finally {
+      AutoTester.setHashDistribution(null);
+    }
+  }
+
+  @Test
+  public void testCostProfile() {
+    try {
+      AutoTester.setCostProfile(new CostProfile(1000, 1000));
+      TestReport report = AutoTester.testClasses(PointRecord.class, SlowHashDTO.class);
+      // the measured costs are reported as info
+      Assert.assertEquals(report.getInfos().toString(), 2, report.getInfos().size());
+      Assert.assertTrue(report.getInfos().get(0).getMessage().contains("ns/op"));
+
+      // String.format in hashCode() takes far more than a nanosecond
+      AutoTester.setCostProfile(new CostProfile(1000, 1000, CostProfile.UNLIMITED, 1, CostProfile.UNLIMITED));
+      try {
+        AutoTester.testClass(SlowHashDTO.class);
+        Assert.fail("The hashCode of SlowHashDTO exceeds the budget");
+      }
+      catch (PotentialErrorDetected e) {
+        Assert.assertTrue(e.getMessage(), e.getMessage().contains("hashCode()"));
+      }
+    }
+    finally {
+      AutoTester.setCostProfile(null);
+    }
+  }
+
+  @Test
+  public void testAllocationProfile() {
+    com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    boolean enabled = threads.isThreadAllocatedMemoryEnabled();
+    threads.setThreadAllocatedMemoryEnabled(false);
+    try {
+      AutoTester.setAllocationProfile(new AllocationProfile(1000, TelescopingDTO.class, PoorHashDTO.class));
+      TestReport report = AutoTester.testClasses(PointRecord.class, TelescopingDTO.class);
+      Assert.assertTrue(report.getInfos().toString(), report.getInfos().get(0).getMessage().contains("B/call"));
+      // the JVM wide setting is only changed while the allocations are measured
+      Assert.assertFalse(threads.isThreadAllocatedMemoryEnabled());
+      // the setters are measured on a separate object thus an appending setter does not break the tested objects
+      AutoTester.testClass(JournalDTO.class);
+
+      // Objects.hash(...) allocates a varargs array
+      try {
+        AutoTester.testClass(PoorHashDTO.class);
+        Assert.fail("The hashCode of PoorHashDTO allocates");
+      }
+      catch (PotentialErrorDetected e) {
+        Assert.assertTrue(e.getMessage(), e.getMessage().contains("hashCode()"));
+      }
+    }
+    finally {
+      AutoTester.setAllocationProfile(null);
+      threads.setThreadAllocatedMemoryEnabled(enabled);
+    }
+  }
+
+  @Test
+  public void testComplexityProfile() {
+    try {
+      AutoTester.setComplexityProfile(new ComplexityProfile(1.5, 100, 1000, 3000, 10000));
+      TestReport report = AutoTester.testClasses(TelescopingDTO.class);
+      Assert.assertTrue(report.getInfos().toString(), report.getInfos().get(0).getMessage().contains("complexity:"));
+
+      try {
+        AutoTester.testClass(QuadraticDTO.class);
+        Assert.fail("The equals of QuadraticDTO is O(n^2)");
+      }
+      catch (PotentialErrorDetected e) {
+        Assert.assertTrue(e.getMessage(), e.getMessage().contains("equals()"));
+      }
+    }
+    finally {
+      AutoTester.setComplexityProfile(null);
+    }
+  }
+
+  @Test
+  public void testToStringLimit() {
+    try {
+      AutoTester.setToStringLimit(new ToStringLimit(200_000, 10_000_000, 1000));
+      AutoTester.testClass(TelescopingDTO.class);
+      AutoTester.testClass(PointRecord.class);
+
+      // the tags are printed completely
+      AutoTester.setToStringLimit(new ToStringLimit(5000, Long.MAX_VALUE, 1000));
+      try {
+        AutoTester.testClass(TelescopingDTO.class);
+        Assert.fail("The toString of TelescopingDTO prints all tags");
+      }
+      catch (PotentialErrorDetected e) {
+        Assert.assertTrue(e.getMessage(), e.getMessage().contains("'tags'"));
+      }
+
+      // the attachments have the longest string representation however only their number is printed
+      AutoTester.setToStringLimit(new ToStringLimit(500, Long.MAX_VALUE, 1000));
+      try {
+        AutoTester.testClass(MessageDTO.class);
+        Assert.fail("The toString of MessageDTO prints the complete body");
+      }
+      catch (PotentialErrorDetected e) {
+        Assert.assertTrue(e.getMessage(), e.getMessage().contains("'body'"));
+      }
+    }
+    finally {
+      AutoTester.setToStringLimit(null);
+    }
+  }
+
+  @Test
+  public void testConcurrencyProfile() {
+    try {
+      AutoTester.setConcurrencyProfile(new ConcurrencyProfile(4, 200));
+      AutoTester.testClass(TelescopingDTO.class);
+      AutoTester.testClass(PointRecord.class);
+
+      AutoTester.setConcurrencyProfile(new ConcurrencyProfile(4, 200, true));
+      AutoTester.testClass(TelescopingDTO.class);
+
+      // the hashCode uses a shared scratch field
+      AutoTester.setConcurrencyProfile(new ConcurrencyProfile(4, 1000));
+      try {
+        AutoTester.testClass(SharedScratchDTO.class);
+        Assert.fail("The hashCode of SharedScratchDTO is not thread safe");
+      }
+      catch (PotentialErrorDetected e) {
+        Assert.assertTrue(e.getMessage(), e.getMessage().contains("inconsistent hashCode"));
+      }
+
+      // an Error thrown in a worker thread must not get lost
+      AutoTester.setConcurrencyProfile(new ConcurrencyProfile(2, 100));
+      try {
+        AutoTester.testClass(ConfinedDTO.class);
+        Assert.fail("The toString of ConfinedDTO fails in other threads");
+      }
+      catch (AssertionError e) {
+        Assert.assertTrue(e.getMessage(), e.getMessage().contains("accessed by AutoTester-"));
+      }
+    }
+    finally {
+      AutoTester.setConcurrencyProfile(null);
+    }
+  }
+
+  @Test
+  public void testSerializationProfile() {
+    try {
+      AutoTester.setSerializationProfile(new SerializationProfile(100));
+      TestReport report = AutoTester.testClasses(SessionDTO.class);
+      Assert.assertTrue(report.getInfos().toString(), report.getInfos().get(0).getMessage().contains("bytes"));
+      // not serializable thus skipped
+      AutoTester.testClass(TelescopingDTO.class);
+
+      AutoTester.setSerializationProfile(new SerializationProfile(100, 16, 0));
+      try {
+        AutoTester.testClass(SessionDTO.class);
+        Assert.fail("SessionDTO is serialized to more than 16 bytes");
+      }
+      catch (PotentialErrorDetected e) {
+        Assert.assertTrue(e.getMessage(), e.getMessage().contains("serialized size"));
+      }
+    }
+    finally {
+      AutoTester.setSerializationProfile(null);
+    }
+  }
+
+  @Test
+  public void testComparableProfile() {
+    try {
+      AutoTester.setComparableProfile(new ComparableProfile(2000));
+      TestReport report = AutoTester.testClasses(VersionDTO.class);
+      Assert.assertTrue(report.getInfos().toString(),
+          report.getInfos().get(0).getMessage().contains("comparisons/s"));
+
+      // only the priority is compared
+      try {
+        AutoTester.testClass(PriorityDTO.class);
+        Assert.fail("The compareTo of PriorityDTO is not consistent with equals");
+      }
+      catch (PotentialErrorDetected e) {
+        Assert.assertTrue(e.getMessage(), e.getMessage().contains("not consistent with equals()"));
+      }
+    }
+    finally {
+      AutoTester.setComparableProfile(null);
+    }
+  }
+
+  @Test
+  public void testBatchPropertyCache() {
+    AutoTester.testClasses(CustomerEntity.class, ProductEntity.class, OrderEntity.class);
+
+    PropertyCache cache = new PropertyCache();
+    AutoTester.testClasses(cache, FailureMode.FAIL_FAST, CustomerEntity.class, ProductEntity.class, OrderEntity.class);
+    // the 3 inherited properties are verified by Customer and skipped by Product and Order
+    Assert.assertEquals(6, cache.getHits());
+  }
+
+  @Test
+  public void testFieldUsage() throws Exception {
+    FieldUsage usage = FieldUsage.of(LabelDTO.class);
+    Assert.assertTrue(usage.isKnown());
+    // hashCode() reads the key via its getter
+    Assert.assertEquals(Collections.singleton("key"), usage.getHashCodeFields());
+    Assert.assertEquals(Collections.singleton("key"), usage.getEqualsFields());
+    Assert.assertTrue(usage.isIrrelevant(LabelDTO.class.getMethod("setLabel", String.class)));
+    Assert.assertFalse(usage.isIrrelevant(LabelDTO.class.getMethod("setKey", String.class)));
+    AutoTester.testClass(LabelDTO.class);
+
+    // the bytecode only results in warnings - the setter check confirms the broken hashCode of InconsistentHashDTO
+    TestReport report = AutoTester.testClasses(FailureMode.COLLECT_ALL, InconsistentHashDTO.class,
+        CachedHashDTO.class);
+    List<Finding> errors = report.getErrors();
+    Assert.assertEquals(errors.toString(), 1, errors.size());
+    Assert.assertEquals(InconsistentHashDTO.class.getName(), errors.get(0).getClassName());
+    Assert.assertEquals(Phase.EQUALS_HASHCODE, errors.get(0).getPhase());
+    String warnings = report.getWarnings().toString();
+    Assert.assertTrue(warnings, warnings.contains("hashCode() uses the field(s) [version]"));
+    // the hash which the constructor caches is derived from the name
+    Assert.assertTrue(warnings, warnings.contains("hashCode() uses the field(s) [hash]"));
+    Assert.assertTrue(warnings, warnings.contains("a hash cached from [name]"));
+  }
+
+  @Test
+  public void testFieldMutation() {
+    // without setters the broken equals() is not detected
+    AutoTester.testClass(BrokenTagDTO.class);
+
+    AutoTester.setFieldMutation(true);
+    try {
+      AutoTester.testClass(ImmutableTagDTO.class);
+      AutoTester.testClass(ExampleDTO.class);
+      try {
+        AutoTester.testClass(BrokenTagDTO.class);
+        Assert.fail("equals() ignores the color which hashCode() uses");
+      }
+      catch (PotentialErrorDetected e) {
+        Assert.assertTrue(e.getMessage(), e.getMessage().contains("changed the field (color)"));
+      }
+      // the field which only equals() compares fails like in the setter check (the static check warns about it)
+      try {
+        AutoTester.testClass(DetailDTO.class);
+        Assert.fail("hashCode() ignores the detail which equals() compares");
+      }
+      catch (PotentialErrorDetected e) {
+        Assert.assertTrue(e.getMessage(), e.getMessage().contains("changed the field (detail)"));
+      }
+      // the hash cached in the constructor is not written directly
+      AutoTester.testClass(CachedHashDTO.class);
+
+      // the inaccessible fields are reported by every run
+      for (int i = 0; i < 2; i++) {
+        String warnings = AutoTester.testClasses(ObservedDTO.class).getWarnings().toString();
+        Assert.assertTrue(warnings, warnings.contains("The field changed can not be written"));
+      }
+    }
+    finally {
+      AutoTester.setFieldMutation(false);
+    }
+  }
+
+  @Test
+  public void testSeedReproducesValues() {
+    try {
+      AutoTester.setSeed(Long.valueOf(42));
+      RecordingDTO.VALUES.clear();
+      AutoTester.testClass(RecordingDTO.class);
+      List<Object> first = new ArrayList<>(RecordingDTO.VALUES);
+
+      RecordingDTO.VALUES.clear();
+      AutoTester.testClass(RecordingDTO.class);
+      Assert.assertFalse(first.isEmpty());
+      Assert.assertEquals(first, RecordingDTO.VALUES);
+    }
+    finally {
+      AutoTester.setSeed(null);
+      RecordingDTO.VALUES.clear();
+    }
+  }
+
+  @Test
+  public void testFailFastSeed() {
+    try {
+      AutoTester.testClass(InconsistentHashDTO.class);
+      Assert.fail("hashCode() uses a field which equals() ignores");
+    }
+    catch (PotentialErrorDetected e) {
+      Assert.assertEquals(1, e.getSuppressed().length);
+      Assert.assertTrue(e.getSuppressed()[0].getMessage(),
+          e.getSuppressed()[0].getMessage().contains("reproduce the values with AutoTester.setSeed("));
+    }
+
+    AutoTester.setSeed(Long.valueOf(42));
+    try {
+      AutoTester.testClass(InconsistentHashDTO.class);
+      Assert.fail("hashCode() uses a field which equals() ignores");
+    }
+    catch (PotentialErrorDetected e) {
+      Assert.assertTrue(e.getSuppressed()[0].getMessage(),
+          e.getSuppressed()[0].getMessage().endsWith("AutoTester.setSeed(42L))"));
+    }
+    finally {
+      AutoTester.setSeed(null);
+    }
+  }
+
+  @Test
+  public void testCollectAll() {
+    AutoTester.setSeed(Long.valueOf(42));
+    try {
+      TestReport report = AutoTester.testClasses(FailureMode.COLLECT_ALL, InconsistentHashDTO.class, ExampleDTO.class,
+          BrokenRecord.class);
+      Assert.assertTrue(report.hasErrors());
+
+      List<Finding> errors = report.getErrors();
+      // the dynamic check of InconsistentHashDTO (the static check only warns) and the record check
+      Assert.assertEquals(errors.toString(), 2, errors.size());
+      Assert.assertEquals(InconsistentHashDTO.class.getName(), errors.get(0).getClassName());
+      Assert.assertEquals(Phase.EQUALS_HASHCODE, errors.get(0).getPhase());
+      Assert.assertEquals("version", errors.get(0).getProperty());
+      Assert.assertEquals(BrokenRecord.class.getName(), errors.get(1).getClassName());
+      Assert.assertEquals(Phase.RECORD, errors.get(1).getPhase());
+      for (Finding error : errors) {
+        Assert.assertEquals(42, error.getSeed());
+      }
+
+      try {
+        report.assertNoErrors();
+        Assert.fail("The report contains errors");
+      }
+      catch (PotentialErrorDetected e) {
+        Assert.assertTrue(e.getMessage(), e.getMessage().startsWith("2 error(s) found"));
+        // the stack traces of the errors
+        Assert.assertEquals(2, e.getSuppressed().length);
+        Assert.assertSame(errors.get(0).getCause(), e.getSuppressed()[0]);
+      }
+    }
+    finally {
+      AutoTester.setSeed(null);
+    }
+  }
+
+  @Test
+  public void testListener() {
+    final List<String> events = new ArrayList<>();
+    final long[] constructedObjects = new long[1];
+    AutoTesterListener listener = new AutoTesterListener() {
+      @Override
+      public void classFinished(Class<?> dtoClass, long nanos, long objects) {
+        events.add("class " + dtoClass.getSimpleName());
+        constructedObjects[0] = objects;
+      }
+
+      @Override
+      public void phaseFinished(Class<?> dtoClass, Phase phase, long nanos, long objects) {
+        Assert.assertTrue(nanos >= 0);
+        events.add("phase " + phase);
+      }
+
+      @Override
+      public void constructorFinished(Class<?> dtoClass, Phase phase, int constructor, long nanos, long objects) {
+        events.add("constructor " + phase + " " + constructor);
+      }
+
+      @Override
+      public void propertyFinished(Class<?> dtoClass, Phase phase, String property, long nanos, long objects) {
+        events.add("property " + phase + " " + property);
+      }
+    };
+
+    AutoTester.addListener(listener);
+    try {
+      AutoTester.testClass(SessionDTO.class);
+    }
+    finally {
+      AutoTester.removeListener(listener);
+    }
+
+    Assert.assertEquals(events.toString(), "class SessionDTO", events.get(events.size() - 1));
+    Assert.assertTrue(events.toString(), events.contains("constructor CONSTRUCTION 1"));
+    Assert.assertTrue(events.toString(), events.contains("phase CONSTRUCTION"));
+    Assert.assertTrue(events.toString(), events.contains("property EQUALS_HASHCODE user"));
+    Assert.assertTrue(events.toString(), events.contains("property GETTER_SETTER lastAccess"));
+    Assert.assertTrue(events.toString(), events.contains("phase TO_STRING"));
+    Assert.assertTrue(constructedObjects[0] >= 2);
+
+    // removed listeners are not notified anymore
+    events.clear();
+    AutoTester.testClass(SessionDTO.class);
+    Assert.assertTrue(events.isEmpty());
+  }
+
+  @Test
+  public void testFlightRecorderEvents() throws Exception {
+    Path file = Files.createTempFile("autotester", ".jfr");
+    try {
+      try (Recording recording = new Recording()) {
+        recording.enable("net.lonzak.unittest.ClassTest");
+        recording.enable("net.lonzak.unittest.Phase");
+        recording.enable("net.lonzak.unittest.ConstructorInvocation");
+        recording.enable("net.lonzak.unittest.Generator");
+        recording.start();
+        AutoTester.testClass(SessionDTO.class);
+        recording.stop();
+        recording.dump(file);
+      }
+
+      Set<String> names = new HashSet<>();
+      for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+        names.add(event.getEventType().getName());
+        if ("net.lonzak.unittest.ClassTest".equals(event.getEventType().getName())) {
+          Assert.assertEquals(SessionDTO.class.getName(), event.getClass("testedClass").getName());
+          Assert.assertTrue(event.getLong("objects") >= 2);
+        }
+      }
+      Assert.assertTrue(names.toString(),
+          names.containsAll(Arrays.asList("net.lonzak.unittest.ClassTest", "net.lonzak.unittest.Phase",
+              "net.lonzak.unittest.ConstructorInvocation", "net.lonzak.unittest.Generator")));
+    }
+    finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test
+  public void testReportWriter() throws Exception {
+    Path jsonFile = Files.createTempFile("autotester", ".jsonl");
+    Path xmlFile = Files.createTempFile("autotester", ".xml");
+    try {
+      ReportWriter json = ReportWriter.jsonLines(jsonFile);
+      ReportWriter xml = ReportWriter.junitXml(xmlFile);
+      AutoTester.addListener(json);
+      AutoTester.addListener(xml);
+      try {
+        AutoTester.testClasses(FailureMode.COLLECT_ALL, InconsistentHashDTO.class, SessionDTO.class);
+      }
+      finally {
+        AutoTester.removeListener(json);
+        AutoTester.removeListener(xml);
+        json.close();
+        xml.close();
+      }
+
+      List<String> lines = Files.readAllLines(jsonFile);
+      Assert.assertEquals(2, lines.size());
+      Assert.assertTrue(lines.get(0), lines.get(0).startsWith("{\"class\":\"" + InconsistentHashDTO.class.getName()
+          + "\",\"status\":\"FAILED\""));
+      Assert.assertTrue(lines.get(0), lines.get(0).contains("\"phase\":\"EQUALS_HASHCODE\""));
+      Assert.assertTrue(lines.get(1), lines.get(1).contains("\"status\":\"PASSED\""));
+      Assert.assertTrue(lines.get(1), lines.get(1).contains("\"CONSTRUCTION\":"));
+
+      Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(xmlFile.toFile());
+      Assert.assertEquals(2, document.getElementsByTagName("testcase").getLength());
+      Assert.assertEquals(1, document.getElementsByTagName("failure").getLength());
+    }
+    finally {
+      Files.delete(jsonFile);
+      Files.delete(xmlFile);
+    }
+  }
+
+  @Test
+  public void testWarningSink() {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    AutoTester.setWarningSink(new DeduplicatingWarningSink(new PrintStream(out, true), 20));
+    try {
+      TestReport report = AutoTester.testClasses(AliasDTO.class);
+
+      String printed = out.toString();
+      int first = printed.indexOf("has no corresponding field (alias)");
+      Assert.assertTrue(printed, first >= 0);
+      Assert.assertEquals(printed, -1, printed.indexOf("has no corresponding field (alias)", first + 1));
+      Assert.assertTrue(printed, printed.contains(AliasDTO.class.getName() + ": "));
+      Assert.assertTrue(printed, printed.contains("warning(s) suppressed (alias x"));
+      Assert.assertEquals(report.getWarnings().toString(), 1, report.getWarnings().size());
+    }
+    finally {
+      AutoTester.setWarningSink(null);
+    }
+  }
+
+  @Test
+  public void testJmxStatistics() throws Exception {
+    AutoTester.setJmxEnabled(true);
+    try {
+      AutoTester.testClasses(FailureMode.COLLECT_ALL, CustomerEntity.class, ProductEntity.class, OrderEntity.class,
+          InconsistentHashDTO.class);
+
+      MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      ObjectName name = new ObjectName("net.lonzak.common.unittest:type=AutoTester");
+      Assert.assertEquals(Long.valueOf(4), server.getAttribute(name, "ClassesTested"));
+      Assert.assertEquals(Long.valueOf(1), server.getAttribute(name, "ClassesFailed"));
+      Assert.assertEquals(Long.valueOf(6), server.getAttribute(name, "PropertyCacheHits"));
+
+      AutoTesterMXBean statistics = AutoTester.getStatistics();
+      Assert.assertTrue(statistics.getObjectsConstructed() > 0);
+      Assert.assertTrue(statistics.getInvocations() > 0);
+      Assert.assertTrue(statistics.getPropertyCacheHitRate() > 0);
+      Assert.assertTrue(statistics.getGeneratorCalls().toString(),
+          statistics.getGeneratorCalls().containsKey(String.class.getName()));
+      Assert.assertTrue(statistics.getPhaseMillis().containsKey(Phase.CONSTRUCTION.name()));
+      statistics.reset();
+      Assert.assertEquals(0, statistics.getClassesTested());
+    }
+    finally {
+      AutoTester.setJmxEnabled(false);
+    }
+    Assert.assertNull(AutoTester.getStatistics());
+    Assert.assertFalse(ManagementFactory.getPlatformMBeanServer()
+        .isRegistered(new ObjectName("net.lonzak.common.unittest:type=AutoTester")));
+  }
+
+  @Test
+  public void testTimeoutProfile() {
+    AutoTester.setTimeoutProfile(new TimeoutProfile(0, 200));
+    try {
+      AutoTester.testClass(SessionDTO.class);
+      try {
+        AutoTester.testClass(HangingDTO.class);
+        Assert.fail("The hanging constructor should be reported");
+      }
+      catch (PotentialErrorDetected e) {
+        Assert.assertTrue(e.getMessage(), e.getMessage().contains("The invocation of the constructor HangingDTO(\""));
+        Assert.assertTrue(e.getMessage(), e.getMessage().contains("did not finish within 200 ms"));
+      }
+
+      AutoTester.setTimeoutProfile(new TimeoutProfile(300, 0));
+      TestReport report = AutoTester.testClasses(FailureMode.COLLECT_ALL, HangingDTO.class, SessionDTO.class);
+      Assert.assertEquals(report.getErrors().toString(), 1, report.getErrors().size());
+      Finding finding = report.getErrors().get(0);
+      Assert.assertEquals(Phase.CONSTRUCTION, finding.getPhase());
+      Assert.assertTrue(finding.getMessage(),
+          finding.getMessage().contains("did not finish within 300 ms (hanging in the constructor HangingDTO("));
+    }
+    finally {
+      AutoTester.setTimeoutProfile(null);
+    }
+  }
+
+  @Test
+  public void testTimeoutRecordConstructor() {
+    AutoTester.setTimeoutProfile(new TimeoutProfile(0, 200));
+    try {
+      AutoTester.testClass(HangingRecord.class);
+      Assert.fail("The hanging canonical constructor should be reported");
+    }
+    catch (PotentialErrorDetected e) {
+      Assert.assertTrue(e.getMessage(), e.getMessage().contains("The invocation of the constructor HangingRecord(\""));
+      Assert.assertTrue(e.getMessage(), e.getMessage().contains("did not finish within 200 ms"));
+    }
+    finally {
+      AutoTester.setTimeoutProfile(null);
+    }
+  }
+
+  @Test
+  public void testTimeoutIgnoredInterrupt() throws Exception {
+    AutoTester.setTimeoutProfile(new TimeoutProfile(0, 200));
+    try {
+      TestReport report = AutoTester.testClasses(FailureMode.COLLECT_ALL, StubbornDTO.class, SessionDTO.class);
+      // the abandoned worker is reported once - the next class is tested as usual
+      List<Finding> errors = report.getErrors();
+      Assert.assertEquals(errors.toString(), 1, errors.size());
+      Assert.assertTrue(errors.get(0).getMessage(),
+          errors.get(0).getMessage().contains("The invocation of StubbornDTO.equals(null) did not finish within 200 ms"));
+      Assert.assertTrue(errors.get(0).getMessage(), errors.get(0).getMessage().contains("it is abandoned"));
+    }
+    finally {
+      StubbornDTO.release();
+      AutoTester.setTimeoutProfile(null);
+    }
+
+    // the released worker is unwound as soon as it returns into the AutoTester
+    long deadline = System.currentTimeMillis() + 5000;
+    boolean alive = true;
+    while (alive && System.currentTimeMillis() < deadline) {
+      alive = false;
+      for (Thread thread : Thread.getAllStackTraces().keySet()) {
+        alive |= thread.getName().equals("AutoTester " + StubbornDTO.class.getName());
+      }
+      Thread.sleep(10);
+    }
+    Assert.assertFalse("The abandoned worker still runs", alive);
+  }
+
+  @Test
+  public void testLeaderboardAndProgress() {
+    Leaderboard leaderboard = new Leaderboard(2, null);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ProgressReporter progress = new ProgressReporter(new PrintStream(out, true), 0);
+    AutoTester.addListener(leaderboard);
+    AutoTester.addListener(progress);
+    try {
+      AutoTester.testClasses(FailureMode.COLLECT_ALL, SessionDTO.class, LabelDTO.class, CustomerEntity.class);
+    }
+    finally {
+      AutoTester.removeListener(leaderboard);
+      AutoTester.removeListener(progress);
+    }
+
+    List<Leaderboard.Entry> classes = leaderboard.getSlowestClasses();
+    Assert.assertEquals(2, classes.size());
+    Assert.assertTrue(classes.get(0).getNanos() >= classes.get(1).getNanos());
+    Assert.assertEquals(2, leaderboard.getSlowestPhases().size());
+    Assert.assertEquals(2, leaderboard.getSlowestProperties().size());
+    ByteArrayOutputStream printed = new ByteArrayOutputStream();
+    leaderboard.print(new PrintStream(printed, true));
+    Assert.assertTrue(printed.toString(), printed.toString().startsWith("Slowest classes:"));
+
+    String[] lines = out.toString().trim().split("\\R");
+    Assert.assertEquals(out.toString(), 3, lines.length);
+    Assert.assertTrue(lines[0], lines[0].startsWith("[1/3] 33% 0 failed") && lines[0].contains(", ETA "));
+    Assert.assertTrue(lines[2], lines[2].startsWith("[3/3] 100% 0 failed"));
+  }
+
+  @Test
+  public void testIncrementalCache() throws Exception {
+    Path file = Files.createTempDirectory("autotester").resolve("incremental.cache");
+    List<Class<?>> skipped = new ArrayList<>();
+    AutoTesterListener listener = new AutoTesterListener() {
+      @Override
+      public void classSkipped(Class<?> dtoClass) {
+        skipped.add(dtoClass);
+      }
+    };
+    AutoTester.addListener(listener);
+    try {
+      AutoTester.setIncrementalCache(file);
+      AutoTester.testClasses(FailureMode.COLLECT_ALL, SessionDTO.class, InconsistentHashDTO.class);
+      Assert.assertTrue(skipped.isEmpty());
+      String content = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+      Assert.assertTrue(content, content.contains(SessionDTO.class.getName() + " "));
+      Assert.assertFalse(content, content.contains(InconsistentHashDTO.class.getName()));
+
+      // only the passed class is skipped (and reported as skipped)
+      Path jsonFile = file.resolveSibling("report.jsonl");
+      Path xmlFile = file.resolveSibling("report.xml");
+      ReportWriter json = ReportWriter.jsonLines(jsonFile);
+      ReportWriter xml = ReportWriter.junitXml(xmlFile);
+      AutoTester.addListener(json);
+      AutoTester.addListener(xml);
+      TestReport report;
+      try {
+        report = AutoTester.testClasses(FailureMode.COLLECT_ALL, SessionDTO.class, InconsistentHashDTO.class);
+      }
+      finally {
+        AutoTester.removeListener(json);
+        AutoTester.removeListener(xml);
+        json.close();
+        xml.close();
+      }
+      Assert.assertEquals(Collections.singletonList(SessionDTO.class), skipped);
+      Assert.assertTrue(report.hasErrors());
+      List<String> lines = Files.readAllLines(jsonFile);
+      Files.delete(jsonFile);
+      Assert.assertEquals(lines.toString(), 2, lines.size());
+      Assert.assertEquals("{\"class\":\"" + SessionDTO.class.getName() + "\",\"status\":\"SKIPPED\"}", lines.get(0));
+      Assert.assertTrue(lines.get(1), lines.get(1).contains("\"status\":\"FAILED\""));
+      Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(xmlFile.toFile());
+      Files.delete(xmlFile);
+      Assert.assertEquals(2, document.getElementsByTagName("testcase").getLength());
+      Assert.assertEquals(1, document.getElementsByTagName("skipped").getLength());
+
+      // a different configuration invalidates the entry
+      skipped.clear();
+      AutoTester.setSeed(Long.valueOf(42));
+      AutoTester.testClass(SessionDTO.class);
+      Assert.assertTrue(skipped.isEmpty());
+
+      // the entries survive a restart
+      AutoTester.setIncrementalCache(file);
+      AutoTester.testClass(SessionDTO.class);
+      Assert.assertEquals(Collections.singletonList(SessionDTO.class), skipped);
+    }
+    finally {
+      AutoTester.removeListener(listener);
+      AutoTester.setIncrementalCache(null);
+      AutoTester.setSeed(null);
+      Files.deleteIfExists(file);
+      Files.delete(file.getParent());
+    }
+  }
+
+  @Test
+  public void testParallelClasses() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<?>> results = new ArrayList<>();
+      for (int i = 0; i < 40; i++) {
+        results.add(executor.submit(() -> AutoTester.testClass(Triangle.class)));
+      }
+      for (Future<?> result : results) {
+        // rethrows the failure of a thread
+        result.get();
+      }
+    }
+    finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testConcurrencyInterrupted() throws Exception {
+    AutoTester.setConcurrencyProfile(new ConcurrencyProfile(2, 60000));
+    try {
+      Thread tester = new Thread(() -> {
+        try {
+          AutoTester.testClass(SessionDTO.class);
+        }
+        catch (InternalException e) {
+          // the interrupted stress
+        }
+      });
+      tester.start();
+      Assert.assertTrue("The readers did not start", awaitReaders(true));
+      tester.interrupt();
+      tester.join(5000);
+      Assert.assertFalse(tester.isAlive());
+      // the readers stop as well
+      Assert.assertTrue("The readers still run", awaitReaders(false));
+    }
+    finally {
+      AutoTester.setConcurrencyProfile(null);
+    }
+  }
+
+  private static boolean awaitReaders(boolean alive) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 5000;
+    while (System.currentTimeMillis() < deadline) {
+      boolean found = false;
+      for (Thread thread : Thread.getAllStackTraces().keySet()) {
+        found |= thread.getName().startsWith("AutoTester-reader");
+      }
+      if (found == alive) {
+        return true;
+      }
+      Thread.sleep(10);
+    }
+    return false;
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testGraphBudgetNegative() {
+    new GraphBudget(-1, 1, 1, 1);
+  }
+
   @Test
   public void testWithPredefinedValues() {
     // Tests with a special value
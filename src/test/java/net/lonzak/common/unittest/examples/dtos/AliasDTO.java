@@ -0,0 +1,40 @@
+package net.lonzak.common.unittest.examples.dtos;
+
+/**
+ * DTO with several constructors and a setter (alias) which writes to a differently named field.
+ */
+public class AliasDTO {
+
+  private String name;
+
+  public AliasDTO() {}
+
+  public AliasDTO(String name) {
+    this.name = name;
+  }
+
+  public AliasDTO(String name, int suffix) {
+    this.name = name + suffix;
+  }
+
+  public String getName() {
+    return this.name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public String getAlias() {
+    return this.name;
+  }
+
+  public void setAlias(String alias) {
+    this.name = alias;
+  }
+
+  @Override
+  public String toString() {
+    return "AliasDTO [name=" + this.name + "]";
+  }
+}
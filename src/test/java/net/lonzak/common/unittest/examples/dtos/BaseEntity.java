@@ -0,0 +1,55 @@
+package net.lonzak.common.unittest.examples.dtos;
+
+import java.util.Objects;
+
+/**
+ * Common super class of several entities.
+ */
+public abstract class BaseEntity {
+
+  private Long id;
+  private String createdBy;
+  private long createdAt;
+
+  public Long getId() {
+    return this.id;
+  }
+
+  public void setId(Long id) {
+    this.id = id;
+  }
+
+  public String getCreatedBy() {
+    return this.createdBy;
+  }
+
+  public void setCreatedBy(String createdBy) {
+    this.createdBy = createdBy;
+  }
+
+  public long getCreatedAt() {
+    return this.createdAt;
+  }
+
+  public void setCreatedAt(long createdAt) {
+    this.createdAt = createdAt;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(this.id, this.createdBy, Long.valueOf(this.createdAt));
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    BaseEntity other = (BaseEntity) obj;
+    return Objects.equals(this.id, other.id) && Objects.equals(this.createdBy, other.createdBy)
+        && this.createdAt == other.createdAt;
+  }
+}
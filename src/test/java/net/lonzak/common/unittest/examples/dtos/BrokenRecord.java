@@ -0,0 +1,19 @@
+package net.lonzak.common.unittest.examples.dtos;
+
+import java.util.Objects;
+
+/**
+ * Record whose equals() ignores a component which is used in hashCode().
+ */
+public record BrokenRecord(String name, int version) {
+
+  @Override
+  public boolean equals(Object obj) {
+    return obj instanceof BrokenRecord && Objects.equals(((BrokenRecord) obj).name, this.name);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(this.name, Integer.valueOf(this.version));
+  }
+}
@@ -0,0 +1,55 @@
+package net.lonzak.common.unittest.examples.dtos;
+
+import java.util.Objects;
+
+/**
+ * Immutable DTO whose equals() (delegated to a helper) ignores the color which hashCode() uses.
+ */
+public final class BrokenTagDTO {
+
+  private final String name;
+  private final String color;
+
+  public BrokenTagDTO(String name, String color) {
+    this.name = name;
+    this.color = color;
+  }
+
+  public String getName() {
+    return this.name;
+  }
+
+  public String getColor() {
+    return this.color;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(this.name, this.color);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    return Identity.same(this, (BrokenTagDTO) obj);
+  }
+
+  @Override
+  public String toString() {
+    return "BrokenTagDTO [name=" + this.name + ", color=" + this.color + "]";
+  }
+
+  static final class Identity {
+
+    private Identity() {}
+
+    static boolean same(BrokenTagDTO left, BrokenTagDTO right) {
+      return Objects.equals(left.name, right.name);
+    }
+  }
+}
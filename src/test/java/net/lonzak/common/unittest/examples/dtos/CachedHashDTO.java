@@ -0,0 +1,42 @@
+package net.lonzak.common.unittest.examples.dtos;
+
+import java.util.Objects;
+
+/**
+ * Immutable DTO which caches its hashCode in the constructor (hashCode() only reads the cached hash).
+ */
+public final class CachedHashDTO {
+
+  private final String name;
+  private final int hash;
+
+  public CachedHashDTO(String name) {
+    this.name = name;
+    this.hash = Objects.hashCode(name);
+  }
+
+  public String getName() {
+    return this.name;
+  }
+
+  @Override
+  public int hashCode() {
+    return this.hash;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    return Objects.equals(this.name, ((CachedHashDTO) obj).name);
+  }
+
+  @Override
+  public String toString() {
+    return "CachedHashDTO [name=" + this.name + "]";
+  }
+}
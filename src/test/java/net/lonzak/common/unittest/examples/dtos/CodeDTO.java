@@ -0,0 +1,41 @@
+package net.lonzak.common.unittest.examples.dtos;
+
+/**
+ * DTO whose only key is a char (a small value domain) with the standard 31 * h + x hashCode.
+ */
+public class CodeDTO {
+
+  private char code;
+
+  public char getCode() {
+    return this.code;
+  }
+
+  public void setCode(char code) {
+    this.code = code;
+  }
+
+  @Override
+  public int hashCode() {
+    final int prime = 31;
+    int result = 1;
+    result = prime * result + this.code;
+    return result;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    return this.code == ((CodeDTO) obj).code;
+  }
+
+  @Override
+  public String toString() {
+    return "CodeDTO [code=" + this.code + "]";
+  }
+}
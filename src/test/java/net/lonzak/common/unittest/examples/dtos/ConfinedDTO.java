@@ -0,0 +1,26 @@
+package net.lonzak.common.unittest.examples.dtos;
+
+/**
+ * DTO which may only be used by the thread which created it (its toString() asserts that).
+ */
+public class ConfinedDTO {
+
+  private final transient Thread owner = Thread.currentThread();
+  private String name;
+
+  public String getName() {
+    return this.name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  @Override
+  public String toString() {
+    if (Thread.currentThread() != this.owner) {
+      throw new AssertionError("ConfinedDTO accessed by " + Thread.currentThread().getName());
+    }
+    return "ConfinedDTO [name=" + this.name + "]";
+  }
+}
@@ -0,0 +1,34 @@
+package net.lonzak.common.unittest.examples.dtos;
+
+import java.util.Objects;
+
+/**
+ * Entity which adds a property to equals/hashCode of its super class.
+ */
+public class CustomerEntity extends BaseEntity {
+
+  private String name;
+
+  public String getName() {
+    return this.name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * super.hashCode() + Objects.hashCode(this.name);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return super.equals(obj) && Objects.equals(this.name, ((CustomerEntity) obj).name);
+  }
+
+  @Override
+  public String toString() {
+    return "CustomerEntity [id=" + getId() + ", name=" + this.name + "]";
+  }
+}
@@ -0,0 +1,47 @@
+package net.lonzak.common.unittest.examples.dtos;
+
+import java.util.Objects;
+
+/**
+ * Immutable DTO whose equals() compares the key and the detail but whose hashCode() only uses the key.
+ */
+public final class DetailDTO {
+
+  private final String key;
+  private final String detail;
+
+  public DetailDTO(String key, String detail) {
+    this.key = key;
+    this.detail = detail;
+  }
+
+  public String getKey() {
+    return this.key;
+  }
+
+  public String getDetail() {
+    return this.detail;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(this.key);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    DetailDTO other = (DetailDTO) obj;
+    return Objects.equals(this.key, other.key) && Objects.equals(this.detail, other.detail);
+  }
+
+  @Override
+  public String toString() {
+    return "DetailDTO [key=" + this.key + ", detail=" + this.detail + "]";
+  }
+}
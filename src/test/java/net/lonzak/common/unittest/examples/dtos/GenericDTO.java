@@ -0,0 +1,79 @@
+package net.lonzak.common.unittest.examples.dtos;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * DTO with nested generics, wildcards and type variables.
+ */
+public class GenericDTO<T extends Number> {
+
+  private List<List<String>> nestedList;
+  private Map<String, Set<Long>> nestedMap;
+  private List<? extends Number> wildcardList;
+  private Set<T> typeVariableSet;
+
+  public GenericDTO(List<List<String>> nestedList, Map<String, Set<Long>> nestedMap) {
+    this.nestedList = nestedList;
+    this.nestedMap = nestedMap;
+  }
+
+  public List<List<String>> getNestedList() {
+    return this.nestedList;
+  }
+
+  public void setNestedList(List<List<String>> nestedList) {
+    this.nestedList = nestedList;
+  }
+
+  public Map<String, Set<Long>> getNestedMap() {
+    return this.nestedMap;
+  }
+
+  public void setNestedMap(Map<String, Set<Long>> nestedMap) {
+    this.nestedMap = nestedMap;
+  }
+
+  public List<? extends Number> getWildcardList() {
+    return this.wildcardList;
+  }
+
+  public void setWildcardList(List<? extends Number> wildcardList) {
+    this.wildcardList = wildcardList;
+  }
+
+  public Set<T> getTypeVariableSet() {
+    return this.typeVariableSet;
+  }
+
+  public void setTypeVariableSet(Set<T> typeVariableSet) {
+    this.typeVariableSet = typeVariableSet;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(this.nestedList, this.nestedMap, this.typeVariableSet, this.wildcardList);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    GenericDTO<?> other = (GenericDTO<?>) obj;
+    return Objects.equals(this.nestedList, other.nestedList) && Objects.equals(this.nestedMap, other.nestedMap)
+        && Objects.equals(this.typeVariableSet, other.typeVariableSet)
+        && Objects.equals(this.wildcardList, other.wildcardList);
+  }
+
+  @Override
+  public String toString() {
+    return "GenericDTO [nestedList=" + this.nestedList + ", nestedMap=" + this.nestedMap + ", wildcardList="
+        + this.wildcardList + ", typeVariableSet=" + this.typeVariableSet + "]";
+  }
+}
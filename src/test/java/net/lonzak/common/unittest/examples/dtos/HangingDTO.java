@@ -0,0 +1,31 @@
+package net.lonzak.common.unittest.examples.dtos;
+
+/**
+ * DTO with a constructor which never returns (unless the thread is interrupted).
+ */
+public class HangingDTO {
+
+  private String name;
+
+  public HangingDTO() {}
+
+  public HangingDTO(String name, int retries) {
+    while (!Thread.currentThread().isInterrupted()) {
+      Thread.onSpinWait();
+    }
+    throw new IllegalStateException("Interrupted after " + retries + " retries");
+  }
+
+  public String getName() {
+    return this.name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  @Override
+  public String toString() {
+    return "HangingDTO [name=" + this.name + "]";
+  }
+}
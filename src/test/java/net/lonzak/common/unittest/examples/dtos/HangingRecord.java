@@ -0,0 +1,14 @@
+package net.lonzak.common.unittest.examples.dtos;
+
+/**
+ * Record with a canonical constructor which never returns (unless the thread is interrupted).
+ */
+public record HangingRecord(String name, int retries) {
+
+  public HangingRecord {
+    while (!Thread.currentThread().isInterrupted()) {
+      Thread.onSpinWait();
+    }
+    throw new IllegalStateException("Interrupted after " + retries + " retries");
+  }
+}
@@ -0,0 +1,47 @@
+package net.lonzak.common.unittest.examples.dtos;
+
+import java.util.Objects;
+
+/**
+ * Immutable DTO without setters.
+ */
+public final class ImmutableTagDTO {
+
+  private final String name;
+  private final String color;
+
+  public ImmutableTagDTO(String name, String color) {
+    this.name = name;
+    this.color = color;
+  }
+
+  public String getName() {
+    return this.name;
+  }
+
+  public String getColor() {
+    return this.color;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(this.name, this.color);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    ImmutableTagDTO other = (ImmutableTagDTO) obj;
+    return Objects.equals(this.name, other.name) && Objects.equals(this.color, other.color);
+  }
+
+  @Override
+  public String toString() {
+    return "ImmutableTagDTO [name=" + this.name + ", color=" + this.color + "]";
+  }
+}
@@ -0,0 +1,49 @@
+package net.lonzak.common.unittest.examples.dtos;
+
+import java.util.Objects;
+
+/**
+ * DTO whose hashCode() uses a field which equals() does not compare.
+ */
+public class InconsistentHashDTO {
+
+  private String id;
+  private int version;
+
+  public String getId() {
+    return this.id;
+  }
+
+  public void setId(String id) {
+    this.id = id;
+  }
+
+  public int getVersion() {
+    return this.version;
+  }
+
+  public void setVersion(int version) {
+    this.version = version;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(this.id, Integer.valueOf(this.version));
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    return Objects.equals(this.id, ((InconsistentHashDTO) obj).id);
+  }
+
+  @Override
+  public String toString() {
+    return "InconsistentHashDTO [id=" + this.id + ", version=" + this.version + "]";
+  }
+}
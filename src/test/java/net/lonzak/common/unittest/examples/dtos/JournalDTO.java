@@ -0,0 +1,22 @@
+package net.lonzak.common.unittest.examples.dtos;
+
+/**
+ * DTO whose setter appends to the current value (calling it twice is not the same as calling it once).
+ */
+public class JournalDTO {
+
+  private String entries;
+
+  public String getEntries() {
+    return this.entries;
+  }
+
+  public void setEntries(String entries) {
+    this.entries = this.entries == null ? entries : this.entries + entries;
+  }
+
+  @Override
+  public String toString() {
+    return "JournalDTO [entries=" + this.entries + "]";
+  }
+}
@@ -0,0 +1,49 @@
+package net.lonzak.common.unittest.examples.dtos;
+
+import java.util.Objects;
+
+/**
+ * DTO with a key (used by equals/hashCode) and a label which is not part of the identity.
+ */
+public class LabelDTO {
+
+  private String key;
+  private String label;
+
+  public String getKey() {
+    return this.key;
+  }
+
+  public void setKey(String key) {
+    this.key = key;
+  }
+
+  public String getLabel() {
+    return this.label;
+  }
+
+  public void setLabel(String label) {
+    this.label = label;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(getKey());
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    return Objects.equals(this.key, ((LabelDTO) obj).key);
+  }
+
+  @Override
+  public String toString() {
+    return "LabelDTO [key=" + this.key + ", label=" + this.label + "]";
+  }
+}
@@ -0,0 +1,35 @@
+package net.lonzak.common.unittest.examples.dtos;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO whose toString() prints the complete body but only the number of attachments.
+ */
+public class MessageDTO {
+
+  private String body;
+  private List<String> attachments = new ArrayList<>();
+
+  public String getBody() {
+    return this.body;
+  }
+
+  public void setBody(String body) {
+    this.body = body;
+  }
+
+  public List<String> getAttachments() {
+    return this.attachments;
+  }
+
+  public void setAttachments(List<String> attachments) {
+    this.attachments = attachments;
+  }
+
+  @Override
+  public String toString() {
+    return "MessageDTO [body=" + this.body + ", attachments=" + (this.attachments == null ? 0 : this.attachments.size())
+        + "]";
+  }
+}
@@ -0,0 +1,42 @@
+package net.lonzak.common.unittest.examples.dtos;
+
+import java.util.Objects;
+import java.util.Observable;
+
+/**
+ * DTO which inherits private fields of the JDK (java.util is not opened thus the fields can not be written).
+ */
+@SuppressWarnings("deprecation")
+public final class ObservedDTO extends Observable {
+
+  private final String name;
+
+  public ObservedDTO(String name) {
+    this.name = name;
+  }
+
+  public String getName() {
+    return this.name;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(this.name);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    return Objects.equals(this.name, ((ObservedDTO) obj).name);
+  }
+
+  @Override
+  public String toString() {
+    return "ObservedDTO [name=" + this.name + "]";
+  }
+}
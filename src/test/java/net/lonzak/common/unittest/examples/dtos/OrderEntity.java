@@ -0,0 +1,22 @@
+package net.lonzak.common.unittest.examples.dtos;
+
+/**
+ * Entity which inherits equals/hashCode of its super class.
+ */
+public class OrderEntity extends BaseEntity {
+
+  private String reference;
+
+  public String getReference() {
+    return this.reference;
+  }
+
+  public void setReference(String reference) {
+    this.reference = reference;
+  }
+
+  @Override
+  public String toString() {
+    return "OrderEntity [id=" + getId() + ", reference=" + this.reference + "]";
+  }
+}
@@ -0,0 +1,9 @@
+package net.lonzak.common.unittest.examples.dtos;
+
+import java.util.List;
+
+/**
+ * Record with primitive, String, enum and generic components.
+ */
+public record PointRecord(int x, long y, String label, TypeEnum type, List<String> tags, Coordinates coordinates) {
+}
@@ -0,0 +1,50 @@
+package net.lonzak.common.unittest.examples.dtos;
+
+import java.util.Objects;
+
+/**
+ * DTO whose hashCode is consistent with equals but never sets the lower bits.
+ */
+public class PoorHashDTO {
+
+  private int number;
+  private String name;
+
+  public int getNumber() {
+    return this.number;
+  }
+
+  public void setNumber(int number) {
+    this.number = number;
+  }
+
+  public String getName() {
+    return this.name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(Integer.valueOf(this.number), this.name) << 12;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    PoorHashDTO other = (PoorHashDTO) obj;
+    return this.number == other.number && Objects.equals(this.name, other.name);
+  }
+
+  @Override
+  public String toString() {
+    return "PoorHashDTO [number=" + this.number + ", name=" + this.name + "]";
+  }
+}
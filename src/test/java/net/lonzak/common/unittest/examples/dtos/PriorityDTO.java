@@ -0,0 +1,55 @@
+package net.lonzak.common.unittest.examples.dtos;
+
+import java.util.Objects;
+
+/**
+ * Comparable DTO whose compareTo only uses the priority while equals also uses the name.
+ */
+public class PriorityDTO implements Comparable<PriorityDTO> {
+
+  private boolean urgent;
+  private String name;
+
+  public boolean isUrgent() {
+    return this.urgent;
+  }
+
+  public void setUrgent(boolean urgent) {
+    this.urgent = urgent;
+  }
+
+  public String getName() {
+    return this.name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  @Override
+  public int compareTo(PriorityDTO other) {
+    return Boolean.compare(this.urgent, other.urgent);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(Boolean.valueOf(this.urgent), this.name);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    PriorityDTO other = (PriorityDTO) obj;
+    return this.urgent == other.urgent && Objects.equals(this.name, other.name);
+  }
+
+  @Override
+  public String toString() {
+    return "PriorityDTO [urgent=" + this.urgent + ", name=" + this.name + "]";
+  }
+}
@@ -0,0 +1,22 @@
+package net.lonzak.common.unittest.examples.dtos;
+
+/**
+ * Entity which inherits equals/hashCode of its super class.
+ */
+public class ProductEntity extends BaseEntity {
+
+  private String sku;
+
+  public String getSku() {
+    return this.sku;
+  }
+
+  public void setSku(String sku) {
+    this.sku = sku;
+  }
+
+  @Override
+  public String toString() {
+    return "ProductEntity [id=" + getId() + ", sku=" + this.sku + "]";
+  }
+}
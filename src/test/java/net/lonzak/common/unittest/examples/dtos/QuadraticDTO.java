@@ -0,0 +1,59 @@
+package net.lonzak.common.unittest.examples.dtos;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO whose equals ignores the order of the items by calling contains() for each item (O(n^2)).
+ */
+public class QuadraticDTO {
+
+  private List<String> items = new ArrayList<>();
+
+  public List<String> getItems() {
+    return this.items;
+  }
+
+  public void setItems(List<String> items) {
+    this.items = items;
+  }
+
+  @Override
+  public int hashCode() {
+    int result = 0;
+    if (this.items != null) {
+      for (String item : this.items) {
+        result += item == null ? 0 : item.hashCode();
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    QuadraticDTO other = (QuadraticDTO) obj;
+    if (this.items == null || other.items == null) {
+      return this.items == other.items;
+    }
+    if (this.items.size() != other.items.size()) {
+      return false;
+    }
+    for (String item : this.items) {
+      if (!other.items.contains(item)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public String toString() {
+    return "QuadraticDTO [items=" + this.items + "]";
+  }
+}
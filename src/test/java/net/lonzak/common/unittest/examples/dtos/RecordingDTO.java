@@ -0,0 +1,39 @@
+package net.lonzak.common.unittest.examples.dtos;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * DTO which records every value passed to its setters (to verify that the generated values only depend on the seed).
+ */
+public class RecordingDTO {
+
+  public static final List<Object> VALUES = new ArrayList<>();
+
+  private String name;
+  private Date created;
+
+  public String getName() {
+    return this.name;
+  }
+
+  public void setName(String name) {
+    VALUES.add(name);
+    this.name = name;
+  }
+
+  public Date getCreated() {
+    return this.created;
+  }
+
+  public void setCreated(Date created) {
+    VALUES.add(created);
+    this.created = created;
+  }
+
+  @Override
+  public String toString() {
+    return "RecordingDTO [name=" + this.name + ", created=" + this.created + "]";
+  }
+}
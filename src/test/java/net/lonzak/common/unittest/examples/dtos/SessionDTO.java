@@ -0,0 +1,65 @@
+package net.lonzak.common.unittest.examples.dtos;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Serializable DTO which is replicated between sessions.
+ */
+public class SessionDTO implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private String user;
+  private long lastAccess;
+  private ArrayList<String> roles = new ArrayList<>();
+
+  public String getUser() {
+    return this.user;
+  }
+
+  public void setUser(String user) {
+    this.user = user;
+  }
+
+  public long getLastAccess() {
+    return this.lastAccess;
+  }
+
+  public void setLastAccess(long lastAccess) {
+    this.lastAccess = lastAccess;
+  }
+
+  public List<String> getRoles() {
+    return this.roles;
+  }
+
+  public void setRoles(ArrayList<String> roles) {
+    this.roles = roles;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(this.user, Long.valueOf(this.lastAccess), this.roles);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    SessionDTO other = (SessionDTO) obj;
+    return Objects.equals(this.user, other.user) && this.lastAccess == other.lastAccess
+        && Objects.equals(this.roles, other.roles);
+  }
+
+  @Override
+  public String toString() {
+    return "SessionDTO [user=" + this.user + ", lastAccess=" + this.lastAccess + ", roles=" + this.roles + "]";
+  }
+}
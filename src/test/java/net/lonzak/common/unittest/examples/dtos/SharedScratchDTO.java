@@ -0,0 +1,47 @@
+package net.lonzak.common.unittest.examples.dtos;
+
+import java.util.Objects;
+
+/**
+ * DTO whose hashCode uses an instance field as scratch variable - not thread safe.
+ */
+public class SharedScratchDTO {
+
+  private String name;
+  private volatile int scratch;
+
+  public String getName() {
+    return this.name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  @Override
+  public int hashCode() {
+    this.scratch = 1;
+    if (this.name != null) {
+      for (int i = 0; i < this.name.length(); i++) {
+        this.scratch = 31 * this.scratch + this.name.charAt(i);
+      }
+    }
+    return this.scratch;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    return Objects.equals(this.name, ((SharedScratchDTO) obj).name);
+  }
+
+  @Override
+  public String toString() {
+    return "SharedScratchDTO [name=" + this.name + "]";
+  }
+}
@@ -0,0 +1,47 @@
+package net.lonzak.common.unittest.examples.dtos;
+
+import java.util.Objects;
+
+/**
+ * DTO with an expensive hashCode (string formatting on every call).
+ */
+public class SlowHashDTO {
+
+  private final String name;
+  private final double value;
+
+  public SlowHashDTO(String name, double value) {
+    this.name = name;
+    this.value = value;
+  }
+
+  public String getName() {
+    return this.name;
+  }
+
+  public double getValue() {
+    return this.value;
+  }
+
+  @Override
+  public int hashCode() {
+    return String.format("%s-%.10f-%s", this.name, Double.valueOf(this.value), this.name).hashCode();
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    SlowHashDTO other = (SlowHashDTO) obj;
+    return Objects.equals(this.name, other.name) && Double.compare(this.value, other.value) == 0;
+  }
+
+  @Override
+  public String toString() {
+    return "SlowHashDTO [name=" + this.name + ", value=" + this.value + "]";
+  }
+}
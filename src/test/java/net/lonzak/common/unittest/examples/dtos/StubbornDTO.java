@@ -0,0 +1,52 @@
+package net.lonzak.common.unittest.examples.dtos;
+
+import java.util.Objects;
+
+/**
+ * DTO whose equals() ignores interrupts and hangs until it is released.
+ */
+public final class StubbornDTO {
+
+  private static volatile boolean released;
+
+  private String name;
+
+  public String getName() {
+    return this.name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  /**
+   * Lets all hanging (and further) calls of equals() return.
+   */
+  public static void release() {
+    released = true;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(this.name);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    while (!released) {
+      Thread.onSpinWait();
+    }
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    return Objects.equals(this.name, ((StubbornDTO) obj).name);
+  }
+
+  @Override
+  public String toString() {
+    return "StubbornDTO [name=" + this.name + "]";
+  }
+}
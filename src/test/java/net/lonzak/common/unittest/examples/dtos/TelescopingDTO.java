@@ -0,0 +1,110 @@
+package net.lonzak.common.unittest.examples.dtos;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO with telescoping constructors.
+ */
+public class TelescopingDTO {
+
+  private String name;
+  private int count;
+  private long id;
+  private List<String> tags = new ArrayList<>();
+
+  public TelescopingDTO() {}
+
+  public TelescopingDTO(String name) {
+    this.name = name;
+  }
+
+  public TelescopingDTO(String name, int count) {
+    this(name);
+    this.count = count;
+  }
+
+  public TelescopingDTO(String name, int count, long id) {
+    this(name, count);
+    this.id = id;
+  }
+
+  public TelescopingDTO(String name, int count, long id, List<String> tags) {
+    this(name, count, id);
+    this.tags = tags;
+  }
+
+  public String getName() {
+    return this.name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public int getCount() {
+    return this.count;
+  }
+
+  public void setCount(int count) {
+    this.count = count;
+  }
+
+  public long getId() {
+    return this.id;
+  }
+
+  public void setId(long id) {
+    this.id = id;
+  }
+
+  public List<String> getTags() {
+    return this.tags;
+  }
+
+  public void setTags(List<String> tags) {
+    this.tags = tags;
+  }
+
+  @Override
+  public int hashCode() {
+    final int prime = 31;
+    int result = 1;
+    result = prime * result + this.count;
+    result = prime * result + (int) (this.id ^ (this.id >>> 32));
+    result = prime * result + ((this.name == null) ? 0 : this.name.hashCode());
+    result = prime * result + ((this.tags == null) ? 0 : this.tags.hashCode());
+    return result;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    TelescopingDTO other = (TelescopingDTO) obj;
+    if (this.count != other.count || this.id != other.id) {
+      return false;
+    }
+    if (this.name == null) {
+      if (other.name != null) {
+        return false;
+      }
+    } else if (!this.name.equals(other.name)) {
+      return false;
+    }
+    if (this.tags == null) {
+      return other.tags == null;
+    }
+    return this.tags.equals(other.tags);
+  }
+
+  @Override
+  public String toString() {
+    return "TelescopingDTO [name=" + this.name + ", count=" + this.count + ", id=" + this.id + ", tags=" + this.tags
+        + "]";
+  }
+}
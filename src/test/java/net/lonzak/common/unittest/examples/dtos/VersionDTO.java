@@ -0,0 +1,74 @@
+package net.lonzak.common.unittest.examples.dtos;
+
+import java.util.Objects;
+
+/**
+ * Comparable DTO ordered by major and minor version and the name.
+ */
+public class VersionDTO implements Comparable<VersionDTO> {
+
+  private int major;
+  private int minor;
+  private String name;
+
+  public int getMajor() {
+    return this.major;
+  }
+
+  public void setMajor(int major) {
+    this.major = major;
+  }
+
+  public int getMinor() {
+    return this.minor;
+  }
+
+  public void setMinor(int minor) {
+    this.minor = minor;
+  }
+
+  public String getName() {
+    return this.name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  @Override
+  public int compareTo(VersionDTO other) {
+    int result = Integer.compare(this.major, other.major);
+    if (result == 0) {
+      result = Integer.compare(this.minor, other.minor);
+    }
+    if (result == 0 && this.name != other.name) {
+      if (this.name == null) {
+        return -1;
+      }
+      result = other.name == null ? 1 : this.name.compareTo(other.name);
+    }
+    return result;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(Integer.valueOf(this.major), Integer.valueOf(this.minor), this.name);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    VersionDTO other = (VersionDTO) obj;
+    return this.major == other.major && this.minor == other.minor && Objects.equals(this.name, other.name);
+  }
+
+  @Override
+  public String toString() {
+    return "VersionDTO [major=" + this.major + ", minor=" + this.minor + ", name=" + this.name + "]";
+  }
+}